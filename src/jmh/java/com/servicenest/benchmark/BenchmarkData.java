@@ -0,0 +1,45 @@
+package com.servicenest.benchmark;
+
+import com.servicenest.model.Booking;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic bookings shaped like real ones, shared by the benchmarks.
+ */
+public final class BenchmarkData {
+
+    private static final String[] SERVICES = { "Plumbing", "Electrical", "AC Repair", "Cleaning", "Painting", "Carpentry" };
+
+    private BenchmarkData() {}
+
+    /**
+     * {@code count} bookings for one customer, newest first, spread one per day back from now.
+     */
+    public static List<Booking> bookings(int count, String customerEmail) {
+        List<Booking> bookings = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            Booking booking = newBooking(customerEmail, i);
+            booking.setId((long) i + 1);
+            booking.setCreatedAt(now.minusDays(i));
+            booking.setUpdatedAt(now.minusDays(i));
+            bookings.add(booking);
+        }
+        return bookings;
+    }
+
+    /**
+     * An unsaved booking, varied by {@code seed}.
+     */
+    public static Booking newBooking(String customerEmail, int seed) {
+        LocalDateTime start = LocalDateTime.of(2026, 11, seed % 28 + 1, 9 + seed % 9, 0);
+        Booking booking = new Booking(SERVICES[seed % SERVICES.length], "Customer " + seed, customerEmail,
+                "98765" + String.format("%05d", seed % 100000), start, start.plusHours(2), seed + " Anna Salai, Chennai 600002");
+        booking.setStatus(seed % 3 == 0 ? "completed" : "pending");
+        booking.setPrice(499.0 + (seed % 20) * 100);
+        return booking;
+    }
+}
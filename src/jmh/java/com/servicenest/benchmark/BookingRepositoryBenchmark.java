@@ -0,0 +1,125 @@
+package com.servicenest.benchmark;
+
+import com.servicenest.ServiceNestApplication;
+import com.servicenest.dto.BookingSummary;
+import com.servicenest.model.Booking;
+import com.servicenest.repository.BookingRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository round-trips through the real JPA mappings against an embedded in-memory H2,
+ * with the schema created by the Flyway migrations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingRepositoryBenchmark {
+
+    private static final String CUSTOMER = "bench@servicenest.com";
+    private static final int SEEDED_BOOKINGS = 2000;
+    private static final int PAGE_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private BookingRepository bookingRepository;
+    private EntityManagerFactory entityManagerFactory;
+    private BookingSummary middle;
+    private long minId;
+    private long maxId;
+    private int inserted;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ServiceNestApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "logging.level.com.servicenest=WARN",
+                        "logging.level.org.springframework.web=WARN",
+                        "logging.level.org.hibernate.SQL=WARN")
+                .run();
+        bookingRepository = context.getBean(BookingRepository.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+
+        List<Booking> seeded = new ArrayList<>();
+        for (int i = 0; i < SEEDED_BOOKINGS; i++) {
+            seeded.add(BenchmarkData.newBooking(CUSTOMER, i));
+        }
+        seeded = bookingRepository.saveAll(seeded);
+        minId = seeded.get(0).getId();
+        maxId = seeded.get(seeded.size() - 1).getId();
+        middle = bookingRepository.findCustomerPage(CUSTOMER, PageRequest.of(0, SEEDED_BOOKINGS / 2))
+                .get(SEEDED_BOOKINGS / 2 - 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Booking insert() {
+        return bookingRepository.save(BenchmarkData.newBooking("insert@servicenest.com", inserted++));
+    }
+
+    @Benchmark
+    public Booking findById() {
+        return bookingRepository.findById(ThreadLocalRandom.current().nextLong(minId, maxId + 1)).orElseThrow();
+    }
+
+    @Benchmark
+    public List<BookingSummary> customerFirstPage() {
+        return bookingRepository.findCustomerPage(CUSTOMER, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<BookingSummary> customerPageAfterCursor() {
+        return bookingRepository.findCustomerPageAfter(CUSTOMER, middle.createdAt(), middle.id(),
+                PageRequest.of(0, PAGE_SIZE));
+    }
+
+    // A list page as a request sees it with open-in-view: loaded into a session of its own and turned into
+    // summaries, as managed entities (the old list queries) or as a projection
+    @Benchmark
+    public List<BookingSummary> customerPageEntitiesInSession() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("SELECT b FROM Booking b WHERE b.customerEmail = :email " +
+                            "ORDER BY b.createdAt DESC, b.id DESC", Booking.class)
+                    .setParameter("email", CUSTOMER)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList().stream().map(BookingSummary::from).toList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<BookingSummary> customerPageProjectionInSession() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(BookingRepository.SELECT_SUMMARY + "FROM Booking b " +
+                            "WHERE b.customerEmail = :email ORDER BY b.createdAt DESC, b.id DESC", BookingSummary.class)
+                    .setParameter("email", CUSTOMER)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.servicenest.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.servicenest.dto.BookingPage;
+import com.servicenest.dto.BookingSummary;
+import com.servicenest.dto.BookingView;
+import com.servicenest.model.Booking;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and writing one booking-list response body: the HashMap of entities the endpoints used to
+ * return against the typed page records. Run with -prof gc and compare gc.alloc.rate.norm (bytes per
+ * response); the payload sizes are printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingResponseBenchmark {
+
+    // Default and maximum page sizes of the keyset-paginated booking lists
+    @Param({ "50", "200" })
+    int size;
+
+    // Same defaults Spring Boot applies to the application's ObjectMapper
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<Booking> bookings;
+
+    @Setup
+    public void setUp() throws Exception {
+        bookings = BenchmarkData.bookings(size, "bench@servicenest.com");
+        System.out.printf("%nPayload bytes: map of entities %d, views %d, summaries %d%n",
+                mapOfEntities().length, views().length, summaries().length);
+    }
+
+    @Benchmark
+    public byte[] mapOfEntities() throws Exception {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "SUCCESS");
+        response.put("message", "Bookings retrieved successfully");
+        response.put("bookings", bookings);
+        response.put("count", bookings.size());
+        response.put("hasMore", false);
+        response.put("nextCursor", null);
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] views() throws Exception {
+        return objectMapper.writeValueAsBytes(BookingPage.of("Bookings retrieved successfully",
+                bookings.stream().map(BookingView::from).toList(), false, null));
+    }
+
+    @Benchmark
+    public byte[] summaries() throws Exception {
+        return objectMapper.writeValueAsBytes(BookingPage.of("Bookings retrieved successfully",
+                bookings.stream().map(BookingSummary::from).toList(), false, null));
+    }
+}
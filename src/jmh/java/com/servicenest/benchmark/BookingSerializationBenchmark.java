@@ -0,0 +1,40 @@
+package com.servicenest.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.servicenest.model.Booking;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a page of bookings, as the booking list endpoints write it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingSerializationBenchmark {
+
+    // Default and maximum page sizes of the keyset-paginated booking lists
+    @Param({ "50", "200" })
+    int size;
+
+    // Same defaults Spring Boot applies to the application's ObjectMapper
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<Booking> bookings;
+
+    @Setup
+    public void setUp() {
+        bookings = BenchmarkData.bookings(size, "bench@servicenest.com");
+    }
+
+    @Benchmark
+    public byte[] serializeBookings() throws Exception {
+        return objectMapper.writeValueAsBytes(bookings);
+    }
+}
@@ -0,0 +1,106 @@
+package com.servicenest.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.servicenest.service.ChatIntents;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replying to /api/ai/chat messages: the compiled ChatIntents automaton against the chain of
+ * {@code contains} checks it replaced (first intent with a keyword in the lowercased message wins), on
+ * one message per intent in chat-intents.json plus one matching none. Long messages bury the keyword at
+ * the end of about 2 KB of text. {@code extraIntents} appends that many more intents of four keywords
+ * each, as if added to the config: the chain scans the message once per keyword it tries, the automaton
+ * once in all.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChatIntentsBenchmark {
+
+    private static final String[] MESSAGES = {
+        "There is a water leak under my kitchen sink",
+        "The power keeps tripping the fuse",
+        "Need my apartment cleaned before guests arrive",
+        "How much would a full repaint cost?",
+        "Emergency! Pipe burst, need help asap",
+        "Thanks for the quick help",
+        "Hello there",
+        "Can someone assemble my wardrobe?"
+    };
+
+    // No keyword in it, not even inside a word
+    private static final String PADDING = "We moved into the top floor flat last month and the landlord said "
+            + "most of it was checked before we arrived, but a few problems remain to be sorted out. ";
+
+    @Param({ "short", "long" })
+    String length;
+
+    @Param({ "0", "100" })
+    int extraIntents;
+
+    private ChatIntents intents;
+    private List<ChatIntents.Intent> intentList;
+    private String fallback;
+    private String[] messages;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonNode config;
+        try (InputStream in = ChatIntentsBenchmark.class.getResourceAsStream("/chat-intents.json")) {
+            config = new ObjectMapper().readTree(in);
+        }
+        intentList = new ArrayList<>();
+        for (JsonNode intent : config.get("intents")) {
+            List<String> keywords = new ArrayList<>();
+            intent.get("keywords").forEach(keyword -> keywords.add(keyword.asText()));
+            intentList.add(new ChatIntents.Intent(intent.get("name").asText(), keywords, intent.get("response").asText()));
+        }
+        for (int i = 0; i < extraIntents; i++) {
+            intentList.add(new ChatIntents.Intent("extra" + i,
+                    List.of("gutter" + i, "chimney" + i, "roofing" + i, "termite" + i), "Extra reply " + i));
+        }
+        fallback = config.get("fallback").asText();
+        intents = ChatIntents.compile(intentList, fallback);
+
+        messages = new String[MESSAGES.length];
+        for (int i = 0; i < MESSAGES.length; i++) {
+            messages[i] = "long".equals(length) ? PADDING.repeat(14) + MESSAGES[i] : MESSAGES[i];
+        }
+    }
+
+    @Benchmark
+    public String indexed() {
+        return intents.reply(message());
+    }
+
+    @Benchmark
+    public String containsChain() {
+        String message = message();
+        String lower = message.toLowerCase();
+        for (ChatIntents.Intent intent : intentList) {
+            for (String keyword : intent.keywords()) {
+                if (lower.contains(keyword)) {
+                    return intent.response();
+                }
+            }
+        }
+        return fallback.replace(ChatIntents.MESSAGE_PLACEHOLDER, message);
+    }
+
+    private String message() {
+        String message = messages[next];
+        next = (next + 1) % messages.length;
+        return message;
+    }
+}
@@ -0,0 +1,122 @@
+package com.servicenest.benchmark;
+
+import com.servicenest.model.WorkerProfile;
+import com.servicenest.service.WorkerMatcher;
+import com.servicenest.service.WorkerSchedule;
+import com.servicenest.service.WorkerSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Picking the workers to offer one booking to among 100k workers: WorkerMatcher walking the ranked
+ * skill / area postings against checking and scoring every worker. Workers have one or two of six
+ * skills and areas like the synthetic data set, random ratings, and a few accepted jobs each.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatcherBenchmark {
+
+    private static final int WORKERS = 100_000;
+    private static final int OFFERS = 3;
+    private static final String[] SERVICES = { "Plumbing", "Electrical", "AC Repair", "Cleaning", "Painting", "Carpentry" };
+    private static final String[] AREAS = { "mumbai", "thane", "navi-mumbai", "pune", "chennai", "bangalore", "delhi", "hyderabad" };
+
+    private final WorkerSearchIndex searchIndex = new WorkerSearchIndex();
+    private final WorkerSchedule schedule = new WorkerSchedule();
+    private final WorkerMatcher matcher = new WorkerMatcher(searchIndex, schedule, 50);
+    private final List<Worker> workers = new ArrayList<>(WORKERS);
+
+    private LocalDateTime slotStart;
+    private LocalDateTime slotEnd;
+    private int booking;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime monday = LocalDateTime.of(2026, 11, 2, 9, 0);
+        slotStart = monday.withHour(11);
+        slotEnd = slotStart.plusHours(2);
+
+        long jobId = 0;
+        for (int w = 0; w < WORKERS; w++) {
+            String skills = SERVICES[w % SERVICES.length] + "," + SERVICES[random.nextInt(SERVICES.length)];
+            String areas = AREAS[random.nextInt(AREAS.length)] + "," + AREAS[random.nextInt(AREAS.length)];
+            WorkerProfile profile = new WorkerProfile();
+            profile.setId((long) w + 1);
+            profile.setEmail("worker" + w + "@servicenest.com");
+            profile.setSkills(skills);
+            profile.setServiceAreas(areas);
+            profile.setHourlyRate(200.0 + random.nextInt(30) * 25);
+            searchIndex.index(profile);
+            double rating = 1 + random.nextInt(41) / 10.0;
+            searchIndex.updateRating(profile.getEmail(), rating);
+
+            // Up to three accepted jobs over the week, some of them on the probed slot
+            int jobs = random.nextInt(4);
+            for (int j = 0; j < jobs; j++) {
+                LocalDateTime start = monday.plusDays(random.nextInt(5)).withHour(9 + 2 * random.nextInt(4));
+                schedule.reserve(profile.getEmail(), jobId++, start, start.plusHours(2));
+            }
+            workers.add(new Worker(profile.getEmail(), tokens(skills),
+                    tokens(areas), profile.getHourlyRate(), rating));
+        }
+    }
+
+    @Benchmark
+    public List<WorkerMatcher.Candidate> matchFromPostings() {
+        int seed = booking++;
+        return matcher.match(SERVICES[seed % SERVICES.length], AREAS[seed % AREAS.length],
+                slotStart, slotEnd, worker -> 0, OFFERS);
+    }
+
+    @Benchmark
+    public List<WorkerMatcher.Candidate> matchByScanningAll() {
+        int seed = booking++;
+        String skill = SERVICES[seed % SERVICES.length].toLowerCase();
+        String area = AREAS[seed % AREAS.length];
+
+        List<Worker> eligible = new ArrayList<>();
+        double minRate = Double.MAX_VALUE;
+        double maxRate = 0;
+        for (Worker worker : workers) {
+            if (worker.skills.contains(skill) && worker.areas.contains(area)
+                    && schedule.isFree(worker.email, slotStart, slotEnd)) {
+                eligible.add(worker);
+                minRate = Math.min(minRate, worker.rate);
+                maxRate = Math.max(maxRate, worker.rate);
+            }
+        }
+        double rateSpread = maxRate - minRate;
+        List<WorkerMatcher.Candidate> candidates = new ArrayList<>(eligible.size());
+        for (Worker worker : eligible) {
+            double rate = rateSpread > 0 ? (maxRate - worker.rate) / rateSpread : 1.0;
+            double score = 0.5 * worker.rating / 5.0 + 0.3 / (1 + schedule.activeJobs(worker.email)) + 0.2 * rate;
+            candidates.add(new WorkerMatcher.Candidate(worker.email, score));
+        }
+        candidates.sort(Comparator.comparingDouble(WorkerMatcher.Candidate::score).reversed());
+        return candidates.subList(0, Math.min(OFFERS, candidates.size()));
+    }
+
+    private static Set<String> tokens(String commaSeparated) {
+        Set<String> tokens = new HashSet<>();
+        for (String part : commaSeparated.split(",")) {
+            tokens.add(part.trim().toLowerCase());
+        }
+        return tokens;
+    }
+
+    private record Worker(String email, Set<String> skills, Set<String> areas, double rate, double rating) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.servicenest.benchmark;
+
+import com.servicenest.config.AppConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password checks per second on one thread at each BCrypt cost, i.e. the login throughput one core
+ * of the hashing pool can sustain. Multiply by servicenest.password.hashing-threads for a node.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    @Param({ "8", "10", "12" })
+    int cost;
+
+    private static final String PASSWORD = "password123";
+
+    private AppConfig.PasswordEncoder encoder;
+    private String stored;
+
+    @Setup
+    public void setUp() {
+        encoder = new AppConfig.BCryptPasswordEncoder(cost);
+        stored = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean login() {
+        return encoder.matches(PASSWORD, stored);
+    }
+}
@@ -0,0 +1,45 @@
+package com.servicenest.benchmark;
+
+import com.servicenest.service.TrendingServices;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TrendingServices on the booking path (counting one new booking) and on a recommendations rebuild
+ * (an area's top services), with 100k bookings already counted across eight areas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrendingBenchmark {
+
+    private static final String[] SERVICES = { "Plumbing", "Electrical", "AC Repair", "Cleaning", "Painting", "Carpentry" };
+    private static final String[] AREAS = { "Mumbai", "Thane", "Navi-Mumbai", "Pune", "Chennai", "Bangalore", "Delhi", "Hyderabad" };
+
+    private final TrendingServices trending = new TrendingServices(Duration.ofHours(1));
+    private int booking;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < 100_000; i++) {
+            trending.bookingCreated(SERVICES[i % SERVICES.length], AREAS[i % AREAS.length], 500.0 + i % 7 * 100);
+        }
+    }
+
+    @Benchmark
+    public void bookingCreated() {
+        int seed = booking++;
+        trending.bookingCreated(SERVICES[seed % SERVICES.length], AREAS[seed % AREAS.length], 800.0);
+    }
+
+    @Benchmark
+    public List<TrendingServices.Trend> topInArea() {
+        return trending.top(AREAS[booking++ % AREAS.length], 4);
+    }
+}
@@ -0,0 +1,89 @@
+package com.servicenest.benchmark;
+
+import com.servicenest.service.WorkerSchedule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Which of these workers is free for this slot": the interval trees in WorkerSchedule against scanning
+ * each worker's booked slots in a list. Each worker holds {@code slots} two-hour jobs back to back, with
+ * the probed slot in the middle of the range.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkerScheduleBenchmark {
+
+    private static final int WORKERS = 2000;
+
+    @Param({ "10", "200" })
+    int slots;
+
+    private final WorkerSchedule schedule = new WorkerSchedule();
+    private final List<String> workers = new ArrayList<>(WORKERS);
+    private final List<List<LocalDateTime[]>> slotLists = new ArrayList<>(WORKERS);
+    private LocalDateTime probeStart;
+    private LocalDateTime probeEnd;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime first = LocalDateTime.of(2026, 11, 2, 9, 0);
+        // A weekday slot inside the default working hours, in the middle of the booked range
+        probeStart = first.plusHours(2L * (slots / 2)).withHour(10);
+        probeEnd = probeStart.plusHours(2);
+
+        long id = 0;
+        for (int w = 0; w < WORKERS; w++) {
+            String worker = "worker" + w + "@servicenest.com";
+            List<LocalDateTime[]> booked = new ArrayList<>(slots);
+            for (int s = 0; s < slots; s++) {
+                LocalDateTime start = first.plusHours(2L * s);
+                LocalDateTime end = start.plusHours(2);
+                // Every other worker has the probed slot free
+                if (w % 2 == 0 && start.isBefore(probeEnd) && end.isAfter(probeStart)) {
+                    continue;
+                }
+                schedule.reserve(worker, id++, start, end);
+                booked.add(new LocalDateTime[] { start, end });
+            }
+            workers.add(worker);
+            slotLists.add(booked);
+        }
+    }
+
+    @Benchmark
+    public int freeWorkersTree() {
+        int free = 0;
+        for (String worker : workers) {
+            if (schedule.isFree(worker, probeStart, probeEnd)) {
+                free++;
+            }
+        }
+        return free;
+    }
+
+    @Benchmark
+    public int freeWorkersLinear() {
+        int free = 0;
+        for (List<LocalDateTime[]> booked : slotLists) {
+            boolean clear = true;
+            for (LocalDateTime[] slot : booked) {
+                if (slot[0].isBefore(probeEnd) && slot[1].isAfter(probeStart)) {
+                    clear = false;
+                    break;
+                }
+            }
+            if (clear) {
+                free++;
+            }
+        }
+        return free;
+    }
+}
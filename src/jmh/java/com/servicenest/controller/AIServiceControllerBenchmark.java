@@ -0,0 +1,93 @@
+package com.servicenest.controller;
+
+import com.servicenest.benchmark.BenchmarkData;
+import com.servicenest.dto.Recommendations;
+import com.servicenest.dto.ServiceAnalysis;
+import com.servicenest.model.Booking;
+import com.servicenest.model.User;
+import com.servicenest.service.BookingFeatures;
+import com.servicenest.service.RecommendationStore;
+import com.servicenest.service.ServiceCategory;
+import com.servicenest.service.ServiceNeighbors;
+import com.servicenest.service.TrendingServices;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The AI endpoints' in-memory work, without the repository call in front of it. Recommendations and
+ * analysis read the customer's BookingFeatures, which are extracted once and then kept up to date;
+ * recommendations measure one rebuild in RecommendationStore, since serving them is a cache lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AIServiceControllerBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class History {
+        // Bookings in the customer's history
+        @Param({ "0", "10", "200" })
+        int size;
+
+        AIServiceController controller;
+        RecommendationStore store;
+        User user;
+        List<Booking> bookings;
+        BookingFeatures features;
+        ServiceNeighbors neighbors;
+        List<TrendingServices.Trend> trends;
+
+        @Setup
+        public void setUp() {
+            controller = new AIServiceController();
+            store = new RecommendationStore();
+            user = new User("bench@servicenest.com", "password123", "USER");
+            bookings = BenchmarkData.bookings(size, user.getEmail());
+            features = BookingFeatures.of(bookings);
+            neighbors = neighbors();
+            TrendingServices trending = new TrendingServices(Duration.ofHours(1));
+            for (Booking booking : BenchmarkData.bookings(200, user.getEmail())) {
+                trending.bookingCreated(booking.getServiceType(), "Chennai", booking.getPrice());
+            }
+            trends = trending.top("Chennai", 4);
+        }
+
+        // Every pair of categories booked together by some customers, so each category has a full neighbor list
+        private static ServiceNeighbors neighbors() {
+            int n = ServiceCategory.values().length;
+            long[] customers = new long[n];
+            long[][] together = new long[n][n];
+            double[] averagePrice = new double[n];
+            double[] rating = new double[n];
+            for (int a = 0; a < n; a++) {
+                customers[a] = 10_000 + 1_000L * a;
+                averagePrice[a] = 500 + 100 * a;
+                rating[a] = 4.0 + a / 10.0;
+                for (int b = a + 1; b < n; b++) {
+                    together[a][b] = 100L * (a + 1) * (b + 1);
+                }
+            }
+            return ServiceNeighbors.of(customers, together, averagePrice, rating, 3);
+        }
+    }
+
+    @Benchmark
+    public Recommendations recommendations(History history) {
+        return history.store.recommend(history.features, history.neighbors, history.trends);
+    }
+
+    @Benchmark
+    public ServiceAnalysis serviceAnalysis(History history) {
+        return history.controller.analyzeUserServicePatterns(history.features);
+    }
+
+    @Benchmark
+    public BookingFeatures extractFeatures(History history) {
+        return BookingFeatures.of(history.bookings);
+    }
+}
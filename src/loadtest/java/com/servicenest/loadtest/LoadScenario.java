@@ -0,0 +1,382 @@
+package com.servicenest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.servicenest.config.SyntheticDataGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Scripted marketplace traffic against a running app seeded by the "loadtest" profile: customers
+ * booking, browsing history and searching workers, workers polling /pending, claiming and completing
+ * jobs and checking earnings, and reviews being posted. Every virtual user runs a closed loop, so
+ * throughput is what the server sustains at that concurrency.
+ *
+ * Prints throughput and latency percentiles per operation and writes them as JSON.
+ *
+ * History and earnings need a session token, so before starting it logs in a pool of customers and
+ * workers and reads those accounts only.
+ *
+ * Options (all --key=value): base-url, threads, duration and warmup (seconds), customers and
+ * workers (must not exceed the seeded counts), sessions (accounts of each kind to log in), report
+ * (JSON output path).
+ */
+public final class LoadScenario {
+
+    // Weights of each step in a virtual user's loop; they sum to 100
+    private static final String[] OPERATIONS = { "book", "history", "search", "poll", "complete", "review", "earnings" };
+    private static final int[] WEIGHTS = { 20, 15, 10, 20, 10, 10, 15 };
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final String baseUrl;
+    private final int customers;
+    private final int workers;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    // Logged-in accounts as {email, token}; filled before the virtual users start
+    private final List<String[]> customerSessions = new ArrayList<>();
+    private final List<String[]> workerSessions = new ArrayList<>();
+
+    // Jobs this run claimed and can later complete, as {bookingId, worker}
+    private final Queue<long[]> claimed = new ConcurrentLinkedQueue<>();
+
+    private LoadScenario(String baseUrl, int customers, int workers) {
+        this.baseUrl = baseUrl;
+        this.customers = customers;
+        this.workers = workers;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8081");
+        int threads = Integer.parseInt(options.getOrDefault("threads", "32"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "15"));
+        int customers = Integer.parseInt(options.getOrDefault("customers", "200000"));
+        int workers = Integer.parseInt(options.getOrDefault("workers", "100000"));
+        int sessions = Integer.parseInt(options.getOrDefault("sessions", "50"));
+        File report = new File(options.getOrDefault("report", "target/load-result.json"));
+
+        LoadScenario scenario = new LoadScenario(baseUrl, customers, workers);
+        System.out.printf("Load scenario: %s, %d virtual users, %d s warmup + %d s measured%n",
+                baseUrl, threads, warmupSeconds, durationSeconds);
+        scenario.logIn(sessions);
+
+        long measureFrom = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+        long measureUntil = measureFrom + durationSeconds * 1_000_000_000L;
+
+        List<Map<String, Samples>> perThread = new ArrayList<>();
+        List<Thread> users = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Map<String, Samples> samples = new HashMap<>();
+            perThread.add(samples);
+            Thread user = new Thread(() -> scenario.run(samples, measureFrom, measureUntil), "virtual-user-" + i);
+            users.add(user);
+            user.start();
+        }
+        for (Thread user : users) {
+            user.join();
+        }
+
+        Map<String, Samples> merged = new TreeMap<>();
+        for (Map<String, Samples> samples : perThread) {
+            samples.forEach((operation, s) -> merged.computeIfAbsent(operation, k -> new Samples()).addAll(s));
+        }
+        Map<String, Object> result = summarize(merged, durationSeconds);
+        print(result);
+
+        File parent = report.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("baseUrl", baseUrl);
+        json.put("threads", threads);
+        json.put("durationSeconds", durationSeconds);
+        json.put("operations", result);
+        MAPPER.writeValue(report, json);
+        System.out.println("Results written to " + report.getPath());
+    }
+
+    private void run(Map<String, Samples> samples, long measureFrom, long measureUntil) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            long started = System.nanoTime();
+            if (started >= measureUntil) {
+                return;
+            }
+            boolean measured = started >= measureFrom;
+            String operation = pick(random.nextInt(100));
+            try {
+                switch (operation) {
+                    case "book" -> record(samples, measured, "book", started, book(random));
+                    case "history" -> record(samples, measured, "history", started,
+                            history(random).statusCode());
+                    case "search" -> record(samples, measured, "search", started,
+                            get("/api/worker/search?service=" + SyntheticDataGenerator.SERVICES[random.nextInt(
+                                    SyntheticDataGenerator.SERVICES.length)].replace(" ", "%20")
+                                    + "&location=" + SyntheticDataGenerator.AREAS[random.nextInt(
+                                    SyntheticDataGenerator.AREAS.length)]).statusCode());
+                    case "complete" -> complete(samples, measured, started, random);
+                    case "review" -> record(samples, measured, "review", started, review(random));
+                    case "earnings" -> record(samples, measured, "earnings", started,
+                            earnings(random).statusCode());
+                    default -> pollAndClaim(samples, measured, started, random);
+                }
+            } catch (IOException e) {
+                samples.computeIfAbsent(operation, k -> new Samples()).failures++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void logIn(int sessions) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < sessions; i++) {
+            String customer = SyntheticDataGenerator.customerEmail(random.nextInt(customers));
+            customerSessions.add(new String[] { customer, logIn(customer, "USER") });
+            String worker = SyntheticDataGenerator.workerEmail(random.nextInt(workers));
+            workerSessions.add(new String[] { worker, logIn(worker, "WORKER") });
+        }
+        System.out.printf("Logged in %d customers and %d workers%n", customerSessions.size(), workerSessions.size());
+    }
+
+    private String logIn(String email, String role) throws IOException, InterruptedException {
+        HttpResponse<String> response = send("POST", "/api/login",
+                Map.of("email", email, "password", SyntheticDataGenerator.PASSWORD, "role", role));
+        String token = MAPPER.readTree(response.body()).path("token").asText(null);
+        if (response.statusCode() != 200 || token == null) {
+            throw new IllegalStateException("Login failed for " + email + ": " + response.body());
+        }
+        return token;
+    }
+
+    private HttpResponse<String> history(ThreadLocalRandom random) throws IOException, InterruptedException {
+        String[] session = customerSessions.get(random.nextInt(customerSessions.size()));
+        return get("/api/bookings/user/" + session[0] + "?limit=20", session[1]);
+    }
+
+    private HttpResponse<String> earnings(ThreadLocalRandom random) throws IOException, InterruptedException {
+        String[] session = workerSessions.get(random.nextInt(workerSessions.size()));
+        return get("/api/worker/earnings/" + session[0], session[1]);
+    }
+
+    private int book(ThreadLocalRandom random) throws IOException, InterruptedException {
+        int customer = random.nextInt(customers);
+        Map<String, Object> booking = new HashMap<>();
+        booking.put("serviceType", SyntheticDataGenerator.SERVICES[random.nextInt(SyntheticDataGenerator.SERVICES.length)]);
+        booking.put("customerName", "Customer " + customer);
+        booking.put("customerEmail", SyntheticDataGenerator.customerEmail(customer));
+        booking.put("customerPhone", "98" + (10000000 + customer % 90000000));
+        booking.put("serviceDate", LocalDate.now().plusDays(1 + random.nextInt(14)).toString());
+        booking.put("serviceTime", (9 + random.nextInt(9)) + ":00");
+        booking.put("serviceAddress", (1 + random.nextInt(500)) + " Main Road, Chennai");
+        booking.put("price", 299 + random.nextInt(28) * 100);
+        return send("POST", "/api/bookings", booking).statusCode();
+    }
+
+    // A worker looks at open jobs and tries to take one; losing the race (409) is a rejection, not an error
+    private void pollAndClaim(Map<String, Samples> samples, boolean measured, long started, ThreadLocalRandom random)
+            throws IOException, InterruptedException {
+        HttpResponse<String> pending = get("/api/bookings/pending");
+        record(samples, measured, "poll", started, pending.statusCode());
+        if (pending.statusCode() != 200) {
+            return;
+        }
+        JsonNode bookings = MAPPER.readTree(pending.body()).path("bookings");
+        if (bookings.size() == 0) {
+            return;
+        }
+        long bookingId = bookings.get(random.nextInt(Math.min(bookings.size(), 10))).path("id").asLong();
+        int worker = random.nextInt(workers);
+
+        long claimStarted = System.nanoTime();
+        HttpResponse<String> claim = send("PUT", "/api/bookings/" + bookingId + "/status",
+                Map.of("status", "accepted", "workerEmail", SyntheticDataGenerator.workerEmail(worker)));
+        record(samples, measured, "claim", claimStarted, claim.statusCode());
+        if (claim.statusCode() == 200) {
+            claimed.add(new long[] { bookingId, worker });
+        }
+    }
+
+    private void complete(Map<String, Samples> samples, boolean measured, long started, ThreadLocalRandom random)
+            throws IOException, InterruptedException {
+        long[] job = claimed.poll();
+        if (job == null) {
+            pollAndClaim(samples, measured, started, random);
+            return;
+        }
+        record(samples, measured, "complete", started, send("PUT", "/api/bookings/" + job[0] + "/status",
+                Map.of("status", "completed", "workerEmail", SyntheticDataGenerator.workerEmail((int) job[1])))
+                .statusCode());
+    }
+
+    private int review(ThreadLocalRandom random) throws IOException, InterruptedException {
+        int customer = random.nextInt(customers);
+        Map<String, Object> review = new HashMap<>();
+        review.put("serviceType", SyntheticDataGenerator.SERVICES[random.nextInt(SyntheticDataGenerator.SERVICES.length)]);
+        review.put("customerEmail", SyntheticDataGenerator.customerEmail(customer));
+        review.put("customerName", "Customer " + customer);
+        review.put("rating", 1 + random.nextInt(5));
+        review.put("comment", "Load test review");
+        return send("POST", "/api/reviews", review).statusCode();
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String path, String token) throws IOException, InterruptedException {
+        return client.send(request(path).header("Authorization", "Bearer " + token).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest request = request(path)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    // 4xx answers (a job already taken, a service already reviewed) are the app working as intended:
+    // their latency counts and they are tallied as rejections. Only 5xx and I/O failures are errors.
+    private static void record(Map<String, Samples> samples, boolean measured, String operation, long started, int status) {
+        if (!measured) {
+            return;
+        }
+        Samples s = samples.computeIfAbsent(operation, k -> new Samples());
+        if (status >= 500) {
+            s.failures++;
+            return;
+        }
+        s.add(System.nanoTime() - started);
+        if (status >= 400) {
+            s.rejections++;
+        }
+    }
+
+    private static String pick(int roll) {
+        int cumulative = 0;
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            cumulative += WEIGHTS[i];
+            if (roll < cumulative) {
+                return OPERATIONS[i];
+            }
+        }
+        return OPERATIONS[OPERATIONS.length - 1];
+    }
+
+    private static Map<String, Object> summarize(Map<String, Samples> byOperation, int durationSeconds) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        Samples total = new Samples();
+        byOperation.forEach((operation, samples) -> {
+            result.put(operation, samples.summary(durationSeconds));
+            total.addAll(samples);
+        });
+        result.put("total", total.summary(durationSeconds));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> result) {
+        System.out.printf("%n%-10s %8s %9s %9s %9s %9s %9s %9s %8s %9s%n",
+                "operation", "count", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors", "rejected");
+        result.forEach((operation, value) -> {
+            Map<String, Object> s = (Map<String, Object>) value;
+            System.out.printf("%-10s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %8d %9d%n", operation,
+                    s.get("count"), s.get("throughput"), s.get("p50"), s.get("p90"), s.get("p99"), s.get("p99.9"),
+                    s.get("max"), s.get("errors"), s.get("rejected"));
+        });
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Latencies of one operation's answered requests, plus error and rejection counts. Owned by one thread until merged.
+     */
+    private static final class Samples {
+        private long[] nanos = new long[1024];
+        private int size;
+        private long failures;
+        private long rejections;
+
+        void add(long latency) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = latency;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.nanos[i]);
+            }
+            failures += other.failures;
+            rejections += other.rejections;
+        }
+
+        Map<String, Object> summary(int durationSeconds) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", (long) size);
+            summary.put("throughput", (double) size / durationSeconds);
+            for (double percentile : PERCENTILES) {
+                summary.put("p" + (percentile == Math.rint(percentile) ? String.valueOf((int) percentile)
+                        : String.valueOf(percentile)), millis(sorted, percentile));
+            }
+            summary.put("max", size == 0 ? 0.0 : sorted[size - 1] / 1e6);
+            summary.put("errors", failures);
+            summary.put("rejected", rejections);
+            return summary;
+        }
+
+        private static double millis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1e6;
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.servicenest;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
 public class ServiceNestApplication {
 
+    private static final Logger log = LoggerFactory.getLogger(ServiceNestApplication.class);
+
     public static void main(String[] args) {
         SpringApplication.run(ServiceNestApplication.class, args);
-        System.out.println("=== ServiceNest Application Started ===");
-        System.out.println("Server running on: http://localhost:8081");
+        log.info("ServiceNest application started on http://localhost:8081");
     }
 }
\ No newline at end of file
@@ -1,33 +1,108 @@
 package com.servicenest.config;
 
+import com.servicenest.service.ChatIntents;
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 
 @Configuration
-public class AppConfig {
-    
+@EnableScheduling
+public class AppConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private SessionOwnershipInterceptor sessionOwnershipInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sessionOwnershipInterceptor).addPathPatterns("/api/**");
+    }
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new SimplePasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${servicenest.password.bcrypt-cost:10}") int cost) {
+        return new BCryptPasswordEncoder(cost);
     }
-    
+
+    // Compiled once at startup, so adding intents to the file doesn't slow matching
+    @Bean
+    public ChatIntents chatIntents(@Value("${servicenest.chat.intents:classpath:chat-intents.json}") Resource intents) throws IOException {
+        try (InputStream in = intents.getInputStream()) {
+            return ChatIntents.load(in);
+        }
+    }
+
     public interface PasswordEncoder {
         String encode(CharSequence rawPassword);
         boolean matches(CharSequence rawPassword, String encodedPassword);
+
+        // True when a stored password should be re-encoded the next time its plain text is known
+        default boolean upgradeEncoding(String encodedPassword) {
+            return false;
+        }
     }
-    
-    public static class SimplePasswordEncoder implements PasswordEncoder {
-        
+
+    /**
+     * BCrypt with a fixed work factor: each +1 doubles the cost of a hash. Passwords stored as plain
+     * text by earlier versions still match, and are reported for upgrade along with hashes made at a
+     * different cost.
+     */
+    public static class BCryptPasswordEncoder implements PasswordEncoder {
+
+        private static final String PREFIX = "$2a$";
+        private static final int HASH_LENGTH = 60;
+
+        private final int cost;
+
+        public BCryptPasswordEncoder(int cost) {
+            if (cost < 4 || cost > 31) {
+                throw new IllegalArgumentException("BCrypt cost must be between 4 and 31, got " + cost);
+            }
+            this.cost = cost;
+        }
+
         @Override
         public String encode(CharSequence rawPassword) {
-            // For development - store as plain text
-            // In production, use proper hashing like BCrypt
-            return rawPassword.toString();
+            return BCrypt.hashpw(rawPassword.toString(), BCrypt.gensalt(cost));
         }
-        
+
         @Override
         public boolean matches(CharSequence rawPassword, String encodedPassword) {
-            return rawPassword.toString().equals(encodedPassword);
+            if (encodedPassword == null) {
+                return false;
+            }
+            if (!isHash(encodedPassword)) {
+                // Legacy plain-text row, compared in constant time
+                return MessageDigest.isEqual(rawPassword.toString().getBytes(StandardCharsets.UTF_8),
+                        encodedPassword.getBytes(StandardCharsets.UTF_8));
+            }
+            return BCrypt.checkpw(rawPassword.toString(), encodedPassword);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return encodedPassword != null
+                    && (!isHash(encodedPassword) || Integer.parseInt(encodedPassword.substring(4, 6)) != cost);
+        }
+
+        public int getCost() {
+            return cost;
+        }
+
+        // $2a$<2-digit cost>$<53 chars of salt and hash>
+        private static boolean isHash(String encodedPassword) {
+            return encodedPassword.length() == HASH_LENGTH && encodedPassword.startsWith(PREFIX)
+                    && Character.isDigit(encodedPassword.charAt(4)) && Character.isDigit(encodedPassword.charAt(5))
+                    && encodedPassword.charAt(6) == '$';
         }
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,8 @@ package com.servicenest.config;
 
 import com.servicenest.model.User;
 import com.servicenest.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
@@ -9,28 +11,33 @@ import org.springframework.stereotype.Component;
 @Component
 public class DataInitializer implements CommandLineRunner {
 
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AppConfig.PasswordEncoder passwordEncoder;
+
     @Override
     public void run(String... args) throws Exception {
         // Create sample users if they don't exist
         if (userRepository.findByEmail("user@servicenest.com") == null) {
             User user = new User();
             user.setEmail("user@servicenest.com");
-            user.setPassword("password123");
+            user.setPassword(passwordEncoder.encode("password123"));
             user.setRole("USER");
             userRepository.save(user);
-            System.out.println("Sample USER created");
+            log.info("Sample USER created");
         }
 
         if (userRepository.findByEmail("worker@servicenest.com") == null) {
             User worker = new User();
             worker.setEmail("worker@servicenest.com");
-            worker.setPassword("password123");
+            worker.setPassword(passwordEncoder.encode("password123"));
             worker.setRole("WORKER");
             userRepository.save(worker);
-            System.out.println("Sample WORKER created");
+            log.info("Sample WORKER created");
         }
     }
 }
\ No newline at end of file
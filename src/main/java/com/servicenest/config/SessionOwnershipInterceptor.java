@@ -0,0 +1,97 @@
+package com.servicenest.config;
+
+import com.servicenest.service.SessionTokens;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the per-user endpoints to their owner: the email path variable Spring MVC resolved for the
+ * handler (decoded, with ;parameters stripped) must be the session's, and the worker-side ones also
+ * need the WORKER role. Matching on the route pattern rather than the raw URI means every spelling of
+ * a path that reaches these handlers is checked.
+ *
+ * Endpoints not listed below are left as they were.
+ */
+@Component
+public class SessionOwnershipInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionOwnershipInterceptor.class);
+
+    // Route pattern prefix, the path variable holding the owner's email, whether it is worker-only,
+    // and the method (null = any)
+    private static final List<Rule> RULES = List.of(
+            new Rule("/api/bookings/user/{email}", "email", false, null),
+            new Rule("/api/bookings/worker/{workerEmail}", "workerEmail", true, null),
+            new Rule("/api/profile/user/{email}", "email", false, null),
+            new Rule("/api/reviews/user/{email}", "email", false, null),
+            new Rule("/api/ai/recommendations/{email}", "email", false, null),
+            new Rule("/api/ai/analysis/{email}", "email", false, null),
+            new Rule("/api/worker/dashboard/{email}", "email", true, null),
+            new Rule("/api/worker/earnings/{email}", "email", true, null),
+            new Rule("/api/worker/profile/{email}", "email", true, "PUT"),
+            new Rule("/api/worker/availability/{email}", "email", true, "PUT"));
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return true;
+        }
+        Rule rule = ruleFor(String.valueOf(pattern), request.getMethod());
+        if (rule == null) {
+            return true;
+        }
+
+        SessionTokens.Session session = SessionTokenFilter.session(request);
+        if (session == null) {
+            SessionTokenFilter.reject(response, HttpServletResponse.SC_UNAUTHORIZED, "Login required");
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String owner = variables != null ? variables.get(rule.variable) : null;
+        if (owner == null || !owner.trim().toLowerCase().equals(session.getEmail())
+                || (rule.workerOnly && !"WORKER".equals(session.getRole()))) {
+            log.warn("Session for {} denied access to {} {}", session.getEmail(), request.getMethod(), request.getRequestURI());
+            SessionTokenFilter.reject(response, HttpServletResponse.SC_FORBIDDEN, "Access denied");
+            return false;
+        }
+        return true;
+    }
+
+    private static Rule ruleFor(String pattern, String method) {
+        for (Rule rule : RULES) {
+            if (pattern.startsWith(rule.pattern) && (rule.method == null || rule.method.equals(method))) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static class Rule {
+        private final String pattern;
+        private final String variable;
+        private final boolean workerOnly;
+        private final String method;
+
+        Rule(String pattern, String variable, boolean workerOnly, String method) {
+            this.pattern = pattern;
+            this.variable = variable;
+            this.workerOnly = workerOnly;
+            this.method = method;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.servicenest.config;
+
+import com.servicenest.service.SessionTokens;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Checks the "Authorization: Bearer" session token issued by /api/login and leaves the verified
+ * session on the request for {@link SessionOwnershipInterceptor}, which keeps the per-user endpoints
+ * to their owner once Spring MVC has resolved the handler and its path variables. Everything it needs
+ * is inside the signed token, so no request here touches the database to authorize.
+ *
+ * Requests whose path doesn't decode cleanly are refused here, before any routing.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SessionTokenFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionTokenFilter.class);
+
+    public static final String SESSION_ATTRIBUTE = "servicenest.session";
+
+    private static final String BEARER = "Bearer ";
+
+    @Autowired
+    private SessionTokens sessionTokens;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "OPTIONS".equals(request.getMethod()) || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!canonical(request.getRequestURI())) {
+            log.warn("Rejected non-canonical path {} {}", request.getMethod(), request.getRequestURI());
+            reject(response, HttpServletResponse.SC_BAD_REQUEST, "Invalid request path");
+            return;
+        }
+
+        String token = bearerToken(request);
+        if (token != null) {
+            SessionTokens.Session session = sessionTokens.verify(token);
+            if (session == null) {
+                reject(response, HttpServletResponse.SC_UNAUTHORIZED, "Session expired, please log in again");
+                return;
+            }
+            request.setAttribute(SESSION_ATTRIBUTE, session);
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * The verified session of the request, or null when it carried no token.
+     */
+    public static SessionTokens.Session session(HttpServletRequest request) {
+        return (SessionTokens.Session) request.getAttribute(SESSION_ATTRIBUTE);
+    }
+
+    // EventSource can't set headers, so GET streams may pass the token as ?access_token= instead
+    private String bearerToken(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith(BEARER)) {
+            return header.substring(BEARER.length()).trim();
+        }
+        return "GET".equals(request.getMethod()) ? request.getParameter("access_token") : null;
+    }
+
+    // The path must decode (no broken %-escapes) to one without dot segments, empty segments or control
+    // characters, so what Spring routes on is the path as sent, minus ;parameters and escapes
+    private static boolean canonical(String uri) {
+        String decoded;
+        try {
+            decoded = UriUtils.decode(uri, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (decoded.contains("//") || decoded.contains("\\")) {
+            return false;
+        }
+        for (String segment : decoded.split("/", -1)) {
+            int semicolon = segment.indexOf(';');
+            String name = semicolon >= 0 ? segment.substring(0, semicolon) : segment;
+            if (name.equals(".") || name.equals("..")) {
+                return false;
+            }
+        }
+        for (int i = 0; i < decoded.length(); i++) {
+            if (Character.isISOControl(decoded.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static void reject(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        // Same open policy as the controllers' @CrossOrigin("*"), so pages can read the status
+        response.setHeader("Access-Control-Allow-Origin", "*");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"status\":\"ERROR\",\"message\":\"" + message + "\"}");
+    }
+}
@@ -0,0 +1,251 @@
+package com.servicenest.config;
+
+import com.servicenest.dto.ServiceSlot;
+import com.servicenest.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds a marketplace-sized data set for load testing: customers, workers with skills and service
+ * areas, a year of bookings in every status, and service reviews. Run with the "loadtest" profile;
+ * sizes come from application-loadtest.properties.
+ *
+ * Rows go in through plain JDBC batches, one transaction per chunk, so a million bookings take
+ * seconds rather than a million repository saves. Booking and review ids are written directly and
+ * the sequences moved past them afterwards. Rollups and the search index are left to their normal
+ * startup backfills, which run after this.
+ */
+@Component
+@Profile("loadtest")
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    public static final String EMAIL_DOMAIN = "@load.servicenest.test";
+    public static final String PASSWORD = "password123";
+
+    public static final String[] SERVICES = { "Plumbing", "Electrical", "AC Repair", "Cleaning", "Painting", "Carpentry" };
+    public static final String[] AREAS = { "mumbai", "thane", "navi-mumbai", "pune", "chennai", "bangalore", "delhi", "hyderabad" };
+
+    // Cumulative shares of booking statuses: mostly history, a thin band of open work
+    private static final String[] STATUSES = { "completed", "cancelled", "accepted", "in-progress", "pending" };
+    private static final int[] STATUS_CUMULATIVE_PERMILLE = { 820, 940, 980, 998, 1000 };
+
+    private static final int[] RATING_CUMULATIVE_PERCENT = { 7, 13, 25, 55, 100 };
+    private static final String[] REVIEW_COMMENTS = {
+        "Arrived on time and did a neat job.",
+        "Good work, a little pricey.",
+        "Had to call twice before anyone showed up.",
+        "Excellent, will book again.",
+        "Fixed the problem quickly and explained what was wrong."
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AppConfig.PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${servicenest.seed.customers}")
+    private int customers;
+
+    @Value("${servicenest.seed.workers}")
+    private int workers;
+
+    @Value("${servicenest.seed.bookings}")
+    private int bookings;
+
+    @Value("${servicenest.seed.reviews}")
+    private int reviews;
+
+    @Value("${servicenest.seed.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${servicenest.seed.random-seed:42}")
+    private long randomSeed;
+
+    public static String customerEmail(int n) {
+        return "customer" + n + EMAIL_DOMAIN;
+    }
+
+    public static String workerEmail(int n) {
+        return "worker" + n + EMAIL_DOMAIN;
+    }
+
+    // Worker n's main skill, so bookings for a service can be handed to someone who offers it
+    public static String primarySkill(int worker) {
+        return SERVICES[worker % SERVICES.length];
+    }
+
+    @Override
+    public void run(String... args) {
+        if (userRepository.existsByEmail(customerEmail(0))) {
+            log.info("Synthetic data already present, skipping seed");
+            return;
+        }
+
+        log.info("Seeding {} customers, {} workers, {} bookings, {} reviews",
+                customers, workers, bookings, reviews);
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        LocalDateTime now = LocalDateTime.now();
+        String password = passwordEncoder.encode(PASSWORD);
+
+        insert("users", "INSERT INTO users (email, password, role, created_at) VALUES (?, ?, ?, ?)",
+                customers + workers, (ps, row) -> {
+                    boolean worker = row >= customers;
+                    ps.setString(1, worker ? workerEmail(row - customers) : customerEmail(row));
+                    ps.setString(2, password);
+                    ps.setString(3, worker ? "WORKER" : "USER");
+                    ps.setTimestamp(4, Timestamp.valueOf(now.minusDays(random.nextInt(730))));
+                });
+
+        insert("worker_profiles", "INSERT INTO worker_profiles (email, professional_title, experience, bio, hourly_rate, "
+                + "service_areas, phone_number, skills, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                workers, (ps, row) -> {
+                    String skill = primarySkill(row);
+                    String secondSkill = SERVICES[random.nextInt(SERVICES.length)];
+                    String area = AREAS[random.nextInt(AREAS.length)];
+                    String secondArea = AREAS[random.nextInt(AREAS.length)];
+                    Timestamp created = Timestamp.valueOf(now.minusDays(random.nextInt(730)));
+                    ps.setString(1, workerEmail(row));
+                    ps.setString(2, skill + " Specialist");
+                    ps.setString(3, (1 + random.nextInt(15)) + " years");
+                    ps.setString(4, "Experienced " + skill.toLowerCase() + " professional.");
+                    ps.setDouble(5, 200 + random.nextInt(30) * 25);
+                    ps.setString(6, area.equals(secondArea) ? area : area + "," + secondArea);
+                    ps.setString(7, phone(row));
+                    ps.setString(8, skill.equals(secondSkill) ? skill : skill + "," + secondSkill);
+                    ps.setTimestamp(9, created);
+                    ps.setTimestamp(10, created);
+                });
+
+        insert("bookings", "INSERT INTO bookings (id, service_type, customer_name, customer_email, customer_phone, "
+                + "service_start, service_end, service_address, status, assigned_worker, price, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                bookings, (ps, row) -> {
+                    int customer = random.nextInt(customers);
+                    int service = random.nextInt(SERVICES.length);
+                    String status = pick(STATUSES, STATUS_CUMULATIVE_PERMILLE, random.nextInt(1000));
+                    // Open jobs are recent; history is spread over the past year
+                    LocalDateTime created = "pending".equals(status)
+                            ? now.minusMinutes(random.nextInt(7 * 24 * 60))
+                            : now.minusMinutes(random.nextInt(365 * 24 * 60));
+                    LocalDateTime serviceAt = created.plusDays(1 + random.nextInt(14)).withHour(9 + random.nextInt(9))
+                            .truncatedTo(ChronoUnit.HOURS);
+                    boolean assigned = !"pending".equals(status) && !("cancelled".equals(status) && random.nextBoolean());
+                    ps.setLong(1, row + 1L);
+                    ps.setString(2, SERVICES[service]);
+                    ps.setString(3, "Customer " + customer);
+                    ps.setString(4, customerEmail(customer));
+                    ps.setString(5, phone(customer));
+                    ps.setTimestamp(6, Timestamp.valueOf(serviceAt));
+                    ps.setTimestamp(7, Timestamp.valueOf(serviceAt.plus(ServiceSlot.DEFAULT_LENGTH)));
+                    ps.setString(8, (1 + random.nextInt(500)) + " Main Road, " + AREAS[customer % AREAS.length]);
+                    ps.setString(9, status);
+                    ps.setString(10, assigned ? workerEmail(workerFor(service, random)) : null);
+                    ps.setDouble(11, 299 + random.nextInt(28) * 100);
+                    ps.setTimestamp(12, Timestamp.valueOf(created));
+                    ps.setTimestamp(13, Timestamp.valueOf("completed".equals(status) ? serviceAt.plusHours(2) : created));
+                });
+
+        insert("reviews", "INSERT INTO reviews (id, service_type, customer_email, customer_name, rating, comment, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                reviews, (ps, row) -> {
+                    // A customer reviews each service at most once, as the review endpoint enforces
+                    int customer = row % customers;
+                    Timestamp created = Timestamp.valueOf(now.minusMinutes(random.nextInt(365 * 24 * 60)));
+                    ps.setLong(1, row + 1L);
+                    ps.setString(2, SERVICES[(row / customers) % SERVICES.length]);
+                    ps.setString(3, customerEmail(customer));
+                    ps.setString(4, "Customer " + customer);
+                    ps.setInt(5, pickRating(random.nextInt(100)));
+                    ps.setString(6, REVIEW_COMMENTS[random.nextInt(REVIEW_COMMENTS.length)]);
+                    ps.setTimestamp(7, created);
+                    ps.setTimestamp(8, created);
+                });
+
+        // Ids were written directly; start the pooled sequences above them (one full block of headroom)
+        jdbcTemplate.execute("ALTER SEQUENCE bookings_seq RESTART WITH " + (bookings + 51L));
+        jdbcTemplate.execute("ALTER SEQUENCE reviews_seq RESTART WITH " + (reviews + 51L));
+
+        log.info("Synthetic data seeded in {} s", (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    // Inserts rows in JDBC batches, committing every chunk so the transaction never grows with the data set
+    private void insert(String table, String sql, int rows, RowWriter writer) {
+        long started = System.nanoTime();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < rows; from += batchSize) {
+            int first = from;
+            int count = Math.min(batchSize, rows - from);
+            transaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    writer.write(ps, first + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return count;
+                }
+            }));
+        }
+        long millis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Seeded {} rows into {} in {} ms ({} rows/s)", rows, table, millis, rows * 1000L / millis);
+    }
+
+    private int workerFor(int service, SplittableRandom random) {
+        int perService = Math.max(1, (workers - service + SERVICES.length - 1) / SERVICES.length);
+        return Math.min(workers - 1, service + SERVICES.length * random.nextInt(perService));
+    }
+
+    private static String pick(String[] values, int[] cumulative, int roll) {
+        for (int i = 0; i < cumulative.length; i++) {
+            if (roll < cumulative[i]) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static int pickRating(int roll) {
+        for (int stars = 1; stars <= 5; stars++) {
+            if (roll < RATING_CUMULATIVE_PERCENT[stars - 1]) {
+                return stars;
+            }
+        }
+        return 5;
+    }
+
+    private static String phone(int n) {
+        return "9" + String.format("%09d", n % 1_000_000_000);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement ps, int row) throws SQLException;
+    }
+}
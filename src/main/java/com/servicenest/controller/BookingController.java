@@ -1,66 +1,151 @@
 package com.servicenest.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.servicenest.config.SessionTokenFilter;
+import com.servicenest.dto.BookingCursor;
+import com.servicenest.dto.BookingPage;
+import com.servicenest.dto.BookingRequest;
+import com.servicenest.dto.BookingResponse;
+import com.servicenest.dto.BookingSummary;
+import com.servicenest.dto.BookingSummaryResponse;
+import com.servicenest.dto.BookingView;
+import com.servicenest.dto.ServiceSlot;
 import com.servicenest.model.Booking;
 import com.servicenest.repository.BookingRepository;
+import com.servicenest.service.BookingDispatcher;
+import com.servicenest.service.BookingFeatureStore;
+import com.servicenest.service.BookingMetrics;
+import com.servicenest.service.PendingBookingFeed;
+import com.servicenest.service.RecommendationStore;
+import com.servicenest.service.SessionTokens;
+import com.servicenest.service.TrendingServices;
+import com.servicenest.service.WorkerEarningsLedger;
+import com.servicenest.service.WorkerSchedule;
+import com.servicenest.service.WorkerSearchIndex;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/bookings")
 @CrossOrigin("*")
 public class BookingController {
 
+    private static final Logger log = LoggerFactory.getLogger(BookingController.class);
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final int MAX_CALENDAR_DAYS = 62;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PendingBookingFeed pendingBookingFeed;
+
+    @Autowired
+    private WorkerEarningsLedger workerEarningsLedger;
+
+    @Autowired
+    private BookingMetrics bookingMetrics;
+
+    @Autowired
+    private WorkerSchedule workerSchedule;
+
+    @Autowired
+    private BookingDispatcher bookingDispatcher;
+
+    @Autowired
+    private RecommendationStore recommendationStore;
+
+    @Autowired
+    private BookingFeatureStore bookingFeatureStore;
+
+    @Autowired
+    private TrendingServices trendingServices;
+
+    @Autowired
+    private WorkerSearchIndex workerSearchIndex;
+
     /**
      * ✅ CREATE NEW BOOKING
      */
     @PostMapping
-    public ResponseEntity<Map<String, Object>> createBooking(@RequestBody Booking booking) {
-        System.out.println("=== CREATE BOOKING ===");
-        System.out.println("Service: " + booking.getServiceType());
-        System.out.println("Customer: " + booking.getCustomerName());
+    public ResponseEntity<?> createBooking(@RequestBody BookingRequest request) {
+        log.debug("Create booking: service={}, customer={}", request.getServiceType(), request.getCustomerName());
         
         Map<String, Object> response = new HashMap<>();
         
         try {
             // Validate required fields
-            if (booking.getServiceType() == null || booking.getServiceType().trim().isEmpty() ||
-                booking.getCustomerName() == null || booking.getCustomerName().trim().isEmpty() ||
-                booking.getCustomerEmail() == null || booking.getCustomerEmail().trim().isEmpty() ||
-                booking.getCustomerPhone() == null || booking.getCustomerPhone().trim().isEmpty()) {
+            if (request.getServiceType() == null || request.getServiceType().trim().isEmpty() ||
+                request.getCustomerName() == null || request.getCustomerName().trim().isEmpty() ||
+                request.getCustomerEmail() == null || request.getCustomerEmail().trim().isEmpty() ||
+                request.getCustomerPhone() == null || request.getCustomerPhone().trim().isEmpty() ||
+                request.getServiceAddress() == null || request.getServiceAddress().trim().isEmpty()) {
                 
                 response.put("status", "ERROR");
                 response.put("message", "All fields are required");
                 return ResponseEntity.badRequest().body(response);
             }
             
-            // Set default status if not provided
-            if (booking.getStatus() == null) {
-                booking.setStatus("pending");
+            ServiceSlot slot;
+            try {
+                slot = ServiceSlot.parse(request.getServiceDate(), request.getServiceTime());
+            } catch (IllegalArgumentException e) {
+                response.put("status", "ERROR");
+                response.put("message", e.getMessage());
+                return ResponseEntity.badRequest().body(response);
             }
             
-            Booking savedBooking = bookingRepository.save(booking);
+            Booking booking = new Booking(request.getServiceType(), request.getCustomerName(),
+                request.getCustomerEmail(), request.getCustomerPhone(), slot.start(), slot.end(),
+                request.getServiceAddress());
+            booking.setPrice(request.getPrice());
             
-            response.put("status", "SUCCESS");
-            response.put("message", "Booking created successfully");
-            response.put("bookingId", savedBooking.getId());
-            response.put("booking", savedBooking);
+            Booking savedBooking = bookingRepository.save(booking);
+            bookingMetrics.transition(BookingMetrics.NEW, savedBooking.getStatus());
+            bookingFeatureStore.bookingCreated(savedBooking);
+            trendingServices.bookingCreated(savedBooking.getServiceType(),
+                workerSearchIndex.areaOf(savedBooking.getServiceAddress()), savedBooking.getPrice());
+            recommendationStore.bookingsChanged(savedBooking.getCustomerEmail());
+            
+            if ("pending".equals(savedBooking.getStatus()) && savedBooking.getAssignedWorker() == null) {
+                pendingBookingFeed.bookingCreated(savedBooking);
+                bookingDispatcher.bookingCreated(savedBooking);
+            }
             
-            System.out.println("Booking created with ID: " + savedBooking.getId());
+            log.info("Booking created with ID: {}", savedBooking.getId());
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(BookingResponse.created(savedBooking));
             
         } catch (Exception e) {
-            System.out.println("Error creating booking: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error creating booking", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to create booking: " + e.getMessage());
@@ -69,29 +154,33 @@ public class BookingController {
     }
 
     /**
-     * ✅ GET USER BOOKINGS
+     * ✅ GET USER BOOKINGS (keyset-paginated, newest first)
      */
     @GetMapping("/user/{email}")
-    public ResponseEntity<Map<String, Object>> getUserBookings(@PathVariable String email) {
-        System.out.println("=== GET USER BOOKINGS ===");
-        System.out.println("User email: " + email);
+    public ResponseEntity<?> getUserBookings(
+            @PathVariable String email,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        log.debug("Get user bookings: email={}", email);
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            List<Booking> bookings = bookingRepository.findByCustomerEmailOrderByCreatedAtDesc(email);
+            List<BookingSummary> bookings = fetchCustomerPage(email, decodeCursor(cursor), clampPageSize(limit) + 1);
+            BookingPage<BookingSummary> page = toPage(bookings, clampPageSize(limit),
+                b -> new BookingCursor(b.createdAt(), b.id()));
             
-            response.put("status", "SUCCESS");
-            response.put("message", "Bookings retrieved successfully");
-            response.put("bookings", bookings);
-            response.put("count", bookings.size());
+            log.debug("Found {} bookings for user: {}", page.count(), email);
             
-            System.out.println("Found " + bookings.size() + " bookings for user: " + email);
+            return ResponseEntity.ok(page);
             
-            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("status", "ERROR");
+            response.put("message", "Invalid cursor");
+            return ResponseEntity.badRequest().body(response);
             
         } catch (Exception e) {
-            System.out.println("Error retrieving user bookings: " + e.getMessage());
+            log.error("Error retrieving user bookings", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to retrieve bookings: " + e.getMessage());
@@ -100,29 +189,44 @@ public class BookingController {
     }
 
     /**
-     * ✅ GET WORKER BOOKINGS
+     * ✅ STREAM ALL USER BOOKINGS AS NDJSON
+     */
+    @GetMapping("/user/{email}/stream")
+    public ResponseEntity<StreamingResponseBody> streamUserBookings(@PathVariable String email) {
+        log.debug("Stream user bookings: email={}", email);
+        
+        return ndjson(after -> fetchCustomerPage(email, after, STREAM_CHUNK_SIZE),
+            BookingSummary.class, b -> new BookingCursor(b.createdAt(), b.id()));
+    }
+
+    /**
+     * ✅ GET WORKER BOOKINGS (keyset-paginated, newest first)
      */
     @GetMapping("/worker/{workerEmail}")
-    public ResponseEntity<Map<String, Object>> getWorkerBookings(@PathVariable String workerEmail) {
-        System.out.println("=== GET WORKER BOOKINGS ===");
-        System.out.println("Worker email: " + workerEmail);
+    public ResponseEntity<?> getWorkerBookings(
+            @PathVariable String workerEmail,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        log.debug("Get worker bookings: workerEmail={}", workerEmail);
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            List<Booking> bookings = bookingRepository.findByAssignedWorkerOrderByCreatedAtDesc(workerEmail);
+            List<BookingView> bookings = fetchWorkerPage(workerEmail, decodeCursor(cursor), clampPageSize(limit) + 1);
+            BookingPage<BookingView> page = toPage(bookings, clampPageSize(limit),
+                b -> new BookingCursor(b.createdAt(), b.id()));
             
-            response.put("status", "SUCCESS");
-            response.put("message", "Bookings retrieved successfully");
-            response.put("bookings", bookings);
-            response.put("count", bookings.size());
+            log.debug("Found {} bookings for worker: {}", page.count(), workerEmail);
             
-            System.out.println("Found " + bookings.size() + " bookings for worker: " + workerEmail);
+            return ResponseEntity.ok(page);
             
-            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("status", "ERROR");
+            response.put("message", "Invalid cursor");
+            return ResponseEntity.badRequest().body(response);
             
         } catch (Exception e) {
-            System.out.println("Error retrieving worker bookings: " + e.getMessage());
+            log.error("Error retrieving worker bookings", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to retrieve bookings: " + e.getMessage());
@@ -130,29 +234,104 @@ public class BookingController {
         }
     }
 
+    /**
+     * ✅ STREAM ALL WORKER BOOKINGS AS NDJSON
+     */
+    @GetMapping("/worker/{workerEmail}/stream")
+    public ResponseEntity<StreamingResponseBody> streamWorkerBookings(@PathVariable String workerEmail) {
+        log.debug("Stream worker bookings: workerEmail={}", workerEmail);
+        
+        return ndjson(after -> fetchWorkerPage(workerEmail, after, STREAM_CHUNK_SIZE),
+            BookingView.class, b -> new BookingCursor(b.createdAt(), b.id()));
+    }
+
+    /**
+     * ✅ GET WORKER CALENDAR (bookings starting between two dates, inclusive, in slot order)
+     */
+    @GetMapping("/worker/{workerEmail}/calendar")
+    public ResponseEntity<?> getWorkerCalendar(
+            @PathVariable String workerEmail,
+            @RequestParam String from,
+            @RequestParam String to) {
+        log.debug("Get worker calendar: workerEmail={}, from={}, to={}", workerEmail, from, to);
+        
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            LocalDate firstDay = LocalDate.parse(from);
+            LocalDate lastDay = LocalDate.parse(to);
+            
+            if (lastDay.isBefore(firstDay) || ChronoUnit.DAYS.between(firstDay, lastDay) >= MAX_CALENDAR_DAYS) {
+                response.put("status", "ERROR");
+                response.put("message", "Calendar range must run forwards and span at most " + MAX_CALENDAR_DAYS + " days");
+                return ResponseEntity.badRequest().body(response);
+            }
+            
+            List<BookingView> bookings = bookingRepository.findWorkerCalendar(
+                workerEmail, firstDay.atStartOfDay(), lastDay.plusDays(1).atStartOfDay());
+            
+            log.debug("Found {} calendar bookings for worker: {}", bookings.size(), workerEmail);
+            
+            return ResponseEntity.ok(BookingPage.of("Calendar retrieved successfully", bookings, false, null));
+            
+        } catch (DateTimeParseException e) {
+            response.put("status", "ERROR");
+            response.put("message", "Dates must be in yyyy-MM-dd format");
+            return ResponseEntity.badRequest().body(response);
+            
+        } catch (Exception e) {
+            log.error("Error retrieving worker calendar", e);
+            
+            response.put("status", "ERROR");
+            response.put("message", "Failed to retrieve calendar: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    /**
+     * ✅ GET WORKER JOB OFFERS (pending jobs the dispatcher picked this worker for, soonest first)
+     */
+    @GetMapping("/worker/{workerEmail}/offers")
+    public ResponseEntity<?> getWorkerOffers(@PathVariable String workerEmail) {
+        log.debug("Get worker offers: workerEmail={}", workerEmail);
+        
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            List<BookingSummary> offers = bookingDispatcher.offersFor(workerEmail);
+            
+            log.debug("Found {} offers for worker: {}", offers.size(), workerEmail);
+            
+            return ResponseEntity.ok(BookingPage.of("Offers retrieved successfully", offers, false, null));
+            
+        } catch (Exception e) {
+            log.error("Error retrieving worker offers", e);
+            
+            response.put("status", "ERROR");
+            response.put("message", "Failed to retrieve offers: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
     /**
      * ✅ GET PENDING BOOKINGS (for workers to accept)
      */
     @GetMapping("/pending")
-    public ResponseEntity<Map<String, Object>> getPendingBookings() {
-        System.out.println("=== GET PENDING BOOKINGS ===");
+    public ResponseEntity<?> getPendingBookings() {
+        log.debug("Get pending bookings");
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            List<Booking> pendingBookings = bookingRepository.findByStatusAndAssignedWorkerIsNullOrderByCreatedAtDesc("pending");
+            List<BookingSummary> pendingBookings = bookingRepository.findByStatusAndAssignedWorkerIsNullOrderByCreatedAtDesc("pending");
             
-            response.put("status", "SUCCESS");
-            response.put("message", "Pending bookings retrieved successfully");
-            response.put("bookings", pendingBookings);
-            response.put("count", pendingBookings.size());
+            log.debug("Found {} pending bookings", pendingBookings.size());
             
-            System.out.println("Found " + pendingBookings.size() + " pending bookings");
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(BookingPage.of("Pending bookings retrieved successfully",
+                pendingBookings, false, null));
             
         } catch (Exception e) {
-            System.out.println("Error retrieving pending bookings: " + e.getMessage());
+            log.error("Error retrieving pending bookings", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to retrieve pending bookings: " + e.getMessage());
@@ -160,21 +339,33 @@ public class BookingController {
         }
     }
 
+    /**
+     * ✅ SUBSCRIBE TO PENDING JOB CHANGES (Server-Sent Events, replaces polling /pending)
+     */
+    @GetMapping(path = "/pending/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPendingBookings() {
+        return pendingBookingFeed.subscribe();
+    }
+
     /**
      * ✅ UPDATE BOOKING STATUS
      */
     @PutMapping("/{id}/status")
-    public ResponseEntity<Map<String, Object>> updateBookingStatus(
+    public ResponseEntity<?> updateBookingStatus(
             @PathVariable Long id, 
-            @RequestBody Map<String, String> statusUpdate) {
+            @RequestBody Map<String, String> statusUpdate,
+            HttpServletRequest request) {
         
-        System.out.println("=== UPDATE BOOKING STATUS ===");
-        System.out.println("Booking ID: " + id);
-        System.out.println("New status: " + statusUpdate.get("status"));
+        log.debug("Update booking status: bookingId={}, newStatus={}", id, statusUpdate.get("status"));
         
         Map<String, Object> response = new HashMap<>();
         
         try {
+            SessionTokens.Session session = SessionTokenFilter.session(request);
+            if (session == null) {
+                return denied(HttpStatus.UNAUTHORIZED, "Login required", response);
+            }
+            
             Optional<Booking> optionalBooking = bookingRepository.findById(id);
             
             if (optionalBooking.isEmpty()) {
@@ -194,25 +385,57 @@ public class BookingController {
                 return ResponseEntity.badRequest().body(response);
             }
             
-            // If worker is accepting the booking, assign them
-            if ("accepted".equals(newStatus) && workerEmail != null) {
-                booking.setAssignedWorker(workerEmail);
+            // If worker is accepting the booking, claim it atomically so racing workers can't both win
+            if ("accepted".equals(newStatus)) {
+                return claimBooking(id, session, workerEmail, response);
             }
             
-            booking.setStatus(newStatus);
-            Booking updatedBooking = bookingRepository.save(booking);
+            // Completing an assigned job credits the worker's earnings rollup in the same transaction, so
+            // only that worker may do it
+            if ("completed".equals(newStatus)) {
+                if (!isAssignedWorker(booking, session)) {
+                    return denied(HttpStatus.FORBIDDEN, "Only the assigned worker can complete this booking", response);
+                }
+                return completeBooking(booking, response);
+            }
             
-            response.put("status", "SUCCESS");
-            response.put("message", "Booking status updated successfully");
-            response.put("booking", updatedBooking);
+            if (!isCustomer(booking, session) && !isAssignedWorker(booking, session)) {
+                return denied(HttpStatus.FORBIDDEN, "Access denied", response);
+            }
             
-            System.out.println("Booking " + id + " status updated to: " + newStatus);
+            // Only moves on from the status just read, and only writes the status, so a claim or another
+            // change landing in between is reported instead of overwritten
+            String previousStatus = booking.getStatus();
+            int updated = bookingRepository.transition(id, previousStatus, newStatus, LocalDateTime.now());
+            if (updated == 0) {
+                Booking current = bookingRepository.findById(id).orElse(booking);
+                log.info("Booking {} changed from {} to {} before it could be set to {}", id, previousStatus,
+                        current.getStatus(), newStatus);
+                
+                response.put("status", "ERROR");
+                response.put("message", "Booking was changed meanwhile (status: " + current.getStatus() + "), please retry");
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+            }
+            Booking updatedBooking = bookingRepository.findById(id).orElse(booking);
+            bookingMetrics.transition(previousStatus, newStatus);
+            recommendationStore.bookingsChanged(booking.getCustomerEmail());
+            
+            if ("pending".equals(previousStatus) && !"pending".equals(newStatus)) {
+                pendingBookingFeed.bookingClosed(id, newStatus);
+                bookingDispatcher.bookingClosed(id);
+            }
+            
+            // Only accepted and in-progress jobs hold the worker's time
+            if (!"accepted".equals(newStatus) && !"in-progress".equals(newStatus)) {
+                workerSchedule.release(updatedBooking.getAssignedWorker(), id);
+            }
             
-            return ResponseEntity.ok(response);
+            log.info("Booking {} status updated to: {}", id, newStatus);
+            
+            return ResponseEntity.ok(BookingResponse.of("Booking status updated successfully", updatedBooking));
             
         } catch (Exception e) {
-            System.out.println("Error updating booking status: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error updating booking status", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to update booking status: " + e.getMessage());
@@ -224,48 +447,25 @@ public class BookingController {
      * ✅ ASSIGN WORKER TO BOOKING
      */
     @PutMapping("/{id}/assign-worker")
-    public ResponseEntity<Map<String, Object>> assignWorkerToBooking(
+    public ResponseEntity<?> assignWorkerToBooking(
             @PathVariable Long id,
-            @RequestBody Map<String, String> assignment) {
+            @RequestBody(required = false) Map<String, String> assignment,
+            HttpServletRequest request) {
         
-        System.out.println("=== ASSIGN WORKER TO BOOKING ===");
-        System.out.println("Booking ID: " + id);
-        System.out.println("Worker: " + assignment.get("workerEmail"));
+        log.debug("Assign worker to booking: bookingId={}", id);
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            Optional<Booking> optionalBooking = bookingRepository.findById(id);
-            
-            if (optionalBooking.isEmpty()) {
-                response.put("status", "ERROR");
-                response.put("message", "Booking not found");
-                return ResponseEntity.badRequest().body(response);
+            SessionTokens.Session session = SessionTokenFilter.session(request);
+            if (session == null) {
+                return denied(HttpStatus.UNAUTHORIZED, "Login required", response);
             }
             
-            Booking booking = optionalBooking.get();
-            String workerEmail = assignment.get("workerEmail");
-            
-            if (workerEmail == null || workerEmail.trim().isEmpty()) {
-                response.put("status", "ERROR");
-                response.put("message", "Worker email is required");
-                return ResponseEntity.badRequest().body(response);
-            }
-            
-            booking.setAssignedWorker(workerEmail);
-            booking.setStatus("accepted");
-            Booking updatedBooking = bookingRepository.save(booking);
-            
-            response.put("status", "SUCCESS");
-            response.put("message", "Worker assigned successfully");
-            response.put("booking", updatedBooking);
-            
-            System.out.println("Worker " + workerEmail + " assigned to booking " + id);
-            
-            return ResponseEntity.ok(response);
+            return claimBooking(id, session, assignment != null ? assignment.get("workerEmail") : null, response);
             
         } catch (Exception e) {
-            System.out.println("Error assigning worker: " + e.getMessage());
+            log.error("Error assigning worker", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to assign worker: " + e.getMessage());
@@ -277,13 +477,17 @@ public class BookingController {
      * ✅ GET BOOKING BY ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getBookingById(@PathVariable Long id) {
-        System.out.println("=== GET BOOKING BY ID ===");
-        System.out.println("Booking ID: " + id);
+    public ResponseEntity<?> getBookingById(@PathVariable Long id, HttpServletRequest request) {
+        log.debug("Get booking by id: bookingId={}", id);
         
         Map<String, Object> response = new HashMap<>();
         
         try {
+            SessionTokens.Session session = SessionTokenFilter.session(request);
+            if (session == null) {
+                return denied(HttpStatus.UNAUTHORIZED, "Login required", response);
+            }
+            
             Optional<Booking> optionalBooking = bookingRepository.findById(id);
             
             if (optionalBooking.isEmpty()) {
@@ -293,15 +497,20 @@ public class BookingController {
             }
             
             Booking booking = optionalBooking.get();
+            if (isCustomer(booking, session) || isAssignedWorker(booking, session)) {
+                return ResponseEntity.ok(BookingResponse.of("Booking retrieved successfully", booking));
+            }
             
-            response.put("status", "SUCCESS");
-            response.put("message", "Booking retrieved successfully");
-            response.put("booking", booking);
+            // Other workers see an open job as the /pending board shows it, without the contact details
+            if ("WORKER".equals(session.getRole()) && "pending".equals(booking.getStatus())
+                    && booking.getAssignedWorker() == null) {
+                return ResponseEntity.ok(BookingSummaryResponse.of("Booking retrieved successfully", booking));
+            }
             
-            return ResponseEntity.ok(response);
+            return denied(HttpStatus.FORBIDDEN, "Access denied", response);
             
         } catch (Exception e) {
-            System.out.println("Error retrieving booking: " + e.getMessage());
+            log.error("Error retrieving booking", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to retrieve booking: " + e.getMessage());
@@ -320,4 +529,174 @@ public class BookingController {
         response.put("timestamp", java.time.LocalDateTime.now().toString());
         return ResponseEntity.ok(response);
     }
+
+    // Claims a pending booking for the session's worker with a single conditional UPDATE; losers get 409
+    // CONFLICT. A worker named in the body must be that same worker. The slot is booked in the worker's
+    // schedule first, so a worker can't hold two overlapping jobs, and released again unless the claim won
+    // or the worker already holds the job.
+    private ResponseEntity<?> claimBooking(Long id, SessionTokens.Session session, String requestedWorker,
+                                          Map<String, Object> response) {
+        if (!"WORKER".equals(session.getRole())) {
+            return denied(HttpStatus.FORBIDDEN, "Only workers can accept bookings", response);
+        }
+        if (requestedWorker != null && !requestedWorker.isBlank()
+                && !requestedWorker.trim().equalsIgnoreCase(session.getEmail())) {
+            return denied(HttpStatus.FORBIDDEN, "Access denied", response);
+        }
+        String workerEmail = session.getEmail();
+        
+        Optional<Booking> target = bookingRepository.findById(id);
+        
+        if (target.isEmpty()) {
+            response.put("status", "ERROR");
+            response.put("message", "Booking not found");
+            return ResponseEntity.badRequest().body(response);
+        }
+        
+        if (!"pending".equals(target.get().getStatus()) && !holds(target.get(), workerEmail)) {
+            return claimConflict(id, target.get(), workerEmail, response);
+        }
+        
+        if (!workerSchedule.reserve(workerEmail, id, target.get().getServiceStart(), target.get().getServiceEnd())) {
+            log.info("Booking {} overlaps another job of {}", id, workerEmail);
+            bookingMetrics.claimConflict();
+            
+            response.put("status", "ERROR");
+            response.put("message", "This job overlaps another job you have accepted");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+        
+        int claimed = bookingRepository.claimPendingBooking(id, workerEmail, LocalDateTime.now());
+        Booking booking = bookingRepository.findById(id).orElse(target.get());
+        
+        // A retry by the worker who already holds the job is not a conflict
+        if (claimed == 0 && !holds(booking, workerEmail)) {
+            workerSchedule.release(workerEmail, id);
+            return claimConflict(id, booking, workerEmail, response);
+        }
+        
+        if (claimed == 1) {
+            bookingMetrics.transition("pending", "accepted");
+            pendingBookingFeed.bookingClaimed(id, workerEmail);
+            bookingDispatcher.bookingClosed(id);
+        }
+        
+        log.info("Worker {} assigned to booking {}", workerEmail, id);
+        
+        return ResponseEntity.ok(BookingResponse.of("Worker assigned successfully", booking));
+    }
+
+    private static boolean isCustomer(Booking booking, SessionTokens.Session session) {
+        return booking.getCustomerEmail() != null && booking.getCustomerEmail().trim().equalsIgnoreCase(session.getEmail());
+    }
+    
+    private static boolean isAssignedWorker(Booking booking, SessionTokens.Session session) {
+        return "WORKER".equals(session.getRole()) && booking.getAssignedWorker() != null
+            && booking.getAssignedWorker().trim().equalsIgnoreCase(session.getEmail());
+    }
+    
+    private static ResponseEntity<?> denied(HttpStatus status, String message, Map<String, Object> response) {
+        response.put("status", "ERROR");
+        response.put("message", message);
+        return ResponseEntity.status(status).body(response);
+    }
+    
+    // Whether the worker has the job and it still holds their time
+    private static boolean holds(Booking booking, String workerEmail) {
+        return workerEmail.equals(booking.getAssignedWorker())
+            && ("accepted".equals(booking.getStatus()) || "in-progress".equals(booking.getStatus()));
+    }
+
+    private ResponseEntity<?> claimConflict(Long id, Booking booking, String workerEmail, Map<String, Object> response) {
+        bookingMetrics.claimConflict();
+        response.put("status", "ERROR");
+        if (booking.getAssignedWorker() != null && !workerEmail.equals(booking.getAssignedWorker())
+                && ("accepted".equals(booking.getStatus()) || "in-progress".equals(booking.getStatus()))) {
+            log.info("Booking {} already claimed by {}", id, booking.getAssignedWorker());
+            response.put("message", "This job has already been taken by another worker");
+        } else {
+            log.info("Booking {} is {}, not open to claim", id, booking.getStatus());
+            response.put("message", "This job is no longer open (status: " + booking.getStatus() + ")");
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    private ResponseEntity<?> completeBooking(Booking booking, Map<String, Object> response) {
+        String previousStatus = booking.getStatus();
+        boolean completed = workerEarningsLedger.complete(booking);
+        Booking updatedBooking = bookingRepository.findById(booking.getId()).orElse(booking);
+        
+        if (!completed && !"completed".equals(updatedBooking.getStatus())) {
+            log.info("Booking {} is {}, not an open job to complete", booking.getId(), updatedBooking.getStatus());
+            
+            response.put("status", "ERROR");
+            response.put("message", "Only accepted or in-progress bookings can be completed (status: "
+                + updatedBooking.getStatus() + ")");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+        
+        if (completed) {
+            bookingMetrics.transition(previousStatus, "completed");
+            log.info("Booking {} completed by {}", booking.getId(), booking.getAssignedWorker());
+        }
+        workerSchedule.release(booking.getAssignedWorker(), booking.getId());
+        
+        return ResponseEntity.ok(BookingResponse.of(
+            completed ? "Booking status updated successfully" : "Booking is already completed", updatedBooking));
+    }
+
+    // Paging helpers
+    private List<BookingSummary> fetchCustomerPage(String email, BookingCursor after, int size) {
+        PageRequest page = PageRequest.of(0, size);
+        return after == null
+            ? bookingRepository.findCustomerPage(email, page)
+            : bookingRepository.findCustomerPageAfter(email, after.getCreatedAt(), after.getId(), page);
+    }
+
+    private List<BookingView> fetchWorkerPage(String workerEmail, BookingCursor after, int size) {
+        PageRequest page = PageRequest.of(0, size);
+        return after == null
+            ? bookingRepository.findWorkerPage(workerEmail, page)
+            : bookingRepository.findWorkerPageAfter(workerEmail, after.getCreatedAt(), after.getId(), page);
+    }
+
+    private BookingCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : BookingCursor.decode(cursor);
+    }
+
+    private int clampPageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    // Builds the page from rows fetched with one extra, which tells us whether more remain
+    private <T> BookingPage<T> toPage(List<T> fetched, int pageSize, Function<T, BookingCursor> cursorOf) {
+        boolean hasMore = fetched.size() > pageSize;
+        List<T> bookings = hasMore ? fetched.subList(0, pageSize) : fetched;
+        
+        return BookingPage.of("Bookings retrieved successfully", bookings, hasMore,
+            hasMore ? cursorOf.apply(bookings.get(bookings.size() - 1)).encode() : null);
+    }
+
+    // Writes every booking as one JSON line, walking keyset chunks so only one chunk is ever in memory.
+    // The writer is bound to the view type, so its serializer is resolved once rather than per line.
+    private <T> ResponseEntity<StreamingResponseBody> ndjson(Function<BookingCursor, List<T>> chunks,
+                                                             Class<T> type, Function<T, BookingCursor> cursorOf) {
+        ObjectWriter lineWriter = objectMapper.writerFor(type).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = out -> {
+            BookingCursor after = null;
+            List<T> chunk;
+            do {
+                chunk = chunks.apply(after);
+                for (T booking : chunk) {
+                    lineWriter.writeValue(out, booking);
+                    out.write('\n');
+                }
+                out.flush();
+                if (!chunk.isEmpty()) {
+                    after = cursorOf.apply(chunk.get(chunk.size() - 1));
+                }
+            } while (chunk.size() == STREAM_CHUNK_SIZE);
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.servicenest.controller;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -11,15 +13,14 @@ import java.util.Map;
 @CrossOrigin("*")
 public class ContactController {
 
+    private static final Logger log = LoggerFactory.getLogger(ContactController.class);
+
     /**
      * ✅ SEND CONTACT MESSAGE
      */
     @PostMapping("/send")
     public ResponseEntity<?> sendContactMessage(@RequestBody Map<String, String> contactData) {
-        System.out.println("=== SEND CONTACT MESSAGE ===");
-        System.out.println("Name: " + contactData.get("name"));
-        System.out.println("Email: " + contactData.get("email"));
-        System.out.println("Subject: " + contactData.get("subject"));
+        log.debug("Send contact message: name={}, email={}, subject={}", contactData.get("name"), contactData.get("email"), contactData.get("subject"));
         
         Map<String, Object> response = new HashMap<>();
         
@@ -40,8 +41,8 @@ public class ContactController {
             // 2. Send email notification
             // 3. Trigger internal alert
             
-            System.out.println("Contact message received from: " + contactData.get("name"));
-            System.out.println("Message: " + contactData.get("message"));
+            log.info("Contact message received from: {}", contactData.get("name"));
+            log.debug("Message: {}", contactData.get("message"));
 
             response.put("status", "SUCCESS");
             response.put("message", "Thank you for your message! We'll get back to you within 24 hours.");
@@ -49,7 +50,7 @@ public class ContactController {
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("Error sending contact message: " + e.getMessage());
+            log.error("Error sending contact message", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to send message. Please try again.");
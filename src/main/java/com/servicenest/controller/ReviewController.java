@@ -1,8 +1,16 @@
 package com.servicenest.controller;
 
+import com.servicenest.dto.ReviewPage;
+import com.servicenest.dto.ReviewResponse;
+import com.servicenest.dto.ReviewView;
 import com.servicenest.model.Review;
 import com.servicenest.repository.ReviewRepository;
+import com.servicenest.service.ServiceRatingStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,37 +23,48 @@ import java.util.Map;
 @CrossOrigin("*")
 public class ReviewController {
 
+    private static final Logger log = LoggerFactory.getLogger(ReviewController.class);
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private ServiceRatingStats serviceRatingStats;
+
     /**
-     * ✅ GET REVIEWS FOR SERVICE
+     * ✅ GET REVIEWS FOR SERVICE (paged, stats from the maintained summary)
      */
     @GetMapping("/service/{serviceType}")
-    public ResponseEntity<?> getServiceReviews(@PathVariable String serviceType) {
-        System.out.println("=== GET SERVICE REVIEWS ===");
-        System.out.println("Service: " + serviceType);
+    public ResponseEntity<?> getServiceReviews(
+            @PathVariable String serviceType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        log.debug("Get service reviews: service={}", serviceType);
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            List<Review> reviews = reviewRepository.findByServiceTypeOrderByCreatedAtDesc(serviceType);
-            Double averageRating = reviewRepository.findAverageRatingByServiceType(serviceType);
-            Long totalReviews = reviewRepository.countByServiceType(serviceType);
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            int pageNumber = Math.max(0, page);
             
-            Map<String, Object> stats = new HashMap<>();
-            stats.put("averageRating", averageRating != null ? Math.round(averageRating * 10.0) / 10.0 : 0);
-            stats.put("totalReviews", totalReviews);
+            // A slice fetches one extra row to learn whether another page exists, no count query
+            Slice<Review> reviews = reviewRepository.findByServiceTypeOrderByCreatedAtDescIdDesc(
+                serviceType, PageRequest.of(pageNumber, pageSize));
             
-            response.put("status", "SUCCESS");
-            response.put("message", "Reviews retrieved successfully");
-            response.put("reviews", reviews);
-            response.put("stats", stats);
+            ServiceRatingStats.Snapshot summary = serviceRatingStats.get(serviceType);
             
-            return ResponseEntity.ok(response);
+            ReviewPage.Stats stats = new ReviewPage.Stats(Math.round(summary.getAverage() * 10.0) / 10.0,
+                summary.getCount(), summary.getDistribution());
+            
+            return ResponseEntity.ok(new ReviewPage("SUCCESS", "Reviews retrieved successfully",
+                reviews.getContent().stream().map(ReviewView::from).toList(),
+                pageNumber, pageSize, reviews.hasNext(), stats));
             
         } catch (Exception e) {
-            System.out.println("Error retrieving reviews: " + e.getMessage());
+            log.error("Error retrieving reviews", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to retrieve reviews: " + e.getMessage());
@@ -58,9 +77,7 @@ public class ReviewController {
      */
     @PostMapping
     public ResponseEntity<?> submitReview(@RequestBody Review review) {
-        System.out.println("=== SUBMIT REVIEW ===");
-        System.out.println("Service: " + review.getServiceType());
-        System.out.println("Rating: " + review.getRating());
+        log.debug("Submit review: service={}, rating={}", review.getServiceType(), review.getRating());
         
         Map<String, Object> response = new HashMap<>();
         
@@ -85,16 +102,12 @@ public class ReviewController {
                 return ResponseEntity.badRequest().body(response);
             }
             
-            Review savedReview = reviewRepository.save(review);
-            
-            response.put("status", "SUCCESS");
-            response.put("message", "Review submitted successfully");
-            response.put("review", savedReview);
+            Review savedReview = serviceRatingStats.submit(review);
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ReviewResponse.of("Review submitted successfully", savedReview));
             
         } catch (Exception e) {
-            System.out.println("Error submitting review: " + e.getMessage());
+            log.error("Error submitting review", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to submit review: " + e.getMessage());
@@ -107,21 +120,18 @@ public class ReviewController {
      */
     @GetMapping("/user/{email}")
     public ResponseEntity<?> getUserReviews(@PathVariable String email) {
-        System.out.println("=== GET USER REVIEWS ===");
+        log.debug("Get user reviews: email={}", email);
         
         Map<String, Object> response = new HashMap<>();
         
         try {
             List<Review> reviews = reviewRepository.findByCustomerEmailOrderByCreatedAtDesc(email);
             
-            response.put("status", "SUCCESS");
-            response.put("message", "User reviews retrieved successfully");
-            response.put("reviews", reviews);
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ReviewPage.of("User reviews retrieved successfully",
+                reviews.stream().map(ReviewView::from).toList()));
             
         } catch (Exception e) {
-            System.out.println("Error retrieving user reviews: " + e.getMessage());
+            log.error("Error retrieving user reviews", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to retrieve user reviews: " + e.getMessage());
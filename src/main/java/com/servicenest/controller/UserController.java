@@ -1,34 +1,60 @@
 package com.servicenest.controller;
 
+import com.servicenest.dto.RegistrationResponse;
+import com.servicenest.dto.WorkerProfileView;
 import com.servicenest.model.User;
 import com.servicenest.model.WorkerProfile;
 import com.servicenest.repository.UserRepository;
 import com.servicenest.repository.WorkerProfileRepository;
+import com.servicenest.service.AccountCache;
+import com.servicenest.service.PasswordHasher;
+import com.servicenest.service.SessionTokens;
+import com.servicenest.service.WorkerSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api")
 @CrossOrigin("*")
 public class UserController {
 
+    private static final Logger log = LoggerFactory.getLogger(UserController.class);
+
     @Autowired
     private UserRepository userRepo;
 
     @Autowired
     private WorkerProfileRepository workerProfileRepository;
 
+    @Autowired
+    private WorkerSearchIndex workerSearchIndex;
+
+    @Autowired
+    private AccountCache accountCache;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private SessionTokens sessionTokens;
+
     /**
      * ✅ TEST API - Check if controller is working
      */
     @GetMapping("/test")
     public String test() {
-        System.out.println("=== TEST API CALLED ===");
+        log.debug("Test API called");
         return "Backend is working! " + LocalDateTime.now();
     }
 
@@ -46,12 +72,11 @@ public class UserController {
 
     /**
      * ✅ COMBINED REGISTRATION - Handles both USER and WORKER registration in one call
+     * (the password is hashed on the hashing pool, and the account saved once it finishes)
      */
     @PostMapping("/register")
-    public ResponseEntity<Map<String, Object>> registerCombined(@RequestBody Map<String, Object> request) {
-        System.out.println("=== COMBINED REGISTRATION ===");
-        System.out.println("Email: " + request.get("email"));
-        System.out.println("Role: " + request.get("role"));
+    public CompletableFuture<ResponseEntity<?>> registerCombined(@RequestBody Map<String, Object> request) {
+        log.debug("Combined registration: email={}, role={}", request.get("email"), request.get("role"));
         
         Map<String, Object> response = new HashMap<>();
         
@@ -67,117 +92,130 @@ public class UserController {
             if (email == null || email.isEmpty()) {
                 response.put("status", "ERROR");
                 response.put("message", "Email is required");
-                return ResponseEntity.badRequest().body(response);
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
             }
             
             if (password == null || password.isEmpty()) {
                 response.put("status", "ERROR");
                 response.put("message", "Password is required");
-                return ResponseEntity.badRequest().body(response);
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
             }
             
             if (role == null || role.isEmpty()) {
                 response.put("status", "ERROR");
                 response.put("message", "Role is required");
-                return ResponseEntity.badRequest().body(response);
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
             }
 
-            // Check if email already exists
-            if (userRepo.existsByEmail(email)) {
-                response.put("status", "ERROR");
-                response.put("message", "Email already registered");
-                return ResponseEntity.badRequest().body(response);
-            }
-            
-            // Create and save user
-            User user = new User();
-            user.setEmail(email);
-            user.setPassword(password);
-            user.setRole(role);
-            
-            User savedUser = userRepo.save(user);
-            System.out.println("User created with ID: " + savedUser.getId());
-            
-            // If role is WORKER, create worker profile
+            // Validate worker-specific required fields before anything is hashed or saved
             if ("WORKER".equals(role)) {
-                // Extract worker-specific data with null checks
                 String professionalTitle = (String) request.get("professionalTitle");
                 String phoneNumber = (String) request.get("phoneNumber");
-                String experience = (String) request.get("experience");
-                String serviceAreas = (String) request.get("serviceAreas");
-                String skills = (String) request.get("skills");
-                String bio = (String) request.get("bio");
-                
-                Double hourlyRate = 0.0;
-                if (request.get("hourlyRate") != null) {
-                    try {
-                        hourlyRate = Double.parseDouble(request.get("hourlyRate").toString());
-                    } catch (NumberFormatException e) {
-                        hourlyRate = 0.0;
-                    }
-                }
                 
-                // Validate worker-specific required fields
                 if (professionalTitle == null || professionalTitle.trim().isEmpty()) {
                     response.put("status", "ERROR");
                     response.put("message", "Professional title is required for service providers");
-                    return ResponseEntity.badRequest().body(response);
+                    return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
                 }
                 if (phoneNumber == null || phoneNumber.trim().isEmpty()) {
                     response.put("status", "ERROR");
                     response.put("message", "Phone number is required for service providers");
-                    return ResponseEntity.badRequest().body(response);
+                    return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
                 }
-                
-                // Create worker profile
-                WorkerProfile profile = new WorkerProfile();
-                profile.setEmail(email);
-                profile.setProfessionalTitle(professionalTitle.trim());
-                profile.setExperience(experience != null ? experience : "0-1");
-                profile.setPhoneNumber(phoneNumber.trim());
-                profile.setServiceAreas(serviceAreas != null ? serviceAreas.trim() : "");
-                profile.setHourlyRate(hourlyRate);
-                profile.setSkills(skills != null ? skills.trim() : "");
-                profile.setBio(bio != null ? bio.trim() : "");
-                
-                WorkerProfile savedProfile = workerProfileRepository.save(profile);
-                System.out.println("Worker profile created for: " + savedProfile.getEmail());
-                
-                response.put("workerProfile", Map.of(
-                    "professionalTitle", savedProfile.getProfessionalTitle(),
-                    "experience", savedProfile.getExperience(),
-                    "phoneNumber", savedProfile.getPhoneNumber()
-                ));
+            }
+
+            // Check if email already exists
+            if (userRepo.existsByEmail(email)) {
+                response.put("status", "ERROR");
+                response.put("message", "Email already registered");
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
             }
             
-            response.put("status", "SUCCESS");
-            response.put("message", "Registration successful");
-            response.put("user", Map.of(
-                "email", savedUser.getEmail(),
-                "role", savedUser.getRole(),
-                "id", savedUser.getId()
-            ));
+            return passwordHasher.encode(password)
+                    .<ResponseEntity<?>>thenApply(passwordHash -> saveAccount(request, email, role, passwordHash))
+                    .exceptionally(this::registrationFailed);
             
-            return ResponseEntity.ok(response);
+        } catch (RejectedExecutionException e) {
+            log.warn("Registration rejected for {}: password hashing queue is full", request.get("email"));
+            response.put("status", "ERROR");
+            response.put("message", "Server is busy, please try again");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response));
             
         } catch (Exception e) {
-            System.out.println("Error during combined registration: " + e.getMessage());
-            e.printStackTrace();
+            return CompletableFuture.completedFuture(registrationFailed(e));
+        }
+    }
+
+    // Runs on the hashing thread once the password hash is ready
+    private ResponseEntity<?> saveAccount(Map<String, Object> request, String email, String role, String passwordHash) {
+        // Create and save user
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword(passwordHash);
+        user.setRole(role);
+        
+        User savedUser = userRepo.save(user);
+        accountCache.evictUser(email);
+        log.info("User created with ID: {}", savedUser.getId());
+        
+        // If role is WORKER, create worker profile
+        WorkerProfileView workerProfile = null;
+        if ("WORKER".equals(role)) {
+            // Extract worker-specific data with null checks
+            String professionalTitle = (String) request.get("professionalTitle");
+            String phoneNumber = (String) request.get("phoneNumber");
+            String experience = (String) request.get("experience");
+            String serviceAreas = (String) request.get("serviceAreas");
+            String skills = (String) request.get("skills");
+            String bio = (String) request.get("bio");
             
-            response.put("status", "ERROR");
-            response.put("message", "Registration failed: " + e.getMessage());
-            return ResponseEntity.internalServerError().body(response);
+            Double hourlyRate = 0.0;
+            if (request.get("hourlyRate") != null) {
+                try {
+                    hourlyRate = Double.parseDouble(request.get("hourlyRate").toString());
+                } catch (NumberFormatException e) {
+                    hourlyRate = 0.0;
+                }
+            }
+            
+            // Create worker profile
+            WorkerProfile profile = new WorkerProfile();
+            profile.setEmail(email);
+            profile.setProfessionalTitle(professionalTitle.trim());
+            profile.setExperience(experience != null ? experience : "0-1");
+            profile.setPhoneNumber(phoneNumber.trim());
+            profile.setServiceAreas(serviceAreas != null ? serviceAreas.trim() : "");
+            profile.setHourlyRate(hourlyRate);
+            profile.setSkills(skills != null ? skills.trim() : "");
+            profile.setBio(bio != null ? bio.trim() : "");
+            
+            WorkerProfile savedProfile = workerProfileRepository.save(profile);
+            accountCache.evictWorkerProfile(email);
+            workerSearchIndex.index(savedProfile);
+            log.info("Worker profile created for: {}", savedProfile.getEmail());
+            
+            workerProfile = WorkerProfileView.from(savedProfile, savedUser);
         }
+        
+        return ResponseEntity.ok(RegistrationResponse.of(savedUser, workerProfile));
+    }
+
+    private ResponseEntity<?> registrationFailed(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        log.error("Error during combined registration", cause);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "ERROR");
+        response.put("message", "Registration failed: " + cause.getMessage());
+        return ResponseEntity.internalServerError().body(response);
     }
 
     /**
-     * ✅ LOGIN API
+     * ✅ LOGIN API (password check runs on the hashing pool, not the request thread)
      */
     @PostMapping("/login")
-    public ResponseEntity<Map<String, String>> login(@RequestBody User request) {
-        System.out.println("=== LOGIN ATTEMPT ===");
-        System.out.println("Email: " + request.getEmail());
-        System.out.println("Role: " + request.getRole());
+    public CompletableFuture<ResponseEntity<Map<String, String>>> login(@RequestBody User request) {
+        log.debug("Login attempt: email={}, role={}", request.getEmail(), request.getRole());
         
         Map<String, String> response = new HashMap<>();
         
@@ -186,40 +224,47 @@ public class UserController {
             request.getPassword() == null || request.getPassword().trim().isEmpty() ||
             request.getRole() == null || request.getRole().trim().isEmpty()) {
             
-            System.out.println("Validation failed: All fields are required");
+            log.warn("Login rejected: all fields are required");
             response.put("status", "ERROR");
             response.put("message", "All fields are required");
-            return ResponseEntity.badRequest().body(response);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
         }
 
         // Find user by email AND role
         String email = request.getEmail().toLowerCase();
         String role = request.getRole().toUpperCase();
         
-        System.out.println("Searching for user with email: " + email + " and role: " + role);
+        log.debug("Searching for user with email: {} and role: {}", email, role);
         User user = userRepo.findByEmailAndRole(email, role);
 
         if (user == null) {
-            System.out.println("User not found with email: " + email + " and role: " + role);
+            log.warn("User not found with email: {} and role: {}", email, role);
             response.put("status", "ERROR");
             response.put("message", "Invalid email or role");
-            return ResponseEntity.badRequest().body(response);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
         }
 
-        // Check password
-        if (!user.getPassword().equals(request.getPassword())) {
-            System.out.println("Password mismatch");
-            response.put("status", "ERROR");
-            response.put("message", "Invalid password");
-            return ResponseEntity.badRequest().body(response);
-        }
+        // Check password (a full hashing queue surfaces as 503 from GlobalExceptionHandler)
+        return passwordHasher.verify(user, request.getPassword()).thenApply(matched -> {
+            if (!matched) {
+                log.warn("Login failed for {}: password mismatch", email);
+                response.put("status", "ERROR");
+                response.put("message", "Invalid password");
+                return ResponseEntity.badRequest().body(response);
+            }
 
-        // Login success
-        System.out.println("Login successful for: " + user.getEmail());
-        response.put("status", "SUCCESS");
-        response.put("message", "LOGIN_SUCCESS");
-        response.put("role", user.getRole());
-        response.put("email", user.getEmail());
-        return ResponseEntity.ok(response);
+            // Login success
+            log.info("Login successful for: {}", user.getEmail());
+            response.put("status", "SUCCESS");
+            response.put("message", "LOGIN_SUCCESS");
+            response.put("role", user.getRole());
+            response.put("email", user.getEmail());
+
+            // Signed bearer token; the per-user endpoints check it without touching the database
+            SessionTokens.Session session = sessionTokens.issue(user.getEmail(), user.getRole());
+            response.put("token", session.getToken());
+            response.put("expiresAt", String.valueOf(session.getExpiresAt()));
+            return ResponseEntity.ok(response);
+        });
     }
 }
\ No newline at end of file
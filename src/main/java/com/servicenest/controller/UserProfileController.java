@@ -1,23 +1,35 @@
 package com.servicenest.controller;
 
+import com.servicenest.dto.ProfileResponse;
+import com.servicenest.dto.UserProfileView;
 import com.servicenest.model.User;
 
 import com.servicenest.model.UserProfile;
 import com.servicenest.repository.UserRepository;
 import com.servicenest.repository.WorkerProfileRepository;
 import com.servicenest.repository.UserProfileRepository;
+import com.servicenest.service.AccountCache;
+import com.servicenest.service.PasswordHasher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/profile")
 @CrossOrigin("*")
 public class UserProfileController {
+
+    private static final Logger log = LoggerFactory.getLogger(UserProfileController.class);
 	@Autowired
 	private WorkerProfileRepository workerProfileRepository;
     @Autowired
@@ -26,25 +38,30 @@ public class UserProfileController {
     @Autowired
     private UserProfileRepository userProfileRepository;
 
+    @Autowired
+    private AccountCache accountCache;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
     /**
      * ✅ GET USER PROFILE
      */
     @GetMapping("/user/{email}")
     public ResponseEntity<?> getUserProfile(@PathVariable String email) {
-        System.out.println("=== GET USER PROFILE ===");
-        System.out.println("Email: " + email);
+        log.debug("Get user profile: email={}", email);
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            User user = userRepository.findByEmail(email);
+            User user = accountCache.findUser(email);
             if (user == null) {
                 response.put("status", "ERROR");
                 response.put("message", "User not found");
                 return ResponseEntity.badRequest().body(response);
             }
 
-            UserProfile profile = userProfileRepository.findByUserEmail(email);
+            UserProfile profile = accountCache.findUserProfile(email);
             if (profile == null) {
                 // Create default profile if not exists
                 profile = new UserProfile();
@@ -53,26 +70,14 @@ public class UserProfileController {
                 profile.setLastName("");
                 profile.setPhone("");
                 profile = userProfileRepository.save(profile);
+                accountCache.evictUserProfile(email);
             }
 
-            Map<String, Object> profileData = new HashMap<>();
-            profileData.put("email", user.getEmail());
-            profileData.put("role", user.getRole());
-            profileData.put("firstName", profile.getFirstName());
-            profileData.put("lastName", profile.getLastName());
-            profileData.put("phone", profile.getPhone());
-            profileData.put("dateOfBirth", profile.getDateOfBirth());
-            profileData.put("gender", profile.getGender());
-
-            response.put("status", "SUCCESS");
-            response.put("message", "Profile retrieved successfully");
-            response.put("profile", profileData);
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ProfileResponse.of("Profile retrieved successfully",
+                UserProfileView.from(user, profile)));
             
         } catch (Exception e) {
-            System.out.println("Error retrieving profile: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error retrieving profile", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to retrieve profile: " + e.getMessage());
@@ -85,8 +90,7 @@ public class UserProfileController {
      */
     @PutMapping("/user/{email}")
     public ResponseEntity<?> updateUserProfile(@PathVariable String email, @RequestBody UserProfile profileData) {
-        System.out.println("=== UPDATE USER PROFILE ===");
-        System.out.println("Email: " + email);
+        log.debug("Update user profile: email={}", email);
         
         Map<String, Object> response = new HashMap<>();
         
@@ -115,16 +119,13 @@ public class UserProfileController {
             }
 
             UserProfile savedProfile = userProfileRepository.save(profile);
+            accountCache.evictUserProfile(email);
 
-            response.put("status", "SUCCESS");
-            response.put("message", "Profile updated successfully");
-            response.put("profile", savedProfile);
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ProfileResponse.of("Profile updated successfully",
+                UserProfileView.from(accountCache.findUser(email), savedProfile)));
             
         } catch (Exception e) {
-            System.out.println("Error updating profile: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error updating profile", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to update profile: " + e.getMessage());
@@ -133,11 +134,11 @@ public class UserProfileController {
     }
 
     /**
-     * ✅ CHANGE PASSWORD
+     * ✅ CHANGE PASSWORD (both hashes run on the hashing pool, not the request thread)
      */
     @PutMapping("/user/{email}/password")
-    public ResponseEntity<?> changePassword(@PathVariable String email, @RequestBody Map<String, String> passwordData) {
-        System.out.println("=== CHANGE PASSWORD ===");
+    public CompletableFuture<ResponseEntity<?>> changePassword(@PathVariable String email, @RequestBody Map<String, String> passwordData) {
+        log.debug("Change password: email={}", email);
         
         Map<String, Object> response = new HashMap<>();
         
@@ -148,38 +149,52 @@ public class UserProfileController {
             if (currentPassword == null || newPassword == null) {
                 response.put("status", "ERROR");
                 response.put("message", "Current password and new password are required");
-                return ResponseEntity.badRequest().body(response);
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
             }
 
             User user = userRepository.findByEmail(email);
             if (user == null) {
                 response.put("status", "ERROR");
                 response.put("message", "User not found");
-                return ResponseEntity.badRequest().body(response);
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
             }
 
-            // Check current password
-            if (!user.getPassword().equals(currentPassword)) {
-                response.put("status", "ERROR");
-                response.put("message", "Current password is incorrect");
-                return ResponseEntity.badRequest().body(response);
-            }
-
-            // Update password
-            user.setPassword(newPassword);
-            userRepository.save(user);
-
-            response.put("status", "SUCCESS");
-            response.put("message", "Password updated successfully");
-            
-            return ResponseEntity.ok(response);
+            // Check current password, then hash and store the new one
+            return passwordHasher.verify(user, currentPassword)
+                    .<ResponseEntity<?>>thenCompose(matches -> {
+                        if (!matches) {
+                            response.put("status", "ERROR");
+                            response.put("message", "Current password is incorrect");
+                            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
+                        }
+                        return passwordHasher.encode(newPassword).thenApply(passwordHash -> {
+                            user.setPassword(passwordHash);
+                            userRepository.save(user);
+                            accountCache.evictUser(email);
+
+                            response.put("status", "SUCCESS");
+                            response.put("message", "Password updated successfully");
+                            return ResponseEntity.ok(response);
+                        });
+                    })
+                    .exceptionally(this::passwordChangeFailed);
             
         } catch (Exception e) {
-            System.out.println("Error changing password: " + e.getMessage());
-            
-            response.put("status", "ERROR");
-            response.put("message", "Failed to change password: " + e.getMessage());
-            return ResponseEntity.internalServerError().body(response);
+            return CompletableFuture.completedFuture(passwordChangeFailed(e));
+        }
+    }
+
+    private ResponseEntity<?> passwordChangeFailed(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "ERROR");
+        if (cause instanceof RejectedExecutionException) {
+            response.put("message", "Server is busy, please try again");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
         }
+        log.error("Error changing password", cause);
+        
+        response.put("message", "Failed to change password: " + cause.getMessage());
+        return ResponseEntity.internalServerError().body(response);
     }
-}
\ No newline at end of file
+}
@@ -1,35 +1,88 @@
 package com.servicenest.controller;
 
+import com.servicenest.dto.AvailabilityRequest;
+import com.servicenest.dto.ProfileResponse;
 import com.servicenest.dto.RegistrationRequest;
+import com.servicenest.dto.RegistrationResponse;
+import com.servicenest.dto.ServiceSlot;
+import com.servicenest.dto.WorkerDashboardResponse;
+import com.servicenest.dto.WorkerEarningsResponse;
+import com.servicenest.dto.WorkerProfileView;
+import com.servicenest.dto.WorkerSearchPage;
 import com.servicenest.model.User;
 import com.servicenest.model.WorkerProfile;
 import com.servicenest.repository.UserRepository;
 import com.servicenest.repository.WorkerProfileRepository;
+import com.servicenest.service.AccountCache;
+import com.servicenest.service.PasswordHasher;
+import com.servicenest.service.WorkerEarningsLedger;
+import com.servicenest.service.WorkerRatingStats;
+import com.servicenest.service.WorkerSchedule;
+import com.servicenest.service.WorkerSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/worker")
 @CrossOrigin("*")
 public class WorkerProfileController {
 
+    private static final Logger log = LoggerFactory.getLogger(WorkerProfileController.class);
+
     @Autowired
     private WorkerProfileRepository workerProfileRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private WorkerSearchIndex workerSearchIndex;
+
+    @Autowired
+    private WorkerRatingStats workerRatingStats;
+
+    @Autowired
+    private WorkerEarningsLedger workerEarningsLedger;
+
+    @Autowired
+    private AccountCache accountCache;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private WorkerSchedule workerSchedule;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final DateTimeFormatter HOURS = DateTimeFormatter.ofPattern("h:mm a", Locale.ENGLISH);
+
     /**
      * ✅ CREATE WORKER PROFILE (Separate from user registration)
      */
     @PostMapping("/create-profile")
     public ResponseEntity<?> createWorkerProfile(@RequestBody RegistrationRequest request) {
-        System.out.println("=== CREATE WORKER PROFILE ===");
-        System.out.println("Email: " + request.getEmail());
+        log.debug("Create worker profile: email={}", request.getEmail());
         
         Map<String, Object> response = new HashMap<>();
         
@@ -77,26 +130,20 @@ public class WorkerProfileController {
             profile.setSkills(request.getSkills() != null ? request.getSkills().trim() : "");
 
             WorkerProfile savedProfile = workerProfileRepository.save(profile);
-            System.out.println("Worker profile created for: " + savedProfile.getEmail());
+            accountCache.evictWorkerProfile(email);
+            workerSearchIndex.index(savedProfile);
+            log.info("Worker profile created for: {}", savedProfile.getEmail());
 
             // Update user role to WORKER
             user.setRole("WORKER");
             userRepository.save(user);
+            accountCache.evictUser(email);
 
-            response.put("status", "SUCCESS");
-            response.put("message", "Worker profile created successfully");
-            response.put("profile", Map.of(
-                "email", savedProfile.getEmail(),
-                "professionalTitle", savedProfile.getProfessionalTitle(),
-                "experience", savedProfile.getExperience(),
-                "phoneNumber", savedProfile.getPhoneNumber()
-            ));
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ProfileResponse.of("Worker profile created successfully",
+                WorkerProfileView.from(savedProfile, user)));
             
         } catch (Exception e) {
-            System.out.println("Error creating worker profile: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error creating worker profile", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to create worker profile: " + e.getMessage());
@@ -109,41 +156,23 @@ public class WorkerProfileController {
      */
     @GetMapping("/profile/{email}")
     public ResponseEntity<?> getWorkerProfile(@PathVariable String email) {
-        System.out.println("=== GET WORKER PROFILE DETAILS ===");
+        log.debug("Get worker profile details: email={}", email);
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            WorkerProfile profile = workerProfileRepository.findByEmail(email);
+            WorkerProfile profile = accountCache.findWorkerProfile(email);
             if (profile == null) {
                 response.put("status", "ERROR");
                 response.put("message", "Worker profile not found");
                 return ResponseEntity.badRequest().body(response);
             }
 
-            // Get user details
-            User user = userRepository.findByEmail(email);
-            
-            Map<String, Object> profileData = new HashMap<>();
-            profileData.put("email", profile.getEmail());
-            profileData.put("professionalTitle", profile.getProfessionalTitle());
-            profileData.put("experience", profile.getExperience());
-            profileData.put("phoneNumber", profile.getPhoneNumber());
-            profileData.put("serviceAreas", profile.getServiceAreas());
-            profileData.put("hourlyRate", profile.getHourlyRate());
-            profileData.put("skills", profile.getSkills());
-            profileData.put("bio", profile.getBio());
-            profileData.put("userRole", user != null ? user.getRole() : "UNKNOWN");
-
-            response.put("status", "SUCCESS");
-            response.put("message", "Worker profile retrieved successfully");
-            response.put("profile", profileData);
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ProfileResponse.of("Worker profile retrieved successfully",
+                WorkerProfileView.from(profile, accountCache.findUser(email))));
             
         } catch (Exception e) {
-            System.out.println("Error retrieving worker profile: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error retrieving worker profile", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to retrieve worker profile: " + e.getMessage());
@@ -152,12 +181,11 @@ public class WorkerProfileController {
     }
     /**
      * ✅ COMBINED REGISTRATION - Handles both USER and WORKER registration
+     * (the password is hashed on the hashing pool, and the account saved once it finishes)
      */
     @PostMapping("/register-combined")
-    public ResponseEntity<Map<String, Object>> registerCombined(@RequestBody Map<String, Object> request) {
-        System.out.println("=== COMBINED REGISTRATION ===");
-        System.out.println("Email: " + request.get("email"));
-        System.out.println("Role: " + request.get("role"));
+    public CompletableFuture<ResponseEntity<?>> registerCombined(@RequestBody Map<String, Object> request) {
+        log.debug("Combined registration: email={}, role={}", request.get("email"), request.get("role"));
         
         Map<String, Object> response = new HashMap<>();
         
@@ -171,92 +199,101 @@ public class WorkerProfileController {
             if (email == null || email.isEmpty() || password == null || password.isEmpty() || role == null || role.isEmpty()) {
                 response.put("status", "ERROR");
                 response.put("message", "Email, password and role are required");
-                return ResponseEntity.badRequest().body(response);
-            }
-            
-            // Check if email already exists
-            User existingUser = userRepository.findByEmail(email);
-            if (existingUser != null) {
-                response.put("status", "ERROR");
-                response.put("message", "Email already exists");
-                return ResponseEntity.badRequest().body(response);
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
             }
             
-            // Create and save user
-            User user = new User();
-            user.setEmail(email);
-            user.setPassword(password);
-            user.setRole(role);
-            
-            User savedUser = userRepository.save(user);
-            System.out.println("User created with ID: " + savedUser.getId());
-            
-            // If role is WORKER, create worker profile
+            // Validate worker-specific fields before anything is hashed or saved
             if ("WORKER".equals(role)) {
-                // Validate worker-specific fields
                 String professionalTitle = (String) request.get("professionalTitle");
                 String phoneNumber = (String) request.get("phoneNumber");
                 
                 if (professionalTitle == null || professionalTitle.trim().isEmpty()) {
                     response.put("status", "ERROR");
                     response.put("message", "Professional title is required for service providers");
-                    return ResponseEntity.badRequest().body(response);
+                    return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
                 }
                 if (phoneNumber == null || phoneNumber.trim().isEmpty()) {
                     response.put("status", "ERROR");
                     response.put("message", "Phone number is required for service providers");
-                    return ResponseEntity.badRequest().body(response);
+                    return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
                 }
-                
-                // Create worker profile
-                WorkerProfile profile = new WorkerProfile();
-                profile.setEmail(email);
-                profile.setProfessionalTitle(professionalTitle.trim());
-                profile.setExperience((String) request.get("experience"));
-                profile.setPhoneNumber(phoneNumber.trim());
-                profile.setServiceAreas((String) request.get("serviceAreas"));
-                profile.setHourlyRate(request.get("hourlyRate") != null ? 
-                    Double.parseDouble(request.get("hourlyRate").toString()) : 0.0);
-                profile.setSkills((String) request.get("skills"));
-                profile.setBio((String) request.get("bio"));
-                
-                // You need to autowire WorkerProfileRepository in UserController
-                // @Autowired
-                // private WorkerProfileRepository workerProfileRepository;
-                WorkerProfile savedProfile = workerProfileRepository.save(profile);
-                System.out.println("Worker profile created for: " + savedProfile.getEmail());
-                
-                response.put("workerProfile", Map.of(
-                    "professionalTitle", savedProfile.getProfessionalTitle(),
-                    "experience", savedProfile.getExperience()
-                ));
             }
             
-            response.put("status", "SUCCESS");
-            response.put("message", "Registration successful");
-            response.put("user", Map.of(
-                "email", savedUser.getEmail(),
-                "role", savedUser.getRole(),
-                "id", savedUser.getId()
-            ));
+            // Check if email already exists
+            User existingUser = userRepository.findByEmail(email);
+            if (existingUser != null) {
+                response.put("status", "ERROR");
+                response.put("message", "Email already exists");
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
+            }
             
-            return ResponseEntity.ok(response);
+            return passwordHasher.encode(password)
+                    .<ResponseEntity<?>>thenApply(passwordHash -> saveAccount(request, email, role, passwordHash))
+                    .exceptionally(this::registrationFailed);
+            
+        } catch (RejectedExecutionException e) {
+            log.warn("Registration rejected for {}: password hashing queue is full", request.get("email"));
+            response.put("status", "ERROR");
+            response.put("message", "Server is busy, please try again");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response));
             
         } catch (Exception e) {
-            System.out.println("Error during combined registration: " + e.getMessage());
-            e.printStackTrace();
+            return CompletableFuture.completedFuture(registrationFailed(e));
+        }
+    }
+
+    // Runs on the hashing thread once the password hash is ready
+    private ResponseEntity<?> saveAccount(Map<String, Object> request, String email, String role, String passwordHash) {
+        // Create and save user
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword(passwordHash);
+        user.setRole(role);
+        
+        User savedUser = userRepository.save(user);
+        accountCache.evictUser(email);
+        log.info("User created with ID: {}", savedUser.getId());
+        
+        // If role is WORKER, create worker profile
+        WorkerProfileView workerProfile = null;
+        if ("WORKER".equals(role)) {
+            WorkerProfile profile = new WorkerProfile();
+            profile.setEmail(email);
+            profile.setProfessionalTitle(((String) request.get("professionalTitle")).trim());
+            profile.setExperience((String) request.get("experience"));
+            profile.setPhoneNumber(((String) request.get("phoneNumber")).trim());
+            profile.setServiceAreas((String) request.get("serviceAreas"));
+            profile.setHourlyRate(request.get("hourlyRate") != null ? 
+                Double.parseDouble(request.get("hourlyRate").toString()) : 0.0);
+            profile.setSkills((String) request.get("skills"));
+            profile.setBio((String) request.get("bio"));
             
-            response.put("status", "ERROR");
-            response.put("message", "Registration failed: " + e.getMessage());
-            return ResponseEntity.internalServerError().body(response);
+            WorkerProfile savedProfile = workerProfileRepository.save(profile);
+            accountCache.evictWorkerProfile(email);
+            workerSearchIndex.index(savedProfile);
+            log.info("Worker profile created for: {}", savedProfile.getEmail());
+            
+            workerProfile = WorkerProfileView.from(savedProfile, savedUser);
         }
+        
+        return ResponseEntity.ok(RegistrationResponse.of(savedUser, workerProfile));
+    }
+
+    private ResponseEntity<?> registrationFailed(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        log.error("Error during combined registration", cause);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "ERROR");
+        response.put("message", "Registration failed: " + cause.getMessage());
+        return ResponseEntity.internalServerError().body(response);
     }
     /**
      * ✅ UPDATE WORKER PROFILE
      */
     @PutMapping("/profile/{email}")
     public ResponseEntity<?> updateWorkerProfile(@PathVariable String email, @RequestBody WorkerProfile profileData) {
-        System.out.println("=== UPDATE WORKER PROFILE ===");
+        log.debug("Update worker profile: email={}", email);
         
         Map<String, Object> response = new HashMap<>();
         
@@ -292,20 +329,14 @@ public class WorkerProfileController {
             }
 
             WorkerProfile savedProfile = workerProfileRepository.save(profile);
+            accountCache.evictWorkerProfile(email);
+            workerSearchIndex.index(savedProfile);
 
-            response.put("status", "SUCCESS");
-            response.put("message", "Worker profile updated successfully");
-            response.put("profile", Map.of(
-                "professionalTitle", savedProfile.getProfessionalTitle(),
-                "experience", savedProfile.getExperience(),
-                "phoneNumber", savedProfile.getPhoneNumber()
-            ));
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ProfileResponse.of("Worker profile updated successfully",
+                WorkerProfileView.from(savedProfile, accountCache.findUser(email))));
             
         } catch (Exception e) {
-            System.out.println("Error updating worker profile: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error updating worker profile", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to update worker profile: " + e.getMessage());
@@ -318,42 +349,36 @@ public class WorkerProfileController {
      */
     @GetMapping("/dashboard/{email}")
     public ResponseEntity<?> getWorkerDashboard(@PathVariable String email) {
-        System.out.println("=== GET WORKER DASHBOARD ===");
+        log.debug("Get worker dashboard: email={}", email);
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            WorkerProfile profile = workerProfileRepository.findByEmail(email);
+            WorkerProfile profile = accountCache.findWorkerProfile(email);
             if (profile == null) {
                 response.put("status", "ERROR");
                 response.put("message", "Worker profile not found");
                 return ResponseEntity.badRequest().body(response);
             }
 
-            // Mock dashboard data
-            Map<String, Object> dashboard = new HashMap<>();
-            dashboard.put("totalEarnings", 12500.0);
-            dashboard.put("monthlyEarnings", 8500.0);
-            dashboard.put("completedJobs", 25);
-            dashboard.put("pendingJobs", 3);
-            dashboard.put("avgRating", 4.8);
-            dashboard.put("responseRate", "95%");
-            dashboard.put("repeatClients", 15);
-            dashboard.put("profileCompletion", "85%");
-
-            response.put("status", "SUCCESS");
-            response.put("message", "Dashboard data retrieved successfully");
-            response.put("dashboard", dashboard);
-            response.put("workerInfo", Map.of(
-                "professionalTitle", profile.getProfessionalTitle(),
-                "experience", profile.getExperience(),
-                "hourlyRate", profile.getHourlyRate()
-            ));
+            WorkerEarningsLedger.Summary earnings = workerEarningsLedger.summarize(email);
+            WorkerRatingStats.Snapshot rating = workerRatingStats.get(email);
             
-            return ResponseEntity.ok(response);
+            WorkerDashboardResponse.Dashboard dashboard = new WorkerDashboardResponse.Dashboard(
+                earnings.getTotalEarnings(),
+                earnings.getMonthlyEarnings(),
+                earnings.getCompletedJobs(),
+                earnings.getPendingJobs(),
+                Math.round(rating.getAverage() * 10.0) / 10.0,
+                rating.getCount(),
+                profileCompletion(profile) + "%");
+            WorkerDashboardResponse.WorkerInfo workerInfo = new WorkerDashboardResponse.WorkerInfo(
+                profile.getProfessionalTitle(), profile.getExperience(), profile.getHourlyRate());
+            
+            return ResponseEntity.ok(WorkerDashboardResponse.of("Dashboard data retrieved successfully", dashboard, workerInfo));
             
         } catch (Exception e) {
-            System.out.println("Error retrieving dashboard: " + e.getMessage());
+            log.error("Error retrieving dashboard", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to retrieve dashboard data: " + e.getMessage());
@@ -361,6 +386,40 @@ public class WorkerProfileController {
         }
     }
 
+    /**
+     * ✅ GET WORKER EARNINGS (from daily rollups)
+     */
+    @GetMapping("/earnings/{email}")
+    public ResponseEntity<?> getWorkerEarnings(@PathVariable String email) {
+        log.debug("Get worker earnings: email={}", email);
+        
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            WorkerEarningsLedger.Summary summary = workerEarningsLedger.summarize(email);
+            WorkerRatingStats.Snapshot rating = workerRatingStats.get(email);
+            
+            WorkerEarningsResponse.Earnings earnings = new WorkerEarningsResponse.Earnings(
+                summary.getTotalEarnings(),
+                summary.getMonthlyEarnings(),
+                summary.getWeeklyEarnings(),
+                summary.getPendingEarnings(),
+                summary.getCompletedJobs(),
+                summary.getPendingJobs(),
+                Math.round(rating.getAverage() * 10.0) / 10.0,
+                summary.getMonthlyBreakdown());
+            
+            return ResponseEntity.ok(WorkerEarningsResponse.of("Earnings retrieved successfully", earnings));
+            
+        } catch (Exception e) {
+            log.error("Error retrieving earnings", e);
+            
+            response.put("status", "ERROR");
+            response.put("message", "Failed to retrieve earnings: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
     /**
      * ✅ SEARCH WORKERS BY SERVICE
      */
@@ -368,30 +427,29 @@ public class WorkerProfileController {
     public ResponseEntity<?> searchWorkers(
             @RequestParam(required = false) String service,
             @RequestParam(required = false) String location,
-            @RequestParam(required = false) Double maxRate) {
+            @RequestParam(required = false) Double maxRate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         
-        System.out.println("=== SEARCH WORKERS ===");
-        System.out.println("Service: " + service + ", Location: " + location + ", Max Rate: " + maxRate);
+        log.debug("Search workers: service={}, location={}, maxRate={}", service, location, maxRate);
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            // Mock search results - in real app, implement proper search logic
-            Map<String, Object>[] workers = new Map[] {
-                createWorkerResult("plumber@example.com", "Senior Plumber", "Plumbing", "Chennai", 500.0, 4.8, "5-10 years"),
-                createWorkerResult("electrician@example.com", "Certified Electrician", "Electrical", "Chennai", 400.0, 4.9, "3-5 years"),
-                createWorkerResult("ac@example.com", "AC Technician", "AC Service", "Chennai", 600.0, 4.7, "1-3 years")
-            };
-
-            response.put("status", "SUCCESS");
-            response.put("message", "Workers found successfully");
-            response.put("results", workers);
-            response.put("totalCount", workers.length);
+            int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+            WorkerSearchIndex.Result result = workerSearchIndex.search(
+                service, location, maxRate, Math.max(0, page), pageSize);
             
-            return ResponseEntity.ok(response);
+            List<WorkerSearchPage.Worker> workers = new ArrayList<>(result.getWorkers().size());
+            for (WorkerSearchIndex.Entry entry : result.getWorkers()) {
+                workers.add(createWorkerResult(entry));
+            }
+            
+            return ResponseEntity.ok(WorkerSearchPage.of("Workers found successfully", workers,
+                result.getTotalCount(), Math.max(0, page), pageSize));
             
         } catch (Exception e) {
-            System.out.println("Error searching workers: " + e.getMessage());
+            log.error("Error searching workers", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to search workers: " + e.getMessage());
@@ -404,38 +462,42 @@ public class WorkerProfileController {
      */
     @GetMapping("/availability/{email}")
     public ResponseEntity<?> getWorkerAvailability(@PathVariable String email) {
-        System.out.println("=== GET WORKER AVAILABILITY ===");
+        log.debug("Get worker availability: email={}", email);
         
         Map<String, Object> response = new HashMap<>();
         
         try {
-            WorkerProfile profile = workerProfileRepository.findByEmail(email);
+            WorkerProfile profile = accountCache.findWorkerProfile(email);
             if (profile == null) {
                 response.put("status", "ERROR");
                 response.put("message", "Worker profile not found");
                 return ResponseEntity.badRequest().body(response);
             }
 
-            // Mock availability data
-            Map<String, Object> availability = new HashMap<>();
-            availability.put("monday", "9:00 AM - 6:00 PM");
-            availability.put("tuesday", "9:00 AM - 6:00 PM");
-            availability.put("wednesday", "9:00 AM - 6:00 PM");
-            availability.put("thursday", "9:00 AM - 6:00 PM");
-            availability.put("friday", "9:00 AM - 6:00 PM");
-            availability.put("saturday", "10:00 AM - 4:00 PM");
-            availability.put("sunday", "Not Available");
-            availability.put("emergencyService", true);
-            availability.put("responseTime", "Within 2 hours");
+            Map<String, Object> availability = new LinkedHashMap<>();
+            Map<DayOfWeek, List<WorkerSchedule.Window>> weekly = workerSchedule.weeklyHours(email);
+            for (DayOfWeek day : DayOfWeek.values()) {
+                availability.put(day.name().toLowerCase(),
+                    describe(weekly.getOrDefault(day, List.of())));
+            }
+
+            List<Map<String, Object>> exceptions = new ArrayList<>();
+            workerSchedule.upcomingExceptions(email).forEach((date, windows) -> {
+                Map<String, Object> exception = new HashMap<>();
+                exception.put("date", date.toString());
+                exception.put("hours", describe(windows));
+                exceptions.add(exception);
+            });
 
             response.put("status", "SUCCESS");
             response.put("message", "Availability retrieved successfully");
             response.put("availability", availability);
+            response.put("exceptions", exceptions);
             
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            System.out.println("Error retrieving availability: " + e.getMessage());
+            log.error("Error retrieving availability", e);
             
             response.put("status", "ERROR");
             response.put("message", "Failed to retrieve availability: " + e.getMessage());
@@ -443,18 +505,167 @@ public class WorkerProfileController {
         }
     }
 
+    /**
+     * ✅ SAVE WORKER AVAILABILITY (weekly hours, plus date exceptions when sent)
+     */
+    @PutMapping("/availability/{email}")
+    public ResponseEntity<?> updateWorkerAvailability(@PathVariable String email,
+                                                      @RequestBody AvailabilityRequest request) {
+        log.debug("Update worker availability: email={}", email);
+        
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            if (accountCache.findWorkerProfile(email) == null) {
+                response.put("status", "ERROR");
+                response.put("message", "Worker profile not found");
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            Map<DayOfWeek, List<WorkerSchedule.Window>> weekly = new EnumMap<>(DayOfWeek.class);
+            List<WorkerSchedule.Window> daily = windows(request.getStartTime(), request.getEndTime(),
+                request.getBreakStart(), request.getBreakEnd());
+            if (request.getDays() != null) {
+                for (String day : request.getDays()) {
+                    weekly.put(DayOfWeek.valueOf(day.trim().toUpperCase()), daily);
+                }
+            }
+
+            Map<LocalDate, List<WorkerSchedule.Window>> dated = null;
+            if (request.getExceptions() != null) {
+                dated = new TreeMap<>();
+                for (AvailabilityRequest.DateException exception : request.getExceptions()) {
+                    List<WorkerSchedule.Window> hours = exception.getStartTime() == null || exception.getStartTime().isBlank()
+                        ? List.of()
+                        : windows(exception.getStartTime(), exception.getEndTime(), null, null);
+                    dated.merge(LocalDate.parse(exception.getDate()), hours, (a, b) -> {
+                        List<WorkerSchedule.Window> merged = new ArrayList<>(a);
+                        merged.addAll(b);
+                        return merged;
+                    });
+                }
+            }
+
+            workerSchedule.saveAvailability(email, weekly, dated);
+            
+            log.info("Availability saved for worker: {}", email);
+
+            response.put("status", "SUCCESS");
+            response.put("message", "Availability saved successfully");
+            return ResponseEntity.ok(response);
+            
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            response.put("status", "ERROR");
+            response.put("message", "Invalid availability: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+            
+        } catch (Exception e) {
+            log.error("Error saving availability", e);
+            
+            response.put("status", "ERROR");
+            response.put("message", "Failed to save availability: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    /**
+     * ✅ FIND WORKERS FREE FOR A SLOT (working then and clear of other jobs, ranked like search)
+     */
+    @GetMapping("/free")
+    public ResponseEntity<?> findFreeWorkers(
+            @RequestParam String date,
+            @RequestParam String time,
+            @RequestParam(required = false) String service,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Double maxRate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.debug("Find free workers: date={}, time={}, service={}, location={}", date, time, service, location);
+        
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            ServiceSlot slot = ServiceSlot.parse(date, time);
+            int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+            WorkerSearchIndex.Result result = workerSearchIndex.search(service, location, maxRate,
+                entry -> workerSchedule.isFree(entry.getEmail(), slot.start(), slot.end()),
+                Math.max(0, page), pageSize);
+            
+            List<WorkerSearchPage.Worker> workers = new ArrayList<>(result.getWorkers().size());
+            for (WorkerSearchIndex.Entry entry : result.getWorkers()) {
+                workers.add(createWorkerResult(entry));
+            }
+            
+            return ResponseEntity.ok(WorkerSearchPage.of("Free workers found successfully", workers,
+                result.getTotalCount(), Math.max(0, page), pageSize));
+            
+        } catch (IllegalArgumentException e) {
+            response.put("status", "ERROR");
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+            
+        } catch (Exception e) {
+            log.error("Error finding free workers", e);
+            
+            response.put("status", "ERROR");
+            response.put("message", "Failed to find free workers: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
     // Helper methods
-    private Map<String, Object> createWorkerResult(String email, String title, String service, String location, 
-                                                 Double rate, Double rating, String experience) {
-        Map<String, Object> worker = new HashMap<>();
-        worker.put("email", email);
-        worker.put("professionalTitle", title);
-        worker.put("service", service);
-        worker.put("location", location);
-        worker.put("hourlyRate", rate);
-        worker.put("rating", rating);
-        worker.put("experience", experience);
-        worker.put("completedJobs", 25);
-        return worker;
+    // Share of the profile fields the worker has filled in
+    private int profileCompletion(WorkerProfile profile) {
+        Object[] fields = {
+            profile.getProfessionalTitle(), profile.getExperience(), profile.getBio(), profile.getHourlyRate(),
+            profile.getServiceAreas(), profile.getPhoneNumber(), profile.getSkills()
+        };
+        int filled = 0;
+        for (Object field : fields) {
+            if (field != null && !field.toString().trim().isEmpty()) {
+                filled++;
+            }
+        }
+        return filled * 100 / fields.length;
+    }
+
+    // Working windows from "HH:mm" bounds, split around the break when one falls inside them
+    private List<WorkerSchedule.Window> windows(String start, String end, String breakStart, String breakEnd) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end times are required");
+        }
+        LocalTime from = LocalTime.parse(start.trim());
+        LocalTime to = LocalTime.parse(end.trim());
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("Hours must end after they start");
+        }
+        if (breakStart == null || breakStart.isBlank() || breakEnd == null || breakEnd.isBlank()) {
+            return List.of(new WorkerSchedule.Window(from, to));
+        }
+        LocalTime pauseFrom = LocalTime.parse(breakStart.trim());
+        LocalTime pauseTo = LocalTime.parse(breakEnd.trim());
+        if (!pauseFrom.isAfter(from) || !pauseTo.isBefore(to) || !pauseTo.isAfter(pauseFrom)) {
+            throw new IllegalArgumentException("Break must fall inside working hours");
+        }
+        return List.of(new WorkerSchedule.Window(from, pauseFrom), new WorkerSchedule.Window(pauseTo, to));
+    }
+
+    // "9:00 AM - 1:00 PM, 2:00 PM - 6:00 PM", or "Not Available"
+    private String describe(List<WorkerSchedule.Window> windows) {
+        if (windows.isEmpty()) {
+            return "Not Available";
+        }
+        List<String> parts = new ArrayList<>();
+        for (WorkerSchedule.Window window : windows) {
+            parts.add(HOURS.format(window.start()) + " - " + HOURS.format(window.end()));
+        }
+        return String.join(", ", parts);
+    }
+
+    private WorkerSearchPage.Worker createWorkerResult(WorkerSearchIndex.Entry entry) {
+        return new WorkerSearchPage.Worker(entry.getEmail(), entry.getProfessionalTitle(), entry.getSkillsText(),
+            entry.getServiceAreasText(), entry.getHourlyRate(), Math.round(entry.getRating() * 100.0) / 100.0,
+            entry.getExperience());
     }
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.servicenest.controller;
+
+import com.servicenest.config.SessionTokenFilter;
+import com.servicenest.dto.WorkerRatingPage;
+import com.servicenest.dto.WorkerRatingResponse;
+import com.servicenest.dto.WorkerRatingView;
+import com.servicenest.model.Booking;
+import com.servicenest.model.WorkerRating;
+import com.servicenest.repository.BookingRepository;
+import com.servicenest.repository.WorkerRatingRepository;
+import com.servicenest.service.SessionTokens;
+import com.servicenest.service.WorkerRatingStats;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/worker-ratings")
+@CrossOrigin("*")
+public class WorkerRatingController {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkerRatingController.class);
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private WorkerRatingRepository workerRatingRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private WorkerRatingStats workerRatingStats;
+
+    /**
+     * ✅ RATE THE WORKER OF A COMPLETED BOOKING
+     */
+    @PostMapping
+    public ResponseEntity<?> submitRating(@RequestBody WorkerRating rating, HttpServletRequest request) {
+        log.debug("Submit worker rating: bookingId={}, rating={}", rating.getBookingId(), rating.getRating());
+
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            // The reviewer is whoever is logged in, never what the body claims
+            SessionTokens.Session session = SessionTokenFilter.session(request);
+            if (session == null) {
+                response.put("status", "ERROR");
+                response.put("message", "Login required");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+            }
+
+            // Validate input
+            if (rating.getBookingId() == null ||
+                rating.getRating() == null || rating.getRating() < 1 || rating.getRating() > 5) {
+
+                response.put("status", "ERROR");
+                response.put("message", "Invalid rating data");
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            Optional<Booking> optionalBooking = bookingRepository.findById(rating.getBookingId());
+            if (optionalBooking.isEmpty()) {
+                response.put("status", "ERROR");
+                response.put("message", "Booking not found");
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            // Only the customer of a completed booking can rate the worker who did it
+            Booking booking = optionalBooking.get();
+            if (!booking.getCustomerEmail().equalsIgnoreCase(session.getEmail())) {
+                response.put("status", "ERROR");
+                response.put("message", "Only the customer of this booking can rate it");
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+            }
+
+            if (!"completed".equals(booking.getStatus()) || booking.getAssignedWorker() == null) {
+                response.put("status", "ERROR");
+                response.put("message", "Only completed bookings can be rated");
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            if (workerRatingRepository.existsByBookingId(booking.getId())) {
+                response.put("status", "ERROR");
+                response.put("message", "This booking has already been rated");
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            rating.setId(null);
+            rating.setCustomerEmail(booking.getCustomerEmail());
+            rating.setWorkerEmail(booking.getAssignedWorker());
+            if (rating.getCustomerName() == null) {
+                rating.setCustomerName(booking.getCustomerName());
+            }
+
+            WorkerRating savedRating = workerRatingStats.submit(rating);
+
+            return ResponseEntity.ok(WorkerRatingResponse.of("Rating submitted successfully", savedRating,
+                createSummary(booking.getAssignedWorker())));
+
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a duplicate submission for the same booking
+            response.put("status", "ERROR");
+            response.put("message", "This booking has already been rated");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+
+        } catch (Exception e) {
+            log.error("Error submitting worker rating", e);
+
+            response.put("status", "ERROR");
+            response.put("message", "Failed to submit rating: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    /**
+     * ✅ GET WORKER RATINGS (paged, summary from the maintained totals)
+     */
+    @GetMapping("/worker/{email}")
+    public ResponseEntity<?> getWorkerRatings(
+            @PathVariable String email,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        log.debug("Get worker ratings: email={}", email);
+
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            int pageNumber = Math.max(0, page);
+
+            Slice<WorkerRating> ratings = workerRatingRepository.findByWorkerEmailOrderByCreatedAtDescIdDesc(
+                email, PageRequest.of(pageNumber, pageSize));
+
+            List<WorkerRatingView> views = new ArrayList<>(ratings.getNumberOfElements());
+            for (WorkerRating workerRating : ratings) {
+                views.add(WorkerRatingView.from(workerRating));
+            }
+
+            return ResponseEntity.ok(WorkerRatingPage.of("Worker ratings retrieved successfully", views,
+                pageNumber, pageSize, ratings.hasNext(), createSummary(email)));
+
+        } catch (Exception e) {
+            log.error("Error retrieving worker ratings", e);
+
+            response.put("status", "ERROR");
+            response.put("message", "Failed to retrieve worker ratings: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    private WorkerRatingPage.Summary createSummary(String workerEmail) {
+        WorkerRatingStats.Snapshot snapshot = workerRatingStats.get(workerEmail);
+        return new WorkerRatingPage.Summary(
+            Math.round(snapshot.getAverage() * 10.0) / 10.0,
+            snapshot.getCount(),
+            Math.round(workerRatingStats.score(snapshot) * 100.0) / 100.0);
+    }
+}
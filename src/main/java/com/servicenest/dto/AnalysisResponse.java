@@ -0,0 +1,11 @@
+package com.servicenest.dto;
+
+/**
+ * Success body of /api/ai/analysis.
+ */
+public record AnalysisResponse(String status, String message, ServiceAnalysis analysis) {
+
+    public static AnalysisResponse of(String message, ServiceAnalysis analysis) {
+        return new AnalysisResponse("SUCCESS", message, analysis);
+    }
+}
@@ -0,0 +1,57 @@
+package com.servicenest.dto;
+
+import java.util.List;
+
+/**
+ * Body of PUT /api/worker/availability/{email}, as the schedule page's availability form sends it:
+ * working days, daily hours with an optional break, and optionally the date exceptions ("HH:mm" times).
+ */
+public class AvailabilityRequest {
+    private List<String> days;
+    private String startTime;
+    private String endTime;
+    private String breakStart;
+    private String breakEnd;
+    private List<DateException> exceptions;
+
+    // Default constructor
+    public AvailabilityRequest() {}
+
+    public List<String> getDays() { return days; }
+    public void setDays(List<String> days) { this.days = days; }
+
+    public String getStartTime() { return startTime; }
+    public void setStartTime(String startTime) { this.startTime = startTime; }
+
+    public String getEndTime() { return endTime; }
+    public void setEndTime(String endTime) { this.endTime = endTime; }
+
+    public String getBreakStart() { return breakStart; }
+    public void setBreakStart(String breakStart) { this.breakStart = breakStart; }
+
+    public String getBreakEnd() { return breakEnd; }
+    public void setBreakEnd(String breakEnd) { this.breakEnd = breakEnd; }
+
+    public List<DateException> getExceptions() { return exceptions; }
+    public void setExceptions(List<DateException> exceptions) { this.exceptions = exceptions; }
+
+    /**
+     * Hours for one date instead of the weekly ones; no times means the day off.
+     */
+    public static class DateException {
+        private String date;
+        private String startTime;
+        private String endTime;
+
+        public DateException() {}
+
+        public String getDate() { return date; }
+        public void setDate(String date) { this.date = date; }
+
+        public String getStartTime() { return startTime; }
+        public void setStartTime(String startTime) { this.startTime = startTime; }
+
+        public String getEndTime() { return endTime; }
+        public void setEndTime(String endTime) { this.endTime = endTime; }
+    }
+}
@@ -0,0 +1,20 @@
+package com.servicenest.dto;
+
+import java.util.List;
+
+/**
+ * One page of a booking list, of {@link BookingSummary} or {@link BookingView} depending on the endpoint.
+ * nextCursor is null on the last page.
+ */
+public record BookingPage<T>(
+        String status,
+        String message,
+        List<T> bookings,
+        int count,
+        boolean hasMore,
+        String nextCursor) {
+
+    public static <T> BookingPage<T> of(String message, List<T> bookings, boolean hasMore, String nextCursor) {
+        return new BookingPage<>("SUCCESS", message, bookings, bookings.size(), hasMore, nextCursor);
+    }
+}
@@ -0,0 +1,93 @@
+package com.servicenest.dto;
+
+/**
+ * Body of POST /api/bookings, as the booking form sends it. The slot arrives as the form's date and
+ * time strings and is stored as a typed start and end.
+ */
+public class BookingRequest {
+    private String serviceType;
+    private String customerName;
+    private String customerEmail;
+    private String customerPhone;
+    private String serviceDate;
+    private String serviceTime;
+    private String serviceAddress;
+    private Double price;
+
+    // Default constructor
+    public BookingRequest() {}
+
+    public String getServiceType() {
+        return serviceType;
+    }
+
+    public void setServiceType(String serviceType) {
+        this.serviceType = serviceType;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public void setCustomerEmail(String customerEmail) {
+        this.customerEmail = customerEmail;
+    }
+
+    public String getCustomerPhone() {
+        return customerPhone;
+    }
+
+    public void setCustomerPhone(String customerPhone) {
+        this.customerPhone = customerPhone;
+    }
+
+    public String getServiceDate() {
+        return serviceDate;
+    }
+
+    public void setServiceDate(String serviceDate) {
+        this.serviceDate = serviceDate;
+    }
+
+    public String getServiceTime() {
+        return serviceTime;
+    }
+
+    public void setServiceTime(String serviceTime) {
+        this.serviceTime = serviceTime;
+    }
+
+    public String getServiceAddress() {
+        return serviceAddress;
+    }
+
+    public void setServiceAddress(String serviceAddress) {
+        this.serviceAddress = serviceAddress;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public void setPrice(Double price) {
+        this.price = price;
+    }
+
+    @Override
+    public String toString() {
+        return "BookingRequest{" +
+                "serviceType='" + serviceType + '\'' +
+                ", customerName='" + customerName + '\'' +
+                ", serviceDate='" + serviceDate + '\'' +
+                ", serviceTime='" + serviceTime + '\'' +
+                '}';
+    }
+}
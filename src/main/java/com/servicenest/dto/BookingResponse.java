@@ -0,0 +1,19 @@
+package com.servicenest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.servicenest.model.Booking;
+
+/**
+ * Success body of the single-booking endpoints. bookingId is only sent when a booking is created.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BookingResponse(String status, String message, Long bookingId, BookingView booking) {
+
+    public static BookingResponse of(String message, Booking booking) {
+        return new BookingResponse("SUCCESS", message, null, BookingView.from(booking));
+    }
+
+    public static BookingResponse created(Booking booking) {
+        return new BookingResponse("SUCCESS", "Booking created successfully", booking.getId(), BookingView.from(booking));
+    }
+}
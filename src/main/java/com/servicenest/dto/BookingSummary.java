@@ -0,0 +1,42 @@
+package com.servicenest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.servicenest.model.Booking;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A booking as list views show it. The customer's email, phone and address are left out: the customer
+ * already knows them, and on the open /pending board they are only revealed once a worker claims the
+ * job. The detail endpoint still returns them.
+ */
+public record BookingSummary(
+        Long id,
+        String serviceType,
+        String customerName,
+        LocalDateTime serviceStart,
+        LocalDateTime serviceEnd,
+        String status,
+        String assignedWorker,
+        Double price,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static BookingSummary from(Booking booking) {
+        return new BookingSummary(booking.getId(), booking.getServiceType(), booking.getCustomerName(),
+                booking.getServiceStart(), booking.getServiceEnd(), booking.getStatus(),
+                booking.getAssignedWorker(), booking.getPrice(), booking.getCreatedAt(), booking.getUpdatedAt());
+    }
+
+    // The slot as the pages display it, alongside the typed start and end
+    @JsonProperty("serviceDate")
+    public LocalDate serviceDate() {
+        return serviceStart.toLocalDate();
+    }
+
+    @JsonProperty("serviceTime")
+    public String serviceTime() {
+        return ServiceSlot.label(serviceStart, serviceEnd);
+    }
+}
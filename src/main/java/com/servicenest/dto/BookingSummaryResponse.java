@@ -0,0 +1,14 @@
+package com.servicenest.dto;
+
+import com.servicenest.model.Booking;
+
+/**
+ * Success body of the detail endpoint for a worker looking at an open job they don't hold: the job as the
+ * /pending board shows it.
+ */
+public record BookingSummaryResponse(String status, String message, BookingSummary booking) {
+
+    public static BookingSummaryResponse of(String message, Booking booking) {
+        return new BookingSummaryResponse("SUCCESS", message, BookingSummary.from(booking));
+    }
+}
@@ -0,0 +1,45 @@
+package com.servicenest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.servicenest.model.Booking;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Every column of a booking, for the detail view, the mutation responses and the assigned worker's
+ * own job list, where the customer's contact details are needed.
+ */
+public record BookingView(
+        Long id,
+        String serviceType,
+        String customerName,
+        String customerEmail,
+        String customerPhone,
+        LocalDateTime serviceStart,
+        LocalDateTime serviceEnd,
+        String serviceAddress,
+        String status,
+        String assignedWorker,
+        Double price,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static BookingView from(Booking booking) {
+        return new BookingView(booking.getId(), booking.getServiceType(), booking.getCustomerName(),
+                booking.getCustomerEmail(), booking.getCustomerPhone(), booking.getServiceStart(),
+                booking.getServiceEnd(), booking.getServiceAddress(), booking.getStatus(),
+                booking.getAssignedWorker(), booking.getPrice(), booking.getCreatedAt(), booking.getUpdatedAt());
+    }
+
+    // The slot as the pages display it, alongside the typed start and end
+    @JsonProperty("serviceDate")
+    public LocalDate serviceDate() {
+        return serviceStart.toLocalDate();
+    }
+
+    @JsonProperty("serviceTime")
+    public String serviceTime() {
+        return ServiceSlot.label(serviceStart, serviceEnd);
+    }
+}
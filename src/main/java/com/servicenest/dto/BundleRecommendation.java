@@ -0,0 +1,17 @@
+package com.servicenest.dto;
+
+import java.util.List;
+
+/**
+ * A discounted package of services. savings is originalPrice - price; popularity is a percentage.
+ */
+public record BundleRecommendation(
+        String name,
+        String description,
+        double rating,
+        double price,
+        double originalPrice,
+        List<String> services,
+        double savings,
+        double aiScore,
+        long popularity) {}
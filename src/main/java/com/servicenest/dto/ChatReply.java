@@ -0,0 +1,6 @@
+package com.servicenest.dto;
+
+/**
+ * The assistant's answer to one chat message; the answer text is carried in message.
+ */
+public record ChatReply(String status, String message, String timestamp, String messageId) {}
@@ -0,0 +1,7 @@
+package com.servicenest.dto;
+
+/**
+ * One month of a worker's earnings chart; month is "yyyy-MM".
+ */
+public record MonthlyEarnings(String month, double earnings, long completedJobs) {
+}
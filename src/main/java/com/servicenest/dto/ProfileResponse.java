@@ -0,0 +1,11 @@
+package com.servicenest.dto;
+
+/**
+ * Success body of the profile endpoints, carrying a {@link UserProfileView} or {@link WorkerProfileView}.
+ */
+public record ProfileResponse<T>(String status, String message, T profile) {
+
+    public static <T> ProfileResponse<T> of(String message, T profile) {
+        return new ProfileResponse<>("SUCCESS", message, profile);
+    }
+}
@@ -0,0 +1,16 @@
+package com.servicenest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Every recommendation section shown on the AI dashboard. trending is always written, even as null:
+ * RecommendationStore stores bodies with "trending":null and splices each area's section in there.
+ */
+public record Recommendations(
+        List<ServiceRecommendation> personalized,
+        List<ServiceRecommendation> seasonal,
+        @JsonInclude(JsonInclude.Include.ALWAYS) List<ServiceRecommendation> trending,
+        List<ServiceRecommendation> predicted,
+        List<BundleRecommendation> bundles) {}
@@ -0,0 +1,11 @@
+package com.servicenest.dto;
+
+/**
+ * Success body of /api/ai/recommendations.
+ */
+public record RecommendationsResponse(String status, String message, Recommendations recommendations) {
+
+    public static RecommendationsResponse of(String message, Recommendations recommendations) {
+        return new RecommendationsResponse("SUCCESS", message, recommendations);
+    }
+}
@@ -0,0 +1,18 @@
+package com.servicenest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.servicenest.model.User;
+
+/**
+ * Success body of a registration. workerProfile is only sent when a worker signed up.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RegistrationResponse(String status, String message, Account user, WorkerProfileView workerProfile) {
+
+    public static RegistrationResponse of(User user, WorkerProfileView workerProfile) {
+        return new RegistrationResponse("SUCCESS", "Registration successful",
+                new Account(user.getEmail(), user.getRole(), user.getId()), workerProfile);
+    }
+
+    public record Account(String email, String role, Integer id) {}
+}
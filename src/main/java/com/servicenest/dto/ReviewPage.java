@@ -0,0 +1,26 @@
+package com.servicenest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A list of reviews. Paging fields and stats are only sent by the per-service listing.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReviewPage(
+        String status,
+        String message,
+        List<ReviewView> reviews,
+        Integer page,
+        Integer size,
+        Boolean hasMore,
+        Stats stats) {
+
+    public static ReviewPage of(String message, List<ReviewView> reviews) {
+        return new ReviewPage("SUCCESS", message, reviews, null, null, null, null);
+    }
+
+    public record Stats(double averageRating, long totalReviews, Map<Integer, Long> ratingDistribution) {}
+}
@@ -0,0 +1,13 @@
+package com.servicenest.dto;
+
+import com.servicenest.model.Review;
+
+/**
+ * Success body of a submitted review.
+ */
+public record ReviewResponse(String status, String message, ReviewView review) {
+
+    public static ReviewResponse of(String message, Review review) {
+        return new ReviewResponse("SUCCESS", message, ReviewView.from(review));
+    }
+}
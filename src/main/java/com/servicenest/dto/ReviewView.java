@@ -0,0 +1,23 @@
+package com.servicenest.dto;
+
+import com.servicenest.model.Review;
+
+import java.time.LocalDateTime;
+
+/**
+ * A review as it is shown publicly; the reviewer's email is left out.
+ */
+public record ReviewView(
+        Long id,
+        String serviceType,
+        String customerName,
+        Integer rating,
+        String comment,
+        String images,
+        LocalDateTime createdAt) {
+
+    public static ReviewView from(Review review) {
+        return new ReviewView(review.getId(), review.getServiceType(), review.getCustomerName(),
+                review.getRating(), review.getComment(), review.getImages(), review.getCreatedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package com.servicenest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * A customer's booking patterns. The recency fields are left out until they have booked something.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ServiceAnalysis(
+        int totalBookings,
+        Map<String, Long> serviceFrequency,
+        String favoriteService,
+        double totalSpent,
+        double averageBookingValue,
+        Long daysSinceLastService,
+        String serviceRecency) {}
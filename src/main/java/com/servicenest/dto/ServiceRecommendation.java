@@ -0,0 +1,13 @@
+package com.servicenest.dto;
+
+/**
+ * One recommended service card. aiScore is the confidence shown next to it.
+ */
+public record ServiceRecommendation(
+        String name,
+        String reason,
+        double rating,
+        double price,
+        String category,
+        double aiScore,
+        String image) {}
@@ -0,0 +1,48 @@
+package com.servicenest.dto;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * A booked service slot. Clients send and display it as the booking form's "serviceDate"
+ * ("2026-10-20") and "serviceTime" ("09:00-11:00", or just a start like "9:00").
+ */
+public record ServiceSlot(LocalDateTime start, LocalDateTime end) {
+
+    // Length of a slot given only its start, the same as the booking form's slots
+    public static final Duration DEFAULT_LENGTH = Duration.ofHours(2);
+
+    private static final DateTimeFormatter TIME_IN = DateTimeFormatter.ofPattern("H:mm");
+    private static final DateTimeFormatter TIME_OUT = DateTimeFormatter.ofPattern("HH:mm");
+
+    public static ServiceSlot parse(String date, String time) {
+        if (date == null || time == null) {
+            throw new IllegalArgumentException("Service date and time are required");
+        }
+        try {
+            LocalDate day = LocalDate.parse(date.trim());
+            String[] bounds = time.split("-", 2);
+            LocalDateTime start = day.atTime(LocalTime.parse(bounds[0].trim(), TIME_IN));
+            LocalDateTime end = bounds.length > 1
+                    ? day.atTime(LocalTime.parse(bounds[1].trim(), TIME_IN))
+                    : start.plus(DEFAULT_LENGTH);
+            if (!end.isAfter(start)) {
+                throw new IllegalArgumentException("Service time must end after it starts");
+            }
+            return new ServiceSlot(start, end);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid service date or time", e);
+        }
+    }
+
+    /**
+     * "HH:mm-HH:mm", the form the booking pages display.
+     */
+    public static String label(LocalDateTime start, LocalDateTime end) {
+        return TIME_OUT.format(start) + "-" + TIME_OUT.format(end);
+    }
+}
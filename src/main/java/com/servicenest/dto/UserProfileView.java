@@ -0,0 +1,23 @@
+package com.servicenest.dto;
+
+import com.servicenest.model.User;
+import com.servicenest.model.UserProfile;
+
+/**
+ * A customer's account and personal details.
+ */
+public record UserProfileView(
+        String email,
+        String role,
+        String firstName,
+        String lastName,
+        String phone,
+        String dateOfBirth,
+        String gender) {
+
+    public static UserProfileView from(User user, UserProfile profile) {
+        return new UserProfileView(profile.getUserEmail(), user != null ? user.getRole() : null,
+                profile.getFirstName(), profile.getLastName(), profile.getPhone(),
+                profile.getDateOfBirth(), profile.getGender());
+    }
+}
@@ -0,0 +1,22 @@
+package com.servicenest.dto;
+
+/**
+ * Success body of the worker dashboard: headline stats from the earnings rollups and rating totals.
+ */
+public record WorkerDashboardResponse(String status, String message, Dashboard dashboard, WorkerInfo workerInfo) {
+
+    public static WorkerDashboardResponse of(String message, Dashboard dashboard, WorkerInfo workerInfo) {
+        return new WorkerDashboardResponse("SUCCESS", message, dashboard, workerInfo);
+    }
+
+    public record Dashboard(
+            double totalEarnings,
+            double monthlyEarnings,
+            long completedJobs,
+            long pendingJobs,
+            double avgRating,
+            long ratingCount,
+            String profileCompletion) {}
+
+    public record WorkerInfo(String professionalTitle, String experience, Double hourlyRate) {}
+}
@@ -0,0 +1,23 @@
+package com.servicenest.dto;
+
+import java.util.List;
+
+/**
+ * Success body of the worker earnings page.
+ */
+public record WorkerEarningsResponse(String status, String message, Earnings earnings) {
+
+    public static WorkerEarningsResponse of(String message, Earnings earnings) {
+        return new WorkerEarningsResponse("SUCCESS", message, earnings);
+    }
+
+    public record Earnings(
+            double totalEarnings,
+            double monthlyEarnings,
+            double weeklyEarnings,
+            double pendingEarnings,
+            long completedJobs,
+            long pendingJobs,
+            double avgRating,
+            List<MonthlyEarnings> monthlyBreakdown) {}
+}
@@ -0,0 +1,25 @@
+package com.servicenest.dto;
+
+import com.servicenest.model.User;
+import com.servicenest.model.WorkerProfile;
+
+/**
+ * A worker's public profile.
+ */
+public record WorkerProfileView(
+        String email,
+        String professionalTitle,
+        String experience,
+        String phoneNumber,
+        String serviceAreas,
+        Double hourlyRate,
+        String skills,
+        String bio,
+        String userRole) {
+
+    public static WorkerProfileView from(WorkerProfile profile, User user) {
+        return new WorkerProfileView(profile.getEmail(), profile.getProfessionalTitle(), profile.getExperience(),
+                profile.getPhoneNumber(), profile.getServiceAreas(), profile.getHourlyRate(), profile.getSkills(),
+                profile.getBio(), user != null ? user.getRole() : "UNKNOWN");
+    }
+}
@@ -0,0 +1,26 @@
+package com.servicenest.dto;
+
+import java.util.List;
+
+/**
+ * One page of a worker's ratings, newest first, with their totals.
+ */
+public record WorkerRatingPage(
+        String status,
+        String message,
+        List<WorkerRatingView> ratings,
+        int page,
+        int size,
+        boolean hasMore,
+        Summary summary) {
+
+    public static WorkerRatingPage of(String message, List<WorkerRatingView> ratings, int page, int size,
+                                      boolean hasMore, Summary summary) {
+        return new WorkerRatingPage("SUCCESS", message, ratings, page, size, hasMore, summary);
+    }
+
+    /**
+     * Average and count of a worker's ratings, and the smoothed score they are ranked by.
+     */
+    public record Summary(double averageRating, long totalRatings, double score) {}
+}
@@ -0,0 +1,13 @@
+package com.servicenest.dto;
+
+import com.servicenest.model.WorkerRating;
+
+/**
+ * Success body of a submitted worker rating, with the worker's updated totals.
+ */
+public record WorkerRatingResponse(String status, String message, WorkerRatingView rating, WorkerRatingPage.Summary summary) {
+
+    public static WorkerRatingResponse of(String message, WorkerRating rating, WorkerRatingPage.Summary summary) {
+        return new WorkerRatingResponse("SUCCESS", message, WorkerRatingView.from(rating), summary);
+    }
+}
@@ -0,0 +1,23 @@
+package com.servicenest.dto;
+
+import com.servicenest.model.WorkerRating;
+
+import java.time.LocalDateTime;
+
+/**
+ * A worker rating as it is shown publicly; the reviewer's email is left out.
+ */
+public record WorkerRatingView(
+        Long id,
+        String workerEmail,
+        String customerName,
+        Integer rating,
+        String comment,
+        Long bookingId,
+        LocalDateTime createdAt) {
+
+    public static WorkerRatingView from(WorkerRating rating) {
+        return new WorkerRatingView(rating.getId(), rating.getWorkerEmail(), rating.getCustomerName(),
+                rating.getRating(), rating.getComment(), rating.getBookingId(), rating.getCreatedAt());
+    }
+}
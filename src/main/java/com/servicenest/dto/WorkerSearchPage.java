@@ -0,0 +1,28 @@
+package com.servicenest.dto;
+
+import java.util.List;
+
+/**
+ * One page of /api/worker/search results, best ranked first, with the total number of matches.
+ */
+public record WorkerSearchPage(
+        String status,
+        String message,
+        List<Worker> results,
+        int totalCount,
+        int page,
+        int size) {
+
+    public static WorkerSearchPage of(String message, List<Worker> results, int totalCount, int page, int size) {
+        return new WorkerSearchPage("SUCCESS", message, results, totalCount, page, size);
+    }
+
+    public record Worker(
+            String email,
+            String professionalTitle,
+            String skills,
+            String serviceAreas,
+            double hourlyRate,
+            double rating,
+            String experience) {}
+}
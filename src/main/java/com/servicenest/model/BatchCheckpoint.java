@@ -0,0 +1,44 @@
+package com.servicenest.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * The creation time and id of the last booking a batch job has processed, so its next run starts after
+ * it instead of rescanning the bookings table.
+ */
+@Entity
+@Table(name = "batch_checkpoints")
+public class BatchCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    @Column(nullable = false)
+    private long lastBookingId;
+
+    private LocalDateTime lastCreatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public BatchCheckpoint() {}
+
+    public BatchCheckpoint(String jobName) {
+        this.jobName = jobName;
+    }
+
+    // Getters and Setters
+    public String getJobName() { return jobName; }
+    public void setJobName(String jobName) { this.jobName = jobName; }
+
+    public long getLastBookingId() { return lastBookingId; }
+    public void setLastBookingId(long lastBookingId) { this.lastBookingId = lastBookingId; }
+
+    public LocalDateTime getLastCreatedAt() { return lastCreatedAt; }
+    public void setLastCreatedAt(LocalDateTime lastCreatedAt) { this.lastCreatedAt = lastCreatedAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
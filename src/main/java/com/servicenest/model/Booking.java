@@ -6,11 +6,18 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+    @Index(name = "idx_bookings_customer_created", columnList = "customer_email, created_at"),
+    @Index(name = "idx_bookings_worker_created", columnList = "assigned_worker, created_at"),
+    @Index(name = "idx_bookings_worker_status", columnList = "assigned_worker, status"),
+    @Index(name = "idx_bookings_worker_start", columnList = "assigned_worker, service_start")
+})
 public class Booking {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence hands out ids in blocks so inserts can be JDBC-batched
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -19,17 +26,18 @@ public class Booking {
     @Column(nullable = false)
     private String customerName;
     
-    @Column(nullable = false)
+    @Column(name = "customer_email", nullable = false)
     private String customerEmail;
     
     @Column(nullable = false)
     private String customerPhone;
     
-    @Column(nullable = false)
-    private String serviceDate;
+    // Booked slot; a worker's calendar is a range scan over (assigned_worker, service_start)
+    @Column(name = "service_start", nullable = false)
+    private LocalDateTime serviceStart;
     
-    @Column(nullable = false)
-    private String serviceTime;
+    @Column(name = "service_end", nullable = false)
+    private LocalDateTime serviceEnd;
     
     @Column(nullable = false, length = 500)
     private String serviceAddress;
@@ -37,6 +45,7 @@ public class Booking {
     @Column(nullable = false)
     private String status = "pending"; // pending, accepted, in-progress, completed, cancelled
     
+    @Column(name = "assigned_worker")
     private String assignedWorker;
     
     private Double price;
@@ -64,14 +73,14 @@ public class Booking {
 
     // Parameterized constructor
     public Booking(String serviceType, String customerName, String customerEmail, 
-                  String customerPhone, String serviceDate, String serviceTime, 
+                  String customerPhone, LocalDateTime serviceStart, LocalDateTime serviceEnd, 
                   String serviceAddress) {
         this.serviceType = serviceType;
         this.customerName = customerName;
         this.customerEmail = customerEmail;
         this.customerPhone = customerPhone;
-        this.serviceDate = serviceDate;
-        this.serviceTime = serviceTime;
+        this.serviceStart = serviceStart;
+        this.serviceEnd = serviceEnd;
         this.serviceAddress = serviceAddress;
     }
 
@@ -116,20 +125,20 @@ public class Booking {
         this.customerPhone = customerPhone;
     }
 
-    public String getServiceDate() {
-        return serviceDate;
+    public LocalDateTime getServiceStart() {
+        return serviceStart;
     }
 
-    public void setServiceDate(String serviceDate) {
-        this.serviceDate = serviceDate;
+    public void setServiceStart(LocalDateTime serviceStart) {
+        this.serviceStart = serviceStart;
     }
 
-    public String getServiceTime() {
-        return serviceTime;
+    public LocalDateTime getServiceEnd() {
+        return serviceEnd;
     }
 
-    public void setServiceTime(String serviceTime) {
-        this.serviceTime = serviceTime;
+    public void setServiceEnd(LocalDateTime serviceEnd) {
+        this.serviceEnd = serviceEnd;
     }
 
     public String getServiceAddress() {
@@ -0,0 +1,44 @@
+package com.servicenest.model;
+
+import jakarta.persistence.*;
+
+/**
+ * How many customers have booked one service category, and its booking count and spend, as far as
+ * AlsoBookedModel has read the bookings table.
+ */
+@Entity
+@Table(name = "service_category_totals")
+public class ServiceCategoryTotals {
+
+    @Id
+    @Column(name = "service_category", length = 32)
+    private String serviceCategory;
+
+    @Column(nullable = false)
+    private long customers;
+
+    @Column(nullable = false)
+    private long bookings;
+
+    @Column(nullable = false)
+    private double priceTotal;
+
+    public ServiceCategoryTotals() {}
+
+    public ServiceCategoryTotals(String serviceCategory) {
+        this.serviceCategory = serviceCategory;
+    }
+
+    // Getters and Setters
+    public String getServiceCategory() { return serviceCategory; }
+    public void setServiceCategory(String serviceCategory) { this.serviceCategory = serviceCategory; }
+
+    public long getCustomers() { return customers; }
+    public void setCustomers(long customers) { this.customers = customers; }
+
+    public long getBookings() { return bookings; }
+    public void setBookings(long bookings) { this.bookings = bookings; }
+
+    public double getPriceTotal() { return priceTotal; }
+    public void setPriceTotal(double priceTotal) { this.priceTotal = priceTotal; }
+}
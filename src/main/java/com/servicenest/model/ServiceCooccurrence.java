@@ -0,0 +1,47 @@
+package com.servicenest.model;
+
+import jakarta.persistence.*;
+
+/**
+ * How many customers have booked both of two service categories. One row per unordered pair, stored
+ * with the categories in enum order.
+ */
+@Entity
+@Table(name = "service_cooccurrence", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_service_cooccurrence_pair", columnNames = {"service_category", "other_category"})
+})
+public class ServiceCooccurrence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "service_category", nullable = false, length = 32)
+    private String serviceCategory;
+
+    @Column(name = "other_category", nullable = false, length = 32)
+    private String otherCategory;
+
+    @Column(nullable = false)
+    private long customers;
+
+    public ServiceCooccurrence() {}
+
+    public ServiceCooccurrence(String serviceCategory, String otherCategory) {
+        this.serviceCategory = serviceCategory;
+        this.otherCategory = otherCategory;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getServiceCategory() { return serviceCategory; }
+    public void setServiceCategory(String serviceCategory) { this.serviceCategory = serviceCategory; }
+
+    public String getOtherCategory() { return otherCategory; }
+    public void setOtherCategory(String otherCategory) { this.otherCategory = otherCategory; }
+
+    public long getCustomers() { return customers; }
+    public void setCustomers(long customers) { this.customers = customers; }
+}
@@ -0,0 +1,66 @@
+package com.servicenest.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Running review totals for one service type, maintained alongside each review insert
+ * so stats never have to be aggregated from the reviews table.
+ */
+@Entity
+@Table(name = "service_rating_summaries")
+public class ServiceRatingSummary {
+
+    @Id
+    @Column(name = "service_type")
+    private String serviceType;
+
+    @Column(nullable = false)
+    private long reviewCount;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @Column(nullable = false)
+    private long stars1;
+
+    @Column(nullable = false)
+    private long stars2;
+
+    @Column(nullable = false)
+    private long stars3;
+
+    @Column(nullable = false)
+    private long stars4;
+
+    @Column(nullable = false)
+    private long stars5;
+
+    public ServiceRatingSummary() {}
+
+    public ServiceRatingSummary(String serviceType) {
+        this.serviceType = serviceType;
+    }
+
+    // Counts per star value, index 0 = 1 star
+    public long[] getHistogram() {
+        return new long[] { stars1, stars2, stars3, stars4, stars5 };
+    }
+
+    public void setHistogram(long[] histogram) {
+        this.stars1 = histogram[0];
+        this.stars2 = histogram[1];
+        this.stars3 = histogram[2];
+        this.stars4 = histogram[3];
+        this.stars5 = histogram[4];
+    }
+
+    // Getters and Setters
+    public String getServiceType() { return serviceType; }
+    public void setServiceType(String serviceType) { this.serviceType = serviceType; }
+
+    public long getReviewCount() { return reviewCount; }
+    public void setReviewCount(long reviewCount) { this.reviewCount = reviewCount; }
+
+    public long getRatingSum() { return ratingSum; }
+    public void setRatingSum(long ratingSum) { this.ratingSum = ratingSum; }
+}
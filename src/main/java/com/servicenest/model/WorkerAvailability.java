@@ -0,0 +1,57 @@
+package com.servicenest.model;
+
+import jakarta.persistence.*;
+import java.time.LocalTime;
+
+/**
+ * One weekly working window of a worker, e.g. Mondays 09:00-13:00. A day with a break has two rows;
+ * a day with none is a day off.
+ */
+@Entity
+@Table(name = "worker_availability", indexes = {
+    @Index(name = "idx_worker_availability_worker", columnList = "worker_email")
+})
+public class WorkerAvailability {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "worker_email", nullable = false)
+    private String workerEmail;
+
+    // ISO day of week, 1 = Monday
+    @Column(name = "day_of_week", nullable = false)
+    private int dayOfWeek;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    public WorkerAvailability() {}
+
+    public WorkerAvailability(String workerEmail, int dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        this.workerEmail = workerEmail;
+        this.dayOfWeek = dayOfWeek;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getWorkerEmail() { return workerEmail; }
+    public void setWorkerEmail(String workerEmail) { this.workerEmail = workerEmail; }
+
+    public int getDayOfWeek() { return dayOfWeek; }
+    public void setDayOfWeek(int dayOfWeek) { this.dayOfWeek = dayOfWeek; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+}
@@ -0,0 +1,57 @@
+package com.servicenest.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * A date on which a worker's weekly hours don't apply. The exception rows for a date replace that day's
+ * windows; a row without times marks the whole day off.
+ */
+@Entity
+@Table(name = "worker_availability_exceptions", indexes = {
+    @Index(name = "idx_worker_availability_exceptions_worker_date", columnList = "worker_email, exception_date")
+})
+public class WorkerAvailabilityException {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "worker_email", nullable = false)
+    private String workerEmail;
+
+    @Column(name = "exception_date", nullable = false)
+    private LocalDate exceptionDate;
+
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    public WorkerAvailabilityException() {}
+
+    public WorkerAvailabilityException(String workerEmail, LocalDate exceptionDate, LocalTime startTime, LocalTime endTime) {
+        this.workerEmail = workerEmail;
+        this.exceptionDate = exceptionDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getWorkerEmail() { return workerEmail; }
+    public void setWorkerEmail(String workerEmail) { this.workerEmail = workerEmail; }
+
+    public LocalDate getExceptionDate() { return exceptionDate; }
+    public void setExceptionDate(LocalDate exceptionDate) { this.exceptionDate = exceptionDate; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+}
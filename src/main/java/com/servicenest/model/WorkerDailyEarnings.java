@@ -0,0 +1,55 @@
+package com.servicenest.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Completed jobs and earnings for one worker on one day, bumped as each booking completes
+ * so earnings reports read a few rows per worker instead of their whole booking history.
+ */
+@Entity
+@Table(name = "worker_daily_earnings", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_worker_daily_earnings_worker_date", columnNames = {"worker_email", "earning_date"})
+})
+public class WorkerDailyEarnings {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "worker_email", nullable = false)
+    private String workerEmail;
+
+    @Column(name = "earning_date", nullable = false)
+    private LocalDate earningDate;
+
+    @Column(nullable = false)
+    private long completedJobs;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal earnings = BigDecimal.ZERO;
+
+    public WorkerDailyEarnings() {}
+
+    public WorkerDailyEarnings(String workerEmail, LocalDate earningDate) {
+        this.workerEmail = workerEmail;
+        this.earningDate = earningDate;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getWorkerEmail() { return workerEmail; }
+    public void setWorkerEmail(String workerEmail) { this.workerEmail = workerEmail; }
+
+    public LocalDate getEarningDate() { return earningDate; }
+    public void setEarningDate(LocalDate earningDate) { this.earningDate = earningDate; }
+
+    public long getCompletedJobs() { return completedJobs; }
+    public void setCompletedJobs(long completedJobs) { this.completedJobs = completedJobs; }
+
+    public BigDecimal getEarnings() { return earnings; }
+    public void setEarnings(BigDecimal earnings) { this.earnings = earnings; }
+}
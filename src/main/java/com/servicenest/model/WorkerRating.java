@@ -4,14 +4,16 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "worker_ratings")
+@Table(name = "worker_ratings", indexes = {
+    @Index(name = "idx_worker_ratings_worker_created", columnList = "worker_email, created_at")
+})
 public class WorkerRating {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(nullable = false)
+    @Column(name = "worker_email", nullable = false)
     private String workerEmail;
     
     @Column(nullable = false)
@@ -25,6 +27,8 @@ public class WorkerRating {
     @Column(length = 1000)
     private String comment;
     
+    // One rating per booking
+    @Column(name = "booking_id", unique = true)
     private Long bookingId;
     
     @Column(name = "created_at")
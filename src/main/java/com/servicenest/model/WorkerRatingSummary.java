@@ -0,0 +1,38 @@
+package com.servicenest.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Running rating totals for one worker, maintained alongside each rating insert
+ * so dashboards and search never aggregate the ratings table.
+ */
+@Entity
+@Table(name = "worker_rating_summaries")
+public class WorkerRatingSummary {
+
+    @Id
+    @Column(name = "worker_email")
+    private String workerEmail;
+
+    @Column(nullable = false)
+    private long ratingCount;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    public WorkerRatingSummary() {}
+
+    public WorkerRatingSummary(String workerEmail) {
+        this.workerEmail = workerEmail;
+    }
+
+    // Getters and Setters
+    public String getWorkerEmail() { return workerEmail; }
+    public void setWorkerEmail(String workerEmail) { this.workerEmail = workerEmail; }
+
+    public long getRatingCount() { return ratingCount; }
+    public void setRatingCount(long ratingCount) { this.ratingCount = ratingCount; }
+
+    public long getRatingSum() { return ratingSum; }
+    public void setRatingSum(long ratingSum) { this.ratingSum = ratingSum; }
+}
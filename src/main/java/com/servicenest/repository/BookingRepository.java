@@ -1,23 +1,146 @@
 package com.servicenest.repository;
 
+import com.servicenest.dto.BookingSummary;
+import com.servicenest.dto.BookingView;
 import com.servicenest.model.Booking;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
     
-    // Find bookings by customer email
-    List<Booking> findByCustomerEmailOrderByCreatedAtDesc(String customerEmail);
+    // List queries select straight into the response records: only the listed columns are read, and the
+    // results are not managed entities, so nothing is snapshotted for dirty checking
+    String SELECT_SUMMARY = "SELECT new com.servicenest.dto.BookingSummary(b.id, b.serviceType, b.customerName, " +
+                            "b.serviceStart, b.serviceEnd, b.status, b.assignedWorker, b.price, b.createdAt, b.updatedAt) ";
+    String SELECT_VIEW = "SELECT new com.servicenest.dto.BookingView(b.id, b.serviceType, b.customerName, " +
+                         "b.customerEmail, b.customerPhone, b.serviceStart, b.serviceEnd, b.serviceAddress, b.status, " +
+                         "b.assignedWorker, b.price, b.createdAt, b.updatedAt) ";
     
-    // Find bookings by status
-    List<Booking> findByStatusOrderByCreatedAtDesc(String status);
+    // Find pending bookings for workers
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "FROM Booking b WHERE b.status = :status AND b.assignedWorker IS NULL " +
+           "ORDER BY b.createdAt DESC")
+    List<BookingSummary> findByStatusAndAssignedWorkerIsNullOrderByCreatedAtDesc(@Param("status") String status);
     
-    // Find bookings by worker email
-    List<Booking> findByAssignedWorkerOrderByCreatedAtDesc(String workerEmail);
+    // Keyset pages of a customer's bookings, newest first (first page / page after cursor)
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "FROM Booking b WHERE b.customerEmail = :email " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingSummary> findCustomerPage(@Param("email") String customerEmail, Pageable pageable);
     
-    // Find pending bookings for workers
-    List<Booking> findByStatusAndAssignedWorkerIsNullOrderByCreatedAtDesc(String status);
-}
\ No newline at end of file
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "FROM Booking b WHERE b.customerEmail = :email " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingSummary> findCustomerPageAfter(@Param("email") String customerEmail,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+    
+    // Keyset pages of a worker's bookings, newest first (first page / page after cursor)
+    @Transactional(readOnly = true)
+    @Query(SELECT_VIEW + "FROM Booking b WHERE b.assignedWorker = :email " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingView> findWorkerPage(@Param("email") String workerEmail, Pageable pageable);
+    
+    @Transactional(readOnly = true)
+    @Query(SELECT_VIEW + "FROM Booking b WHERE b.assignedWorker = :email " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingView> findWorkerPageAfter(@Param("email") String workerEmail,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+    
+    // A worker's bookings starting in [from, to), in slot order; a range scan of idx_bookings_worker_start
+    @Transactional(readOnly = true)
+    @Query(SELECT_VIEW + "FROM Booking b WHERE b.assignedWorker = :email " +
+           "AND b.serviceStart >= :from AND b.serviceStart < :to " +
+           "ORDER BY b.serviceStart, b.id")
+    List<BookingView> findWorkerCalendar(@Param("email") String workerEmail,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+    
+    // (service type, count, total price, newest created_at) per service type of one customer,
+    // for BookingFeatureStore (filtered on idx_bookings_customer_created)
+    @Query("SELECT b.serviceType, COUNT(b), SUM(b.price), MAX(b.createdAt) FROM Booking b " +
+           "WHERE b.customerEmail = :email GROUP BY b.serviceType")
+    @Transactional(readOnly = true)
+    List<Object[]> summarizeCustomerBookings(@Param("email") String customerEmail);
+    
+    // Service address of a customer's newest booking (first row only, read backwards off idx_bookings_customer_created)
+    @Query("SELECT b.serviceAddress FROM Booking b WHERE b.customerEmail = :email ORDER BY b.createdAt DESC, b.id DESC")
+    @Transactional(readOnly = true)
+    List<String> findLatestAddress(@Param("email") String customerEmail, Pageable pageable);
+    
+    // (id, customer, service type, price, created_at) of the next chunk for AlsoBookedModel's incremental scan:
+    // bookings after a (createdAt, id) position and created no later than settledBefore, in that order (a
+    // range of idx_bookings_created, so each chunk reads only its own rows)
+    @Query("SELECT b.id, b.customerEmail, b.serviceType, b.price, b.createdAt FROM Booking b " +
+           "WHERE (b.createdAt > :afterCreated OR (b.createdAt = :afterCreated AND b.id > :afterId)) " +
+           "AND b.createdAt <= :settledBefore ORDER BY b.createdAt, b.id")
+    @Transactional(readOnly = true)
+    List<Object[]> findChunkAfter(@Param("afterCreated") LocalDateTime afterCreated, @Param("afterId") Long afterId,
+                                  @Param("settledBefore") LocalDateTime settledBefore, Pageable pageable);
+    
+    // (customer, service type) each of these customers had booked up to a (createdAt, id) position
+    // (filtered on idx_bookings_customer_created)
+    @Query("SELECT DISTINCT b.customerEmail, b.serviceType FROM Booking b WHERE b.customerEmail IN :emails " +
+           "AND (b.createdAt < :upToCreated OR (b.createdAt = :upToCreated AND b.id <= :upToId))")
+    @Transactional(readOnly = true)
+    List<Object[]> findServiceTypesBookedBy(@Param("emails") Collection<String> customerEmails,
+                                            @Param("upToCreated") LocalDateTime upToCreated, @Param("upToId") Long upToId);
+    
+    // (id, worker, start, end) of every accepted or in-progress job not yet over, loaded once into WorkerSchedule
+    @Query("SELECT b.id, b.assignedWorker, b.serviceStart, b.serviceEnd FROM Booking b " +
+           "WHERE b.assignedWorker IS NOT NULL AND b.status IN ('accepted', 'in-progress') AND b.serviceEnd > :now")
+    List<Object[]> findActiveSlots(@Param("now") LocalDateTime now);
+    
+    // Atomically claim a pending, unassigned booking; returns 0 when another worker got there first
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.assignedWorker = :worker, b.status = 'accepted', b.updatedAt = :now " +
+           "WHERE b.id = :id AND b.status = 'pending' AND b.assignedWorker IS NULL")
+    int claimPendingBooking(@Param("id") Long id,
+                            @Param("worker") String workerEmail,
+                            @Param("now") LocalDateTime now);
+    
+    // Move a booking on from the status it was read in; returns 0 if its status changed meanwhile. Only the
+    // status is written, so a concurrent claim's assigned worker is never overwritten
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :status, b.updatedAt = :now WHERE b.id = :id AND b.status = :expected")
+    int transition(@Param("id") Long id,
+                   @Param("expected") String expectedStatus,
+                   @Param("status") String newStatus,
+                   @Param("now") LocalDateTime now);
+    
+    // Move a worker's accepted or in-progress booking to completed exactly once; returns 0 if it is not
+    // (or no longer) one of their open jobs
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = 'completed', b.updatedAt = :now " +
+           "WHERE b.id = :id AND b.status IN ('accepted', 'in-progress') AND b.assignedWorker = :worker")
+    int markCompleted(@Param("id") Long id, @Param("worker") String workerEmail, @Param("now") LocalDateTime now);
+    
+    // Count and value of a worker's accepted or in-progress jobs (single row)
+    @Query("SELECT COUNT(b), COALESCE(SUM(b.price), 0) FROM Booking b " +
+           "WHERE b.assignedWorker = :email AND b.status IN ('accepted', 'in-progress')")
+    List<Object[]> sumActiveByWorker(@Param("email") String workerEmail);
+    
+    // Completed jobs and earnings per (worker, day), used once to seed earnings rollups
+    @Query("SELECT b.assignedWorker, CAST(b.updatedAt AS LocalDate), COUNT(b), COALESCE(SUM(b.price), 0) FROM Booking b " +
+           "WHERE b.status = 'completed' AND b.assignedWorker IS NOT NULL " +
+           "GROUP BY b.assignedWorker, CAST(b.updatedAt AS LocalDate)")
+    List<Object[]> sumCompletedByWorkerAndDay();
+}
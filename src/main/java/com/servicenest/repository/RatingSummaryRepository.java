@@ -0,0 +1,14 @@
+package com.servicenest.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Summary rows of running rating totals, one per key (a service type, a worker's email).
+ */
+@NoRepositoryBean
+public interface RatingSummaryRepository<S> extends JpaRepository<S, String> {
+
+    // Add one rating to the running totals in place; returns 0 if the key has no summary row yet
+    int addRating(String key, int rating);
+}
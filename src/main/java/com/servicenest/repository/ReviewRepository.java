@@ -1,6 +1,8 @@
 package com.servicenest.repository;
 
 import com.servicenest.model.Review;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -12,6 +14,8 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     
     List<Review> findByServiceTypeOrderByCreatedAtDesc(String serviceType);
     
+    Slice<Review> findByServiceTypeOrderByCreatedAtDescIdDesc(String serviceType, Pageable pageable);
+    
     List<Review> findByCustomerEmailOrderByCreatedAtDesc(String customerEmail);
     
     @Query("SELECT AVG(r.rating) FROM Review r WHERE r.serviceType = ?1")
@@ -21,4 +25,8 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Long countByServiceType(String serviceType);
     
     boolean existsByCustomerEmailAndServiceType(String customerEmail, String serviceType);
+    
+    // Review counts per (serviceType, rating), used once to seed rating summaries
+    @Query("SELECT r.serviceType, r.rating, COUNT(r) FROM Review r GROUP BY r.serviceType, r.rating")
+    List<Object[]> countByServiceTypeAndRating();
 }
\ No newline at end of file
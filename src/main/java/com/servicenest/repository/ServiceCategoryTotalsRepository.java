@@ -0,0 +1,9 @@
+package com.servicenest.repository;
+
+import com.servicenest.model.ServiceCategoryTotals;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ServiceCategoryTotalsRepository extends JpaRepository<ServiceCategoryTotals, String> {
+}
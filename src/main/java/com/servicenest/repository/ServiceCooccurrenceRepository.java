@@ -0,0 +1,9 @@
+package com.servicenest.repository;
+
+import com.servicenest.model.ServiceCooccurrence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ServiceCooccurrenceRepository extends JpaRepository<ServiceCooccurrence, Long> {
+}
@@ -0,0 +1,22 @@
+package com.servicenest.repository;
+
+import com.servicenest.model.ServiceRatingSummary;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ServiceRatingSummaryRepository extends RatingSummaryRepository<ServiceRatingSummary> {
+
+    @Override
+    @Modifying
+    @Query("UPDATE ServiceRatingSummary s SET s.reviewCount = s.reviewCount + 1, s.ratingSum = s.ratingSum + :rating, " +
+           "s.stars1 = s.stars1 + CASE WHEN :rating = 1 THEN 1 ELSE 0 END, " +
+           "s.stars2 = s.stars2 + CASE WHEN :rating = 2 THEN 1 ELSE 0 END, " +
+           "s.stars3 = s.stars3 + CASE WHEN :rating = 3 THEN 1 ELSE 0 END, " +
+           "s.stars4 = s.stars4 + CASE WHEN :rating = 4 THEN 1 ELSE 0 END, " +
+           "s.stars5 = s.stars5 + CASE WHEN :rating = 5 THEN 1 ELSE 0 END " +
+           "WHERE s.serviceType = :serviceType")
+    int addRating(@Param("serviceType") String serviceType, @Param("rating") int rating);
+}
\ No newline at end of file
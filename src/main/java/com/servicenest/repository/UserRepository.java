@@ -2,7 +2,11 @@ package com.servicenest.repository;
 
 import com.servicenest.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
@@ -15,4 +19,12 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     
     // Check if email exists
     boolean existsByEmail(String email);
+    
+    // Swap in a re-encoded password; returns 0 if the password was changed in the meantime
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int replacePassword(@Param("id") Integer id,
+                        @Param("oldPassword") String oldPassword,
+                        @Param("newPassword") String newPassword);
 }
\ No newline at end of file
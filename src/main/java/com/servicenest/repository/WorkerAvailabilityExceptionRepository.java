@@ -0,0 +1,23 @@
+package com.servicenest.repository;
+
+import com.servicenest.model.WorkerAvailabilityException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface WorkerAvailabilityExceptionRepository extends JpaRepository<WorkerAvailabilityException, Long> {
+
+    // Exceptions still ahead, loaded once at startup
+    List<WorkerAvailabilityException> findByExceptionDateGreaterThanEqual(LocalDate from);
+
+    // Clear a worker's exceptions before saving the replacement set
+    @Modifying
+    @Query("DELETE FROM WorkerAvailabilityException e WHERE e.workerEmail = :workerEmail")
+    int deleteByWorker(@Param("workerEmail") String workerEmail);
+}
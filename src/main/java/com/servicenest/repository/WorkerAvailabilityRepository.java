@@ -0,0 +1,17 @@
+package com.servicenest.repository;
+
+import com.servicenest.model.WorkerAvailability;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WorkerAvailabilityRepository extends JpaRepository<WorkerAvailability, Long> {
+
+    // Clear a worker's weekly windows before saving the replacement set
+    @Modifying
+    @Query("DELETE FROM WorkerAvailability a WHERE a.workerEmail = :workerEmail")
+    int deleteByWorker(@Param("workerEmail") String workerEmail);
+}
@@ -0,0 +1,33 @@
+package com.servicenest.repository;
+
+import com.servicenest.model.WorkerDailyEarnings;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface WorkerDailyEarningsRepository extends JpaRepository<WorkerDailyEarnings, Long> {
+
+    boolean existsByWorkerEmailAndEarningDate(String workerEmail, LocalDate earningDate);
+
+    List<WorkerDailyEarnings> findByWorkerEmailAndEarningDateGreaterThanEqual(String workerEmail, LocalDate from);
+
+    // Add one completed job to the worker's row for the day; returns 0 if that row doesn't exist yet
+    @Modifying
+    @Query("UPDATE WorkerDailyEarnings e SET e.completedJobs = e.completedJobs + 1, e.earnings = e.earnings + :amount " +
+           "WHERE e.workerEmail = :workerEmail AND e.earningDate = :earningDate")
+    int addCompletion(@Param("workerEmail") String workerEmail,
+                      @Param("earningDate") LocalDate earningDate,
+                      @Param("amount") BigDecimal amount);
+
+    // Lifetime completed jobs and earnings across the worker's rollup rows (single row)
+    @Query("SELECT COALESCE(SUM(e.completedJobs), 0), COALESCE(SUM(e.earnings), 0) FROM WorkerDailyEarnings e " +
+           "WHERE e.workerEmail = :workerEmail")
+    List<Object[]> sumByWorker(@Param("workerEmail") String workerEmail);
+}
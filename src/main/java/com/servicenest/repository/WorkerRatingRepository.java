@@ -0,0 +1,22 @@
+package com.servicenest.repository;
+
+import com.servicenest.model.WorkerRating;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WorkerRatingRepository extends JpaRepository<WorkerRating, Long> {
+    
+    Slice<WorkerRating> findByWorkerEmailOrderByCreatedAtDescIdDesc(String workerEmail, Pageable pageable);
+    
+    boolean existsByBookingId(Long bookingId);
+    
+    // Rating count and sum per worker, used once to seed rating summaries
+    @Query("SELECT LOWER(TRIM(r.workerEmail)), COUNT(r), SUM(r.rating) FROM WorkerRating r GROUP BY LOWER(TRIM(r.workerEmail))")
+    List<Object[]> sumByWorkerEmail();
+}
@@ -0,0 +1,17 @@
+package com.servicenest.repository;
+
+import com.servicenest.model.WorkerRatingSummary;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WorkerRatingSummaryRepository extends RatingSummaryRepository<WorkerRatingSummary> {
+
+    @Override
+    @Modifying
+    @Query("UPDATE WorkerRatingSummary s SET s.ratingCount = s.ratingCount + 1, s.ratingSum = s.ratingSum + :rating " +
+           "WHERE s.workerEmail = :workerEmail")
+    int addRating(@Param("workerEmail") String workerEmail, @Param("rating") int rating);
+}
@@ -0,0 +1,110 @@
+package com.servicenest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.servicenest.model.User;
+import com.servicenest.model.UserProfile;
+import com.servicenest.model.WorkerProfile;
+import com.servicenest.repository.UserProfileRepository;
+import com.servicenest.repository.UserRepository;
+import com.servicenest.repository.WorkerProfileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cache-aside in front of the by-email lookups of users, user profiles and worker profiles, so repeat
+ * profile and dashboard loads skip the database. Entries are keyed by trimmed, lower-cased email,
+ * bounded in size and expire after a fixed time; misses are cached too, since "no profile yet" is
+ * the common answer for new accounts.
+ *
+ * Writers must call the matching evict method after every save. Cached entities are shared between
+ * requests, so read paths must not modify them; write paths load their own copy from the repository.
+ * Hit, miss, eviction and size meters are published per cache as cache.* tagged cache=users,
+ * user-profiles or worker-profiles.
+ */
+@Component
+public class AccountCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private WorkerProfileRepository workerProfileRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${servicenest.account-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${servicenest.account-cache.ttl:10m}")
+    private Duration ttl;
+
+    private Cache<String, Optional<User>> users;
+    private Cache<String, Optional<UserProfile>> userProfiles;
+    private Cache<String, Optional<WorkerProfile>> workerProfiles;
+
+    @PostConstruct
+    public void init() {
+        users = build("users");
+        userProfiles = build("user-profiles");
+        workerProfiles = build("worker-profiles");
+    }
+
+    public User findUser(String email) {
+        return lookup(users, email, userRepository::findByEmail);
+    }
+
+    public UserProfile findUserProfile(String email) {
+        return lookup(userProfiles, email, userProfileRepository::findByUserEmail);
+    }
+
+    public WorkerProfile findWorkerProfile(String email) {
+        return lookup(workerProfiles, email, workerProfileRepository::findByEmail);
+    }
+
+    public void evictUser(String email) {
+        users.invalidate(key(email));
+    }
+
+    public void evictUserProfile(String email) {
+        userProfiles.invalidate(key(email));
+    }
+
+    public void evictWorkerProfile(String email) {
+        workerProfiles.invalidate(key(email));
+    }
+
+    // An evict waits for any in-flight load of the same key, so a load that read the old row can't outlive the save
+    private static <T> T lookup(Cache<String, Optional<T>> cache, String email, Function<String, T> loader) {
+        if (email == null) {
+            return null;
+        }
+        return cache.get(key(email), k -> Optional.ofNullable(loader.apply(k))).orElse(null);
+    }
+
+    private <T> Cache<String, Optional<T>> build(String name) {
+        Cache<String, Optional<T>> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        return cache;
+    }
+
+    private static String key(String email) {
+        return email.trim().toLowerCase();
+    }
+}
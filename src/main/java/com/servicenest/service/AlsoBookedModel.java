@@ -0,0 +1,258 @@
+package com.servicenest.service;
+
+import com.servicenest.model.BatchCheckpoint;
+import com.servicenest.model.ServiceCategoryTotals;
+import com.servicenest.model.ServiceCooccurrence;
+import com.servicenest.repository.BatchCheckpointRepository;
+import com.servicenest.repository.BookingRepository;
+import com.servicenest.repository.ServiceCategoryTotalsRepository;
+import com.servicenest.repository.ServiceCooccurrenceRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Builds the "customers also booked" {@link ServiceNeighbors} from the bookings table in a batch job,
+ * nightly and once at startup. The job keeps per-category and per-pair customer counts in the database
+ * and reads only bookings after the last one it processed, in chunks ordered by creation time and id. For
+ * each chunk it looks up what those customers had booked before, adds the categories each of them books
+ * for the first time, and saves the counts together with the new checkpoint, so an interrupted run resumes
+ * where it stopped. The neighbors are then rebuilt from the counts, which have one row per pair of
+ * categories.
+ *
+ * Ids come from pooled sequence blocks and are assigned before commit, so they don't say which bookings
+ * have committed yet. Creation time does, once it is older than any insert takes: a run only reads bookings
+ * created at least settle-time ago, and a booking still committing is left for a later run.
+ *
+ * Bookings are counted once created, whatever their status.
+ */
+@Component
+public class AlsoBookedModel {
+
+    private static final Logger log = LoggerFactory.getLogger(AlsoBookedModel.class);
+
+    private static final String JOB_NAME = "also-booked";
+    // Where a job that has counted nothing yet starts
+    private static final LocalDateTime START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ServiceCategoryTotalsRepository totalsRepository;
+
+    @Autowired
+    private ServiceCooccurrenceRepository cooccurrenceRepository;
+
+    @Autowired
+    private BatchCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private ServiceRatingStats serviceRatingStats;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${servicenest.also-booked.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${servicenest.also-booked.neighbors:3}")
+    private int neighborCount;
+
+    @Value("${servicenest.also-booked.settle-time:5m}")
+    private Duration settleTime;
+
+    private volatile ServiceNeighbors neighbors = ServiceNeighbors.EMPTY;
+
+    private final ExecutorService startup = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "also-booked-build");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The neighbors as of the last completed run.
+     */
+    public ServiceNeighbors current() {
+        return neighbors;
+    }
+
+    // Off the startup thread: the first run after a migration reads the whole table
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        startup.execute(() -> {
+            try {
+                update();
+            } catch (RuntimeException e) {
+                log.warn("Error building also-booked model at startup", e);
+            }
+        });
+    }
+
+    @Scheduled(cron = "${servicenest.also-booked.cron:0 30 2 * * *}")
+    public synchronized void update() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime settledBefore = LocalDateTime.now().minus(settleTime);
+        Counts counts = loadCounts();
+        long processed = 0;
+
+        List<Object[]> chunk;
+        while (!(chunk = bookingRepository.findChunkAfter(counts.lastCreatedAt, counts.lastBookingId, settledBefore,
+                PageRequest.of(0, chunkSize))).isEmpty()) {
+            addChunk(counts, chunk);
+            processed += chunk.size();
+            saveCounts(counts);
+        }
+
+        // A new instance makes RecommendationStore rebuild every user's recommendations, so only when something changed
+        if (processed > 0 || neighbors == ServiceNeighbors.EMPTY) {
+            neighbors = counts.toNeighbors(serviceRatingStats, neighborCount);
+        }
+        log.info("Also-booked model updated with {} bookings up to {} (id {}) in {} ms",
+                processed, counts.lastCreatedAt, counts.lastBookingId, System.currentTimeMillis() - startedAt);
+    }
+
+    private void addChunk(Counts counts, List<Object[]> chunk) {
+        int n = ServiceCategory.count();
+        Set<String> emails = new HashSet<>();
+        for (Object[] row : chunk) {
+            if (row[1] != null) {
+                emails.add((String) row[1]);
+            }
+        }
+
+        // What each of these customers had booked before this chunk
+        Map<String, boolean[]> booked = new HashMap<>();
+        List<Object[]> before = emails.isEmpty() ? List.of()
+                : bookingRepository.findServiceTypesBookedBy(emails, counts.lastCreatedAt, counts.lastBookingId);
+        for (Object[] row : before) {
+            booked.computeIfAbsent((String) row[0], k -> new boolean[n])[ServiceCategory.of((String) row[1]).ordinal()] = true;
+        }
+
+        for (Object[] row : chunk) {
+            counts.lastBookingId = (Long) row[0];
+            counts.lastCreatedAt = (LocalDateTime) row[4];
+            String email = (String) row[1];
+            int category = ServiceCategory.of((String) row[2]).ordinal();
+            counts.bookings[category]++;
+            counts.priceTotal[category] += row[3] != null ? (Double) row[3] : 0.0;
+            if (email == null) {
+                continue;
+            }
+            boolean[] has = booked.computeIfAbsent(email, k -> new boolean[n]);
+            if (has[category]) {
+                continue;
+            }
+            has[category] = true;
+            counts.customers[category]++;
+            for (int other = 0; other < n; other++) {
+                if (other != category && has[other]) {
+                    counts.together[Math.min(category, other)][Math.max(category, other)]++;
+                }
+            }
+        }
+    }
+
+    private Counts loadCounts() {
+        Counts counts = new Counts();
+        checkpointRepository.findById(JOB_NAME).ifPresent(checkpoint -> {
+            counts.lastBookingId = checkpoint.getLastBookingId();
+            if (checkpoint.getLastCreatedAt() != null) {
+                counts.lastCreatedAt = checkpoint.getLastCreatedAt();
+            }
+        });
+        for (ServiceCategoryTotals row : totalsRepository.findAll()) {
+            int c = ServiceCategory.valueOf(row.getServiceCategory()).ordinal();
+            counts.customers[c] = row.getCustomers();
+            counts.bookings[c] = row.getBookings();
+            counts.priceTotal[c] = row.getPriceTotal();
+        }
+        for (ServiceCooccurrence row : cooccurrenceRepository.findAll()) {
+            int a = ServiceCategory.valueOf(row.getServiceCategory()).ordinal();
+            int b = ServiceCategory.valueOf(row.getOtherCategory()).ordinal();
+            counts.together[a][b] = row.getCustomers();
+            counts.pairIds[a][b] = row.getId();
+        }
+        return counts;
+    }
+
+    // The counts are a few dozen rows, so each chunk rewrites them all along with the checkpoint
+    private void saveCounts(Counts counts) {
+        int n = ServiceCategory.count();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int c = 0; c < n; c++) {
+                if (counts.bookings[c] == 0) {
+                    continue;
+                }
+                ServiceCategoryTotals totals = new ServiceCategoryTotals(ServiceCategory.ofOrdinal(c).name());
+                totals.setCustomers(counts.customers[c]);
+                totals.setBookings(counts.bookings[c]);
+                totals.setPriceTotal(counts.priceTotal[c]);
+                totalsRepository.save(totals);
+            }
+            for (int a = 0; a < n; a++) {
+                for (int b = a + 1; b < n; b++) {
+                    if (counts.together[a][b] == 0) {
+                        continue;
+                    }
+                    ServiceCooccurrence pair = new ServiceCooccurrence(ServiceCategory.ofOrdinal(a).name(),
+                            ServiceCategory.ofOrdinal(b).name());
+                    pair.setId(counts.pairIds[a][b]);
+                    pair.setCustomers(counts.together[a][b]);
+                    counts.pairIds[a][b] = cooccurrenceRepository.save(pair).getId();
+                }
+            }
+            BatchCheckpoint checkpoint = new BatchCheckpoint(JOB_NAME);
+            checkpoint.setLastBookingId(counts.lastBookingId);
+            checkpoint.setLastCreatedAt(counts.lastCreatedAt);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            checkpointRepository.save(checkpoint);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        startup.shutdownNow();
+    }
+
+    // The job's running totals, by category ordinal; pairs are kept with the lower ordinal first
+    private static class Counts {
+        final long[] customers = new long[ServiceCategory.count()];
+        final long[] bookings = new long[ServiceCategory.count()];
+        final double[] priceTotal = new double[ServiceCategory.count()];
+        final long[][] together = new long[ServiceCategory.count()][ServiceCategory.count()];
+        final Long[][] pairIds = new Long[ServiceCategory.count()][ServiceCategory.count()];
+        long lastBookingId;
+        LocalDateTime lastCreatedAt = START;
+
+        ServiceNeighbors toNeighbors(ServiceRatingStats ratings, int k) {
+            int n = ServiceCategory.count();
+            double[] averagePrice = new double[n];
+            double[] rating = new double[n];
+            for (int c = 0; c < n; c++) {
+                averagePrice[c] = bookings[c] == 0 ? 0 : priceTotal[c] / bookings[c];
+                rating[c] = ratings.get(ServiceCategory.ofOrdinal(c).getLabel()).getAverage();
+            }
+            return ServiceNeighbors.of(customers, together, averagePrice, rating, k);
+        }
+    }
+}
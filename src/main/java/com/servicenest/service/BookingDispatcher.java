@@ -0,0 +1,262 @@
+package com.servicenest.service;
+
+import com.servicenest.dto.BookingSummary;
+import com.servicenest.model.Booking;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offers each new booking to the best few workers for it (see {@link WorkerMatcher}) instead of leaving
+ * it on the open board until someone happens to click it. The job stays on the board; an offer only
+ * puts it at the top of those workers' list, and the first worker to accept still wins.
+ *
+ * Booking writes only enqueue. A small pool drains the queue in batches, so a burst of bookings is
+ * matched off the request threads, and workers offered a job earlier in the same batch count as busier
+ * for the rest of it. Offers are held in memory and lapse after a while; a restart just drops them.
+ */
+@Component
+public class BookingDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingDispatcher.class);
+
+    @Autowired
+    private WorkerSearchIndex workerSearchIndex;
+
+    @Autowired
+    private WorkerSchedule workerSchedule;
+
+    @Autowired
+    private PendingBookingFeed pendingBookingFeed;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 0 means one thread per available core
+    @Value("${servicenest.dispatch.threads:0}")
+    private int threads;
+
+    @Value("${servicenest.dispatch.queue:10000}")
+    private int queueCapacity;
+
+    @Value("${servicenest.dispatch.batch-size:100}")
+    private int batchSize;
+
+    @Value("${servicenest.dispatch.offers:3}")
+    private int offersPerBooking;
+
+    @Value("${servicenest.dispatch.scan-limit:50}")
+    private int scanLimit;
+
+    @Value("${servicenest.dispatch.offer-ttl:15m}")
+    private Duration offerTtl;
+
+    private BlockingQueue<Request> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private WorkerMatcher matcher;
+
+    // Who each booking went to (or a marker that it closed before it was matched), and each worker's open offers
+    private final Map<Long, Dispatch> dispatches = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, BookingSummary>> offersByWorker = new ConcurrentHashMap<>();
+    private volatile long nextPurge;
+
+    private Timer matchTimer;
+    private Counter offered;
+    private Counter unmatched;
+    private Counter dropped;
+
+    @PostConstruct
+    public void init() {
+        matcher = new WorkerMatcher(workerSearchIndex, workerSchedule, scanLimit);
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        matchTimer = Timer.builder("servicenest.dispatch.match")
+                .description("Time to pick the workers for one booking")
+                .register(meterRegistry);
+        offered = Counter.builder("servicenest.dispatch.offers")
+                .description("Job offers made to workers")
+                .register(meterRegistry);
+        unmatched = Counter.builder("servicenest.dispatch.unmatched")
+                .description("Bookings no eligible worker was free for")
+                .register(meterRegistry);
+        dropped = Counter.builder("servicenest.dispatch.dropped")
+                .description("Bookings left unmatched because the dispatch queue was full")
+                .register(meterRegistry);
+        Gauge.builder("servicenest.dispatch.queue", queue, BlockingQueue::size)
+                .description("Bookings waiting to be matched")
+                .register(meterRegistry);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        for (int i = 1; i <= poolSize; i++) {
+            Thread thread = new Thread(this::run, "booking-dispatch-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            workers.add(thread);
+        }
+    }
+
+    /**
+     * Queues a new pending booking for matching. Never blocks; if the queue is full the booking simply
+     * stays on the open board unoffered.
+     */
+    public void bookingCreated(Booking booking) {
+        if (!queue.offer(new Request(BookingSummary.from(booking), booking.getServiceAddress()))) {
+            dropped.increment();
+            log.warn("Dispatch queue full, booking {} left on the open board", booking.getId());
+        }
+    }
+
+    /**
+     * Withdraws a booking's offers once it is claimed or otherwise leaves pending.
+     */
+    public void bookingClosed(Long bookingId) {
+        dispatches.compute(bookingId, (id, previous) -> {
+            if (previous != null) {
+                withdraw(id, previous.workers());
+            }
+            // Remembered until the offers would have lapsed, in case the booking is still queued
+            return new Dispatch(List.of(), System.currentTimeMillis() + offerTtl.toMillis());
+        });
+    }
+
+    /**
+     * The worker's open offers, soonest slot first.
+     */
+    public List<BookingSummary> offersFor(String workerEmail) {
+        Map<Long, BookingSummary> offers = offersByWorker.get(WorkerSearchIndex.normalize(workerEmail));
+        if (offers == null) {
+            return List.of();
+        }
+        long now = System.currentTimeMillis();
+        List<BookingSummary> open = new ArrayList<>();
+        offers.forEach((id, booking) -> {
+            Dispatch dispatch = dispatches.get(id);
+            if (dispatch != null && dispatch.expiresAt() > now) {
+                open.add(booking);
+            }
+        });
+        open.sort(Comparator.comparing(BookingSummary::serviceStart).thenComparing(BookingSummary::id));
+        return open;
+    }
+
+    private void run() {
+        List<Request> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                // Wakes up now and then even when idle so lapsed offers get purged
+                Request first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    dispatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("Error dispatching {} bookings", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+            purgeExpired();
+        }
+    }
+
+    private void dispatch(List<Request> batch) {
+        Map<String, Integer> batchLoad = new HashMap<>();
+        for (Request request : batch) {
+            BookingSummary booking = request.booking();
+            long started = System.nanoTime();
+            String area = matcher.areaOf(request.serviceAddress());
+            List<WorkerMatcher.Candidate> candidates = matcher.match(booking.serviceType(), area,
+                    booking.serviceStart(), booking.serviceEnd(),
+                    worker -> batchLoad.getOrDefault(worker, 0), offersPerBooking);
+            matchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+            if (candidates.isEmpty()) {
+                unmatched.increment();
+                log.debug("No free worker for booking {} ({} in {})", booking.id(), booking.serviceType(), area);
+                continue;
+            }
+            List<String> chosen = candidates.stream().map(WorkerMatcher.Candidate::workerEmail).toList();
+            if (offer(booking, chosen)) {
+                chosen.forEach(worker -> batchLoad.merge(worker, 1, Integer::sum));
+                offered.increment(chosen.size());
+                pendingBookingFeed.bookingOffered(booking.id(), chosen);
+                log.debug("Booking {} offered to {}", booking.id(), chosen);
+            }
+        }
+    }
+
+    // Records the offers unless the booking closed while it was queued; runs under the same map entry
+    // lock as bookingClosed, so a claim can never leave offers behind
+    private boolean offer(BookingSummary booking, List<String> chosen) {
+        long expiresAt = System.currentTimeMillis() + offerTtl.toMillis();
+        Dispatch dispatch = dispatches.compute(booking.id(), (id, previous) -> {
+            if (previous != null) {
+                return previous;
+            }
+            chosen.forEach(worker ->
+                    offersByWorker.computeIfAbsent(worker, k -> new ConcurrentHashMap<>()).put(id, booking));
+            return new Dispatch(chosen, expiresAt);
+        });
+        return dispatch.workers() == chosen;
+    }
+
+    private void withdraw(Long bookingId, List<String> chosen) {
+        for (String worker : chosen) {
+            offersByWorker.computeIfPresent(worker, (k, offers) -> {
+                offers.remove(bookingId);
+                return offers.isEmpty() ? null : offers;
+            });
+        }
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        if (now < nextPurge) {
+            return;
+        }
+        nextPurge = now + Math.max(1000, offerTtl.toMillis() / 10);
+        dispatches.forEach((id, dispatch) -> {
+            if (dispatch.expiresAt() <= now) {
+                dispatches.computeIfPresent(id, (k, current) -> {
+                    if (current.expiresAt() > now) {
+                        return current;
+                    }
+                    withdraw(k, current.workers());
+                    return null;
+                });
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.forEach(Thread::interrupt);
+    }
+
+    private record Request(BookingSummary booking, String serviceAddress) {
+    }
+
+    private record Dispatch(List<String> workers, long expiresAt) {
+    }
+}
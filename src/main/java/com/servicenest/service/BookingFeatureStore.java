@@ -0,0 +1,87 @@
+package com.servicenest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.servicenest.model.Booking;
+import com.servicenest.repository.BookingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Each customer's {@link BookingFeatures}, loaded on first use from one GROUP BY over their bookings
+ * (one row per service type, no entities) plus their newest booking's address, and then updated in
+ * place as they book, so it never needs reloading while cached.
+ *
+ * A booking created after a load finished can't be in it and is added. One created before that may or
+ * may not have been committed in time for the load to see it, so the entry is dropped instead and the
+ * next read loads it again.
+ *
+ * BookingController must call {@link #bookingCreated(Booking)} after every new booking.
+ */
+@Component
+public class BookingFeatureStore {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${servicenest.booking-features.maximum-size:10000}")
+    private long maximumSize;
+
+    private Cache<String, Loaded> byCustomer;
+
+    @PostConstruct
+    public void init() {
+        byCustomer = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byCustomer, "booking-features");
+    }
+
+    public BookingFeatures find(String email) {
+        return byCustomer.get(key(email), k -> load(email)).features();
+    }
+
+    // Only customers already cached are updated; the rest load with this booking included. Waits for a
+    // load in flight for the customer, so it sees when that load finished.
+    public void bookingCreated(Booking booking) {
+        if (booking.getCustomerEmail() != null) {
+            byCustomer.asMap().computeIfPresent(key(booking.getCustomerEmail()), (k, loaded) -> loaded.plus(booking));
+        }
+    }
+
+    private Loaded load(String email) {
+        BookingFeatures.Builder builder = new BookingFeatures.Builder();
+        for (Object[] row : bookingRepository.summarizeCustomerBookings(email)) {
+            builder.add((String) row[0], (Long) row[1], row[2] != null ? (Double) row[2] : 0.0,
+                    (LocalDateTime) row[3]);
+        }
+        if (builder.hasBookings()) {
+            bookingRepository.findLatestAddress(email, PageRequest.of(0, 1)).stream().findFirst().ifPresent(builder::lastAddress);
+        }
+        return new Loaded(builder.build(), LocalDateTime.now());
+    }
+
+    private static String key(String email) {
+        return email.trim().toLowerCase();
+    }
+
+    // Features and when their load's queries had finished
+    private record Loaded(BookingFeatures features, LocalDateTime loadedAt) {
+        // null drops the entry
+        Loaded plus(Booking booking) {
+            LocalDateTime created = booking.getCreatedAt();
+            return created != null && created.isAfter(loadedAt) ? new Loaded(features.plus(booking), loadedAt) : null;
+        }
+    }
+}
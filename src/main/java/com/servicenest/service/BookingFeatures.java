@@ -0,0 +1,171 @@
+package com.servicenest.service;
+
+import com.servicenest.model.Booking;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * What the AI endpoints need to know about one customer's bookings, in a few arrays indexed by
+ * {@link ServiceCategory} ordinal: how many of each, when each was last booked, overall spend and
+ * recency, and the address of the newest booking. Built in one pass and then kept current one booking
+ * at a time, so reading it never walks the booking history.
+ *
+ * Immutable; {@link #plus(Booking)} returns an updated copy.
+ */
+public final class BookingFeatures {
+
+    public static final BookingFeatures EMPTY = new BookingFeatures(new int[ServiceCategory.count()],
+            new LocalDateTime[ServiceCategory.count()], 0, 0.0, null, null);
+
+    private final int[] counts;
+    private final LocalDateTime[] lastBooked;
+    private final int totalBookings;
+    private final double totalSpent;
+    private final LocalDateTime lastBookedAt;
+    private final String lastAddress;
+
+    private BookingFeatures(int[] counts, LocalDateTime[] lastBooked, int totalBookings, double totalSpent,
+                            LocalDateTime lastBookedAt, String lastAddress) {
+        this.counts = counts;
+        this.lastBooked = lastBooked;
+        this.totalBookings = totalBookings;
+        this.totalSpent = totalSpent;
+        this.lastBookedAt = lastBookedAt;
+        this.lastAddress = lastAddress;
+    }
+
+    /**
+     * One pass over a customer's bookings, in any order.
+     */
+    public static BookingFeatures of(List<Booking> bookings) {
+        Builder builder = new Builder();
+        for (Booking booking : bookings) {
+            builder.add(booking);
+        }
+        return builder.build();
+    }
+
+    /**
+     * This plus one newly created booking, which must not already be counted.
+     */
+    public BookingFeatures plus(Booking booking) {
+        return new Builder(this).add(booking).build();
+    }
+
+    public int count(ServiceCategory category) {
+        return counts[category.ordinal()];
+    }
+
+    public boolean has(ServiceCategory category) {
+        return counts[category.ordinal()] > 0;
+    }
+
+    /**
+     * When the customer last booked this kind of service, or null if never.
+     */
+    public LocalDateTime lastBooked(ServiceCategory category) {
+        return lastBooked[category.ordinal()];
+    }
+
+    public int getTotalBookings() {
+        return totalBookings;
+    }
+
+    public double getTotalSpent() {
+        return totalSpent;
+    }
+
+    public double getAverageSpent() {
+        return totalBookings == 0 ? 0.0 : totalSpent / totalBookings;
+    }
+
+    public LocalDateTime getLastBookedAt() {
+        return lastBookedAt;
+    }
+
+    /**
+     * Service address of the newest booking, or null before the first booking.
+     */
+    public String getLastAddress() {
+        return lastAddress;
+    }
+
+    /**
+     * The most booked category, or null before the first booking.
+     */
+    public ServiceCategory getFavorite() {
+        int best = -1;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 && (best < 0 || counts[i] > counts[best])) {
+                best = i;
+            }
+        }
+        return best < 0 ? null : ServiceCategory.ofOrdinal(best);
+    }
+
+    /**
+     * Folds in bookings one at a time or, from a GROUP BY, a service type's count, total and newest at once
+     * (the newest address then has to be set separately).
+     */
+    public static final class Builder {
+        private final int[] counts;
+        private final LocalDateTime[] lastBooked;
+        private int totalBookings;
+        private double totalSpent;
+        private LocalDateTime lastBookedAt;
+        private String lastAddress;
+
+        public Builder() {
+            this(EMPTY);
+        }
+
+        private Builder(BookingFeatures from) {
+            counts = Arrays.copyOf(from.counts, from.counts.length);
+            lastBooked = Arrays.copyOf(from.lastBooked, from.lastBooked.length);
+            totalBookings = from.totalBookings;
+            totalSpent = from.totalSpent;
+            lastBookedAt = from.lastBookedAt;
+            lastAddress = from.lastAddress;
+        }
+
+        public Builder add(Booking booking) {
+            LocalDateTime created = booking.getCreatedAt();
+            if (lastAddress == null || (created != null && (lastBookedAt == null || !created.isBefore(lastBookedAt)))) {
+                lastAddress = booking.getServiceAddress();
+            }
+            return add(booking.getServiceType(), 1, booking.getPrice() != null ? booking.getPrice() : 0.0,
+                    created);
+        }
+
+        public Builder add(String serviceType, long count, double spent, LocalDateTime newest) {
+            int i = ServiceCategory.of(serviceType).ordinal();
+            counts[i] += (int) count;
+            totalBookings += (int) count;
+            totalSpent += spent;
+            if (newest != null) {
+                if (lastBooked[i] == null || newest.isAfter(lastBooked[i])) {
+                    lastBooked[i] = newest;
+                }
+                if (lastBookedAt == null || newest.isAfter(lastBookedAt)) {
+                    lastBookedAt = newest;
+                }
+            }
+            return this;
+        }
+
+        public boolean hasBookings() {
+            return totalBookings > 0;
+        }
+
+        public Builder lastAddress(String address) {
+            lastAddress = address;
+            return this;
+        }
+
+        public BookingFeatures build() {
+            return new BookingFeatures(counts, lastBooked, totalBookings, totalSpent, lastBookedAt, lastAddress);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.servicenest.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts booking status changes as servicenest.bookings.transitions{from,to}. Statuses arrive from
+ * request bodies, so anything outside the known set is tagged "other" to keep the series bounded.
+ */
+@Component
+public class BookingMetrics {
+
+    public static final String NEW = "new";
+
+    private static final Set<String> KNOWN_STATUSES = Set.of(
+            "pending", "accepted", "in-progress", "completed", "cancelled", "rejected");
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private Counter claimConflicts;
+
+    @PostConstruct
+    public void init() {
+        claimConflicts = Counter.builder("servicenest.bookings.claim.conflicts")
+                .description("Job accepts rejected because another worker claimed it first")
+                .register(meterRegistry);
+    }
+
+    public void transition(String from, String to) {
+        String fromTag = tag(from);
+        String toTag = tag(to);
+        counters.computeIfAbsent(fromTag + '>' + toTag, key -> Counter.builder("servicenest.bookings.transitions")
+                .description("Booking status changes")
+                .tag("from", fromTag)
+                .tag("to", toTag)
+                .register(meterRegistry))
+                .increment();
+    }
+
+    // Accept attempts that lost the race for a job to another worker
+    public void claimConflict() {
+        claimConflicts.increment();
+    }
+
+    private static String tag(String status) {
+        if (NEW.equals(status)) {
+            return NEW;
+        }
+        return status != null && KNOWN_STATUSES.contains(status) ? status : "other";
+    }
+}
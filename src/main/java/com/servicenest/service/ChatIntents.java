@@ -0,0 +1,273 @@
+package com.servicenest.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+
+/**
+ * The chat assistant's intents compiled into one Aho-Corasick automaton over all their keywords, so a
+ * message is read once, left to right, however many intents and keywords there are. Every keyword found
+ * at the start of a word (case-insensitively) scores a point for its intent, each keyword once; the
+ * highest score wins and earlier intents win ties. Replies are the intents' fixed texts, or the fallback
+ * with {@value #MESSAGE_PLACEHOLDER} replaced by the message when nothing matches.
+ *
+ * Intents are loaded from JSON (see chat-intents.json and {@link #load(InputStream)}). Immutable and
+ * thread-safe.
+ */
+public final class ChatIntents {
+
+    public static final String MESSAGE_PLACEHOLDER = "{message}";
+
+    private final String[] names;
+    private final String[] responses;
+    private final String fallbackPrefix;
+    private final String fallbackSuffix;
+
+    // Keyword id -> its intent and length
+    private final int[] keywordIntent;
+    private final int[] keywordLength;
+
+    // Characters are mapped to classes (0 for any character in no keyword, ASCII upper case to its lower
+    // case). next is the automaton's full transition table, failure links folded in, one row of classes
+    // per state: next[state * classes + class] holds the target's row offset (state * classes) shifted
+    // left by one, with the low bit set when keywords end there
+    private final int[] asciiClass;
+    private final char[] otherChars;
+    private final int[] otherClass;
+    private final int classes;
+    private final int[] next;
+    // Keyword ids ending at each state, including those reached by failure links:
+    // outputKeywords[outputStart[state] .. outputStart[state + 1])
+    private final int[] outputStart;
+    private final int[] outputKeywords;
+
+    private ChatIntents(List<Intent> intents, String fallback) {
+        int n = intents.size();
+        names = new String[n];
+        responses = new String[n];
+        List<String> keywords = new ArrayList<>();
+        List<Integer> intentOf = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Intent intent = intents.get(i);
+            names[i] = intent.name();
+            responses[i] = intent.response();
+            for (String keyword : intent.keywords()) {
+                String normalized = keyword.trim().toLowerCase();
+                if (!normalized.isEmpty()) {
+                    keywords.add(normalized);
+                    intentOf.add(i);
+                }
+            }
+        }
+        keywordIntent = intentOf.stream().mapToInt(Integer::intValue).toArray();
+        keywordLength = keywords.stream().mapToInt(String::length).toArray();
+
+        int split = fallback.indexOf(MESSAGE_PLACEHOLDER);
+        fallbackPrefix = split < 0 ? fallback : fallback.substring(0, split);
+        fallbackSuffix = split < 0 ? null : fallback.substring(split + MESSAGE_PLACEHOLDER.length());
+
+        // Character classes
+        TreeSet<Character> alphabet = new TreeSet<>();
+        for (String keyword : keywords) {
+            for (char c : keyword.toCharArray()) {
+                alphabet.add(c);
+            }
+        }
+        asciiClass = new int[128];
+        List<Character> others = new ArrayList<>();
+        int nextClass = 1;
+        Map<Character, Integer> classOf = new HashMap<>();
+        for (char c : alphabet) {
+            classOf.put(c, nextClass);
+            if (c < 128) {
+                asciiClass[c] = nextClass;
+                if (c >= 'a' && c <= 'z') {
+                    asciiClass[Character.toUpperCase(c)] = nextClass;
+                }
+            } else {
+                others.add(c);
+            }
+            nextClass++;
+        }
+        classes = nextClass;
+        otherChars = new char[others.size()];
+        otherClass = new int[others.size()];
+        for (int i = 0; i < others.size(); i++) {
+            otherChars[i] = others.get(i);
+            otherClass[i] = classOf.get(others.get(i));
+        }
+
+        // Trie
+        List<int[]> children = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        children.add(new int[classes]);
+        ends.add(new ArrayList<>());
+        for (int k = 0; k < keywords.size(); k++) {
+            int state = 0;
+            for (char c : keywords.get(k).toCharArray()) {
+                int cls = classOf.get(c);
+                if (children.get(state)[cls] == 0) {
+                    children.get(state)[cls] = children.size();
+                    children.add(new int[classes]);
+                    ends.add(new ArrayList<>());
+                }
+                state = children.get(state)[cls];
+            }
+            ends.get(state).add(k);
+        }
+
+        // Failure links, breadth first, turned into full transitions
+        int states = children.size();
+        next = new int[states * classes];
+        int[][] output = new int[states][];
+        int[] fail = new int[states];
+        Queue<Integer> queue = new ArrayDeque<>();
+        output[0] = new int[0];
+        for (int cls = 0; cls < classes; cls++) {
+            int child = children.get(0)[cls];
+            next[cls] = child;
+            if (child != 0) {
+                fail[child] = 0;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int[] own = ends.get(state).stream().mapToInt(Integer::intValue).toArray();
+            int[] inherited = output[fail[state]];
+            output[state] = Arrays.copyOf(own, own.length + inherited.length);
+            System.arraycopy(inherited, 0, output[state], own.length, inherited.length);
+            for (int cls = 0; cls < classes; cls++) {
+                int child = children.get(state)[cls];
+                if (child != 0) {
+                    fail[child] = next[fail[state] * classes + cls];
+                    next[state * classes + cls] = child;
+                    queue.add(child);
+                } else {
+                    next[state * classes + cls] = next[fail[state] * classes + cls];
+                }
+            }
+        }
+        for (int i = 0; i < next.length; i++) {
+            int target = next[i];
+            next[i] = (target * classes) << 1 | (output[target].length > 0 ? 1 : 0);
+        }
+        outputStart = new int[states + 1];
+        for (int state = 0; state < states; state++) {
+            outputStart[state + 1] = outputStart[state] + output[state].length;
+        }
+        outputKeywords = new int[outputStart[states]];
+        for (int state = 0; state < states; state++) {
+            System.arraycopy(output[state], 0, outputKeywords, outputStart[state], output[state].length);
+        }
+    }
+
+    /**
+     * Compiles intents in priority order (earlier wins ties) with the reply for messages matching none.
+     */
+    public static ChatIntents compile(List<Intent> intents, String fallback) {
+        return new ChatIntents(intents, fallback);
+    }
+
+    /**
+     * Reads {@code {"intents": [{"name", "keywords": [...], "response"}, ...], "fallback"}}.
+     */
+    public static ChatIntents load(InputStream json) throws IOException {
+        Config config = new ObjectMapper().readValue(json, Config.class);
+        return compile(config.intents(), config.fallback());
+    }
+
+    public String reply(String message) {
+        int intent = match(message);
+        if (intent >= 0) {
+            return responses[intent];
+        }
+        return fallbackSuffix == null ? fallbackPrefix : fallbackPrefix + message + fallbackSuffix;
+    }
+
+    /**
+     * Name of the intent the message matches, or null for none.
+     */
+    public String intentOf(String message) {
+        int intent = match(message);
+        return intent >= 0 ? names[intent] : null;
+    }
+
+    private int match(String message) {
+        // Distinct keywords found, in the order found; messages hit few, so this stays small
+        int[] hits = new int[8];
+        int hitCount = 0;
+        int row = 0;
+        for (int i = 0, length = message.length(); i < length; i++) {
+            int target = next[row + classOf(message.charAt(i))];
+            row = target >>> 1;
+            if ((target & 1) == 0) {
+                continue;
+            }
+            int state = row / classes;
+            for (int o = outputStart[state], end = outputStart[state + 1]; o < end; o++) {
+                int keyword = outputKeywords[o];
+                int start = i - keywordLength[keyword] + 1;
+                if ((start == 0 || !Character.isLetterOrDigit(message.charAt(start - 1))) && indexOf(hits, hitCount, keyword) < 0) {
+                    if (hitCount == hits.length) {
+                        hits = Arrays.copyOf(hits, hitCount * 2);
+                    }
+                    hits[hitCount++] = keyword;
+                }
+            }
+        }
+
+        // Highest score, then lowest intent index
+        int best = -1;
+        int bestScore = 0;
+        for (int h = 0; h < hitCount; h++) {
+            int intent = keywordIntent[hits[h]];
+            int score = 0;
+            for (int other = 0; other < hitCount; other++) {
+                if (keywordIntent[hits[other]] == intent) {
+                    score++;
+                }
+            }
+            if (score > bestScore || (score == bestScore && intent < best)) {
+                best = intent;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOf(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int classOf(char c) {
+        if (c < 128) {
+            return asciiClass[c];
+        }
+        c = Character.toLowerCase(c);
+        int i = Arrays.binarySearch(otherChars, c);
+        return i >= 0 ? otherClass[i] : 0;
+    }
+
+    public record Intent(String name, List<String> keywords, String response) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record Config(List<Intent> intents, String fallback) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.servicenest.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Half-open intervals [start, end) with an id each, in an AVL tree ordered by (start, id) where every
+ * node also carries the largest end in its subtree. Adding, removing and asking whether anything
+ * overlaps a range are all O(log n).
+ *
+ * Not thread-safe; callers lock around it.
+ */
+public class IntervalTree {
+
+    private Node root;
+    private final Map<Long, Node> byId = new HashMap<>();
+
+    /**
+     * Adds an interval, replacing any already held under the same id.
+     */
+    public void add(long id, long start, long end) {
+        remove(id);
+        Node node = new Node(id, start, end);
+        root = insert(root, node);
+        byId.put(id, node);
+    }
+
+    public boolean remove(long id) {
+        Node node = byId.remove(id);
+        if (node == null) {
+            return false;
+        }
+        root = delete(root, node.start, node.id);
+        return true;
+    }
+
+    public boolean contains(long id) {
+        return byId.containsKey(id);
+    }
+
+    /**
+     * Whether any interval other than {@code ignoreId} overlaps [start, end).
+     */
+    public boolean overlaps(long start, long end, long ignoreId) {
+        return overlaps(root, start, end, ignoreId);
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private static boolean overlaps(Node node, long start, long end, long ignoreId) {
+        while (node != null) {
+            // Nothing below this node ends after start
+            if (node.maxEnd <= start) {
+                return false;
+            }
+            if (node.left != null && node.left.maxEnd > start && overlaps(node.left, start, end, ignoreId)) {
+                return true;
+            }
+            // Everything to the right starts at or after this node
+            if (node.start >= end) {
+                return false;
+            }
+            if (node.end > start && node.id != ignoreId) {
+                return true;
+            }
+            node = node.right;
+        }
+        return false;
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.id, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return rebalance(node);
+    }
+
+    private static Node delete(Node node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, start, id);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // Replace with the smallest node of the right subtree
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private static Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int compare(long start, long id, Node node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node node) {
+        return node != null ? node.height : 0;
+    }
+
+    private static class Node {
+        private final long id;
+        private final long start;
+        private final long end;
+        private long maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        Node(long id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+}
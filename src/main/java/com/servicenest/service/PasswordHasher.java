@@ -0,0 +1,126 @@
+package com.servicenest.service;
+
+import com.servicenest.config.AppConfig;
+import com.servicenest.model.User;
+import com.servicenest.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on its own small pool. BCrypt is deliberately CPU-bound, so a login burst
+ * on request threads would crowd out every other endpoint; here at most one hash per core runs at
+ * a time, a bounded queue absorbs short bursts, and anything beyond that is rejected with
+ * {@link java.util.concurrent.RejectedExecutionException} instead of piling up.
+ *
+ * A successful check against a plain-text or outdated-cost password re-encodes it on the spot.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+
+    @Autowired
+    private AppConfig.PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountCache accountCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 0 means one thread per available core
+    @Value("${servicenest.password.hashing-threads:0}")
+    private int threads;
+
+    @Value("${servicenest.password.hashing-queue:256}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "password-hashing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hashing");
+    }
+
+    /**
+     * Checks a password against the user's stored one, upgrading the stored encoding when it matches
+     * but is plain text or uses a different cost.
+     */
+    public CompletableFuture<Boolean> verify(User user, String rawPassword) {
+        String stored = user.getPassword();
+        return submit(() -> {
+            if (!passwordEncoder.matches(rawPassword, stored)) {
+                return false;
+            }
+            if (passwordEncoder.upgradeEncoding(stored)) {
+                rehash(user, stored, rawPassword);
+            }
+            return true;
+        });
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // Carries the caller's request id over to the hashing thread so its log lines stay correlated
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return CompletableFuture.supplyAsync(() -> {
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                return task.get();
+            } finally {
+                MDC.clear();
+            }
+        }, executor);
+    }
+
+    // Losing to a concurrent password change is fine (the newer password wins), and a failed upgrade
+    // never fails the login; it is retried on the next one
+    private void rehash(User user, String stored, String rawPassword) {
+        try {
+            String upgraded = passwordEncoder.encode(rawPassword);
+            if (userRepository.replacePassword(user.getId(), stored, upgraded) == 1) {
+                accountCache.evictUser(user.getEmail());
+                log.info("Upgraded password encoding for user {}", user.getId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Error upgrading password encoding for user {}", user.getId(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
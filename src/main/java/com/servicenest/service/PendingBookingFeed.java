@@ -0,0 +1,299 @@
+package com.servicenest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.servicenest.dto.BookingSummary;
+import com.servicenest.model.Booking;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory fan-out of pending-job changes to connected worker dashboards over Server-Sent Events.
+ *
+ * Subscribers are parked servlet async requests, so an idle connection holds no request thread.
+ * Booking writes only enqueue onto a bounded queue; one thread serializes each event and hands the
+ * frame to every subscriber's own small queue, which a sender pool drains one send at a time per
+ * subscriber. A subscriber whose queue fills up, or whose send runs past the timeout, is dropped.
+ *
+ * A blocked servlet write can't be interrupted from another thread (the emitter's complete() waits
+ * for the send in progress), so the timeout is enforced by the connector: server.tomcat.connection-timeout
+ * is set to the send timeout, and a write that makes no progress for that long fails with an IOException.
+ * A stalled client therefore holds a sender thread for at most the send timeout. The sender pool only
+ * grows as sends overlap, so it can be sized well above the number of clients expected to stall at once;
+ * only beyond that do stalled clients hold up anyone else.
+ *
+ * Events dropped because the feed queue was full are followed by a {@link #RESYNC} event once it drains,
+ * telling dashboards to reload the /pending list.
+ */
+@Component
+public class PendingBookingFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingBookingFeed.class);
+
+    public static final String BOOKING_CREATED = "booking-created";
+    public static final String BOOKING_CLAIMED = "booking-claimed";
+    public static final String BOOKING_CLOSED = "booking-closed";
+    public static final String BOOKING_OFFERED = "booking-offered";
+    public static final String RESYNC = "resync";
+
+    private static final long EMITTER_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+    private static final long HEARTBEAT_SECONDS = 25;
+    private static final long WATCHDOG_MS = 500;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${servicenest.feed.senders:32}")
+    private int senderThreads;
+
+    @Value("${servicenest.feed.queue:1000}")
+    private int queueCapacity;
+
+    @Value("${servicenest.feed.subscriber-queue:32}")
+    private int subscriberQueueCapacity;
+
+    @Value("${servicenest.feed.send-timeout:5s}")
+    private Duration sendTimeout;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Set when an event was dropped, until the resync event has gone out
+    private final AtomicBoolean resyncNeeded = new AtomicBoolean();
+
+    private ThreadPoolExecutor dispatcher;
+    private ExecutorService senders;
+    private ScheduledExecutorService timer;
+
+    private Counter droppedEvents;
+    private Counter droppedSubscribers;
+
+    @PostConstruct
+    public void init() {
+        dispatcher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemon("pending-feed-dispatcher"),
+                new ThreadPoolExecutor.AbortPolicy());
+        // Grows to senderThreads only while that many sends are in flight at once; holds at most one drain
+        // task per subscriber
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(senderThreads, senderThreads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemon("pending-feed-sender"));
+        pool.allowCoreThreadTimeOut(true);
+        senders = pool;
+        timer = Executors.newSingleThreadScheduledExecutor(daemon("pending-feed-timer"));
+
+        droppedEvents = Counter.builder("servicenest.feed.dropped.events")
+                .description("Feed events discarded because the feed queue was full")
+                .register(meterRegistry);
+        droppedSubscribers = Counter.builder("servicenest.feed.dropped.subscribers")
+                .description("Feed subscribers disconnected for lagging behind or timing out a send")
+                .register(meterRegistry);
+
+        // Comment frames keep proxies from dropping idle streams and flush out dead subscribers
+        timer.scheduleAtFixedRate(() -> fanOut(SseEmitter.event().comment("heartbeat").build()),
+                HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+        timer.scheduleWithFixedDelay(this::dropStalledSends, WATCHDOG_MS, WATCHDOG_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe() {
+        Subscriber subscriber = new Subscriber();
+        subscribers.add(subscriber);
+        return subscriber.emitter;
+    }
+
+    public void bookingCreated(Booking booking) {
+        // Same shape as the /pending list, without the customer's contact details
+        publish(BOOKING_CREATED, BookingSummary.from(booking));
+    }
+
+    public void bookingClaimed(Long bookingId, String workerEmail) {
+        publish(BOOKING_CLAIMED, Map.of("id", bookingId, "assignedWorker", workerEmail));
+    }
+
+    public void bookingClosed(Long bookingId, String status) {
+        publish(BOOKING_CLOSED, Map.of("id", bookingId, "status", status));
+    }
+
+    // The workers the dispatcher picked for a job, so their dashboards can flag it
+    public void bookingOffered(Long bookingId, List<String> workerEmails) {
+        publish(BOOKING_OFFERED, Map.of("id", bookingId, "workers", workerEmails));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void publish(String eventName, Object payload) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> {
+                try {
+                    // Serialize once per event rather than once per subscriber
+                    String json = objectMapper.writeValueAsString(payload);
+                    fanOut(SseEmitter.event().name(eventName).data(json).build());
+                } catch (JsonProcessingException e) {
+                    log.warn("Error serializing {} event", eventName, e);
+                }
+                // The drop happened while this task or one behind it was queued, so some task sees the flag
+                if (dispatcher.getQueue().isEmpty() && resyncNeeded.compareAndSet(true, false)) {
+                    fanOut(SseEmitter.event().name(RESYNC).data("{}").build());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            resyncNeeded.set(true);
+            droppedEvents.increment();
+            log.warn("Pending feed queue full, {} event dropped", eventName);
+        }
+    }
+
+    private void fanOut(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(frame);
+        }
+    }
+
+    // A send that makes no progress is failed by the connector; one still going after the timeout is
+    // trickling out to a client that barely reads, so that subscriber is fed nothing more
+    private void dropStalledSends() {
+        long now = System.nanoTime();
+        long timeoutNanos = sendTimeout.toNanos();
+        for (Subscriber subscriber : subscribers) {
+            long since = subscriber.sendingSince;
+            if (since != 0 && now - since > timeoutNanos) {
+                subscriber.drop("a send took longer than " + sendTimeout.toMillis() + "ms");
+            }
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    /**
+     * One connected dashboard: its emitter, the frames not yet sent to it, and at most one drain task
+     * on the sender pool at a time, so its frames go out in order.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> frames =
+                new ArrayBlockingQueue<>(subscriberQueueCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        // System.nanoTime() when the send in progress started, 0 while idle
+        private volatile long sendingSince;
+        private volatile boolean closed;
+
+        Subscriber() {
+            emitter.onCompletion(this::close);
+            emitter.onTimeout(this::close);
+            emitter.onError(e -> close());
+        }
+
+        void offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (closed) {
+                return;
+            }
+            if (!frames.offer(frame)) {
+                drop("it fell " + subscriberQueueCapacity + " events behind");
+                return;
+            }
+            schedule();
+        }
+
+        // Stops feeding the subscriber; its drain task ends the stream once no send is in progress,
+        // since the emitter can't be completed while another thread is writing to it
+        void drop(String reason) {
+            if (closed) {
+                return;
+            }
+            close();
+            droppedSubscribers.increment();
+            log.info("Dropped pending feed subscriber: {}", reason);
+            schedule();
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+            frames.clear();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            do {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                while (!closed && (frame = frames.poll()) != null) {
+                    sendingSince = System.nanoTime();
+                    try {
+                        emitter.send(frame);
+                    } catch (IOException | IllegalStateException e) {
+                        close();
+                        emitter.completeWithError(e);
+                        return;
+                    } finally {
+                        sendingSince = 0;
+                    }
+                }
+                if (closed) {
+                    emitter.complete();
+                    return;
+                }
+                scheduled.set(false);
+            } while (!frames.isEmpty() && scheduled.compareAndSet(false, true));
+        }
+    }
+}
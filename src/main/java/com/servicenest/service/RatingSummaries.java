@@ -0,0 +1,101 @@
+package com.servicenest.service;
+
+import com.servicenest.repository.RatingSummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Running rating totals per key, kept in a summary row per key and mirrored in memory. The row is
+ * updated in the same transaction as the rating insert and the map after commit, so a submission costs
+ * one insert plus one in-place update and reading totals is a map lookup no matter how many ratings
+ * exist.
+ *
+ * @param <R> the rating entity
+ * @param <S> the summary row entity
+ * @param <T> the immutable in-memory totals
+ */
+abstract class RatingSummaries<R, S, T extends RatingSummaries.Totals<T>> {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<String, T> byKey = new ConcurrentHashMap<>();
+
+    protected abstract JpaRepository<R, Long> ratingRepository();
+
+    protected abstract RatingSummaryRepository<S> summaryRepository();
+
+    protected abstract S newSummary(String key);
+
+    protected abstract String keyOf(S summary);
+
+    protected abstract T totalsOf(S summary);
+
+    protected abstract T empty();
+
+    // Summary rows computed from the ratings table, for ratings written before summaries existed
+    protected abstract List<S> backfill();
+
+    // Called with each key's totals as they are loaded and after each submission commits
+    protected void totalsChanged(String key, T totals) {
+    }
+
+    protected void loadSummaries() {
+        List<S> summaries = summaryRepository().findAll();
+        if (summaries.isEmpty() && ratingRepository().count() > 0) {
+            summaries = summaryRepository().saveAll(backfill());
+        }
+        for (S summary : summaries) {
+            T totals = totalsOf(summary);
+            byKey.put(keyOf(summary), totals);
+            totalsChanged(keyOf(summary), totals);
+        }
+    }
+
+    /**
+     * Saves the rating and folds its value into the key's totals atomically.
+     */
+    protected R submit(String key, R rating, int value) {
+        ensureSummaryRow(key);
+        R saved = new TransactionTemplate(transactionManager).execute(status -> {
+            R inserted = ratingRepository().save(rating);
+            summaryRepository().addRating(key, value);
+            return inserted;
+        });
+
+        T updated = byKey.compute(key, (k, current) -> (current != null ? current : empty()).plus(value));
+        totalsChanged(key, updated);
+        return saved;
+    }
+
+    protected T totals(String key) {
+        T totals = key != null ? byKey.get(key) : null;
+        return totals != null ? totals : empty();
+    }
+
+    // The first rating of a key races to create its row; losing that race is fine
+    private void ensureSummaryRow(String key) {
+        if (byKey.containsKey(key) || summaryRepository().existsById(key)) {
+            return;
+        }
+        try {
+            summaryRepository().saveAndFlush(newSummary(key));
+        } catch (DataIntegrityViolationException e) {
+            // Created concurrently by another request
+        }
+    }
+
+    /**
+     * Immutable totals that one more rating turns into new totals.
+     */
+    interface Totals<T> {
+        T plus(int rating);
+    }
+}
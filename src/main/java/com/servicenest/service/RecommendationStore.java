@@ -0,0 +1,515 @@
+package com.servicenest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.servicenest.dto.BundleRecommendation;
+import com.servicenest.dto.Recommendations;
+import com.servicenest.dto.RecommendationsResponse;
+import com.servicenest.dto.ServiceRecommendation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The AI dashboard's recommendations, precomputed. Each user's are built once and kept as the finished
+ * JSON body, so a read is one cache lookup with nothing to query or serialize. They are rebuilt when the
+ * user's bookings change, on the first read after the "also booked" model is rebuilt, and, since the
+ * predictions depend on how long ago the last booking was, on the first read of a new day.
+ *
+ * The sections that are the same for everyone (seasonal, the fallback popular list and the standing
+ * bundles) are built once a day as immutable lists and shared by every user's build. Personalized
+ * services come from the nightly "customers also booked" model ({@link AlsoBookedModel}). Trending comes
+ * from the last window of bookings in the area of the user's latest booking ({@link TrendingServices});
+ * it moves with every booking, so it is kept out of the stored bodies. Each area's trending JSON is
+ * built at most once a minute and shared, and spliced into the user's body as it is served.
+ *
+ * Bodies are built outside the cache's locks and installed afterwards, unless one of the user's bookings
+ * changed while the build ran (a change bumps the counter of the user's stripe; a build that sees its
+ * stripe move is served once but not kept).
+ */
+@Component
+public class RecommendationStore {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationStore.class);
+
+    private static final String MESSAGE = "AI recommendations generated";
+
+    private static final int PERSONALIZED_LIMIT = 3;
+    private static final int TRENDING_LIMIT = 4;
+    // How long an area's trending section is served before it is rebuilt
+    private static final long TRENDING_REFRESH_MILLIS = 60_000;
+    // Stands in for the trending section in a stored body; where it is cut to splice in the area's section
+    private static final String TRENDING_FIELD = "\"trending\":";
+    private static final byte[] TRENDING_PLACEHOLDER = (TRENDING_FIELD + "null").getBytes(StandardCharsets.UTF_8);
+    // The area key of users whose latest booking is in no known area
+    private static final String NO_AREA = "";
+    // Shown for a suggested service nobody has reviewed yet
+    private static final double UNRATED = 4.5;
+    // Booking-change counters, one per stripe of users; a power of two
+    private static final int CHANGE_STRIPES = 1024;
+
+    private static final Map<String, String> CATEGORY_IMAGES = Map.of(
+            "plumbing", "🚰",
+            "electrical", "⚡",
+            "cleaning", "🧹",
+            "maintenance", "🔧",
+            "installation", "🔩",
+            "renovation", "🏠",
+            "safety", "🛡️",
+            "smart-home", "🤖");
+
+    @Autowired
+    private BookingFeatureStore bookingFeatureStore;
+
+    @Autowired
+    private AlsoBookedModel alsoBookedModel;
+
+    @Autowired
+    private TrendingServices trendingServices;
+
+    @Autowired
+    private WorkerSearchIndex workerSearchIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${servicenest.recommendations.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${servicenest.recommendations.rebuild-queue:1000}")
+    private int rebuildQueueCapacity;
+
+    private Cache<String, Stored> byUser;
+    private volatile Daily daily;
+    // Bounded by the served areas, since areaOf only ever returns one of those
+    private final Map<String, Trending> trendingByArea = new ConcurrentHashMap<>();
+    private final AtomicLongArray changes = new AtomicLongArray(CHANGE_STRIPES);
+    // Users with a background rebuild queued, so a burst of changes queues one
+    private final Set<String> rebuildsQueued = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolExecutor rebuilder;
+
+    @PostConstruct
+    public void init() {
+        byUser = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byUser, "recommendations");
+
+        // A full queue drops the rebuild; the user's recommendations are then built on their next read
+        rebuilder = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(rebuildQueueCapacity), r -> {
+                    Thread thread = new Thread(r, "recommendation-rebuild");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, rebuilder, "recommendation-rebuild");
+    }
+
+    /**
+     * The user's recommendations as a ready-to-send RecommendationsResponse body.
+     */
+    public byte[] find(String email) {
+        LocalDate today = LocalDate.now();
+        ServiceNeighbors neighbors = alsoBookedModel.current();
+        String key = key(email);
+        Stored stored = byUser.getIfPresent(key);
+        if (stored == null || !stored.isCurrent(today, neighbors)) {
+            long version = changes.get(stripe(key));
+            stored = install(key, build(email, today, neighbors), version);
+        }
+        return stored.with(trending(stored.area(), today, neighbors));
+    }
+
+    /**
+     * Called after a booking of the user is created or changes. Users with stored recommendations get
+     * them rebuilt in the background; everyone else's are built on their next read.
+     */
+    public void bookingsChanged(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = key(email);
+        // Bumped before the removal, so a build that read the old bookings is never installed after it
+        changes.incrementAndGet(stripe(key));
+        if (byUser.asMap().remove(key) == null || !rebuildsQueued.add(key)) {
+            return;
+        }
+        try {
+            rebuilder.execute(() -> {
+                rebuildsQueued.remove(key);
+                try {
+                    long version = changes.get(stripe(key));
+                    install(key, build(email, LocalDate.now(), alsoBookedModel.current()), version);
+                } catch (RuntimeException e) {
+                    log.warn("Error rebuilding recommendations for {}", email, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rebuildsQueued.remove(key);
+            log.debug("Recommendation rebuild queue full; {} is rebuilt on the next read", email);
+        }
+    }
+
+    /**
+     * Builds one user's recommendations from their booking features, the given "also booked" neighbors and
+     * what is trending in their area.
+     */
+    public Recommendations recommend(BookingFeatures features, ServiceNeighbors neighbors, List<TrendingServices.Trend> trends) {
+        return recommend(features, neighbors, trends, daily(LocalDate.now()));
+    }
+
+    // Keeps a build made from the bookings as of the given version, unless they have changed since (then
+    // it is only returned) or an equally current body got there first
+    private Stored install(String key, Stored built, long version) {
+        Stored installed = byUser.asMap().compute(key, (k, current) -> {
+            if (changes.get(stripe(k)) != version) {
+                return current;
+            }
+            return current != null && current.isCurrent(built.day(), built.neighbors()) ? current : built;
+        });
+        return installed != null ? installed : built;
+    }
+
+    // The user's body without trending, split where the area's trending section goes
+    private Stored build(String email, LocalDate today, ServiceNeighbors neighbors) {
+        BookingFeatures features = bookingFeatureStore.find(email);
+        String area = WorkerSearchIndex.normalize(workerSearchIndex.areaOf(features.getLastAddress()));
+        Recommendations recommendations = recommend(features, neighbors, null, daily(today));
+        byte[] body = serialize(RecommendationsResponse.of(MESSAGE, recommendations));
+        // Nothing before the field can contain it unescaped: keys are fixed and string values escape quotes
+        int cut = indexOf(body, TRENDING_PLACEHOLDER);
+        if (cut < 0) {
+            throw new IllegalStateException("Trending field missing from serialized recommendations");
+        }
+        int start = cut + TRENDING_FIELD.length();
+        return new Stored(today, neighbors, area != null ? area : NO_AREA,
+                Arrays.copyOfRange(body, 0, start),
+                Arrays.copyOfRange(body, cut + TRENDING_PLACEHOLDER.length, body.length));
+    }
+
+    // The area's trending section as JSON, rebuilt on its first read in each new minute
+    private byte[] trending(String area, LocalDate today, ServiceNeighbors neighbors) {
+        long period = System.currentTimeMillis() / TRENDING_REFRESH_MILLIS;
+        Trending trending = trendingByArea.get(area);
+        if (trending == null || !trending.isCurrent(today, period, neighbors)) {
+            trending = trendingByArea.compute(area, (k, current) -> current != null && current.isCurrent(today, period, neighbors)
+                    ? current : new Trending(today, period, neighbors, serialize(generateLocalTrending(
+                            trendingServices.top(NO_AREA.equals(area) ? null : area, TRENDING_LIMIT), neighbors, daily(today)))));
+        }
+        return trending.json();
+    }
+
+    private Recommendations recommend(BookingFeatures features, ServiceNeighbors neighbors,
+                                      List<TrendingServices.Trend> trends, Daily shared) {
+        return new Recommendations(
+                generatePersonalizedServices(features, neighbors),
+                shared.seasonal(),
+                trends != null ? generateLocalTrending(trends, neighbors, shared) : null,
+                generatePredictedNeeds(features),
+                generateSmartBundles(features, shared));
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing recommendations", e);
+        }
+    }
+
+    // Racing rebuilds at midnight build the same thing; the last one wins
+    private Daily daily(LocalDate today) {
+        Daily current = daily;
+        if (current == null || !current.day().equals(today)) {
+            current = new Daily(today, generateSeasonalServices(today), generatePopularServices(),
+                    createBundleRecommendation("Essential Home Care",
+                        "Basic plumbing + electrical + cleaning", 4.8, 3499, 4599,
+                        List.of("Basic Plumbing Check", "Electrical Safety", "Standard Cleaning")),
+                    createBundleRecommendation("Monsoon Ready Package",
+                        "Waterproofing + drainage + AC service", 4.6, 4999, 6299,
+                        List.of("Waterproofing Service", "Drainage Cleaning", "AC Maintenance")));
+            daily = current;
+            log.debug("Shared recommendation sections built for {}", today);
+        }
+        return current;
+    }
+
+    private List<ServiceRecommendation> generatePersonalizedServices(BookingFeatures features, ServiceNeighbors neighbors) {
+        // What customers who booked the same services also booked
+        List<ServiceRecommendation> services = new ArrayList<>();
+
+        for (ServiceNeighbors.Suggestion suggestion : neighbors.suggest(features, PERSONALIZED_LIMIT)) {
+            ServiceCategory category = suggestion.category();
+            double rating = neighbors.rating(category);
+            services.add(createServiceRecommendation(category.getLabel(),
+                "Customers who booked " + suggestion.because().getLabel() + " also booked this",
+                rating > 0 ? Math.round(rating * 10) / 10.0 : UNRATED, Math.round(neighbors.averagePrice(category)),
+                imageCategory(category)));
+        }
+
+        // Defaults for new users, and for anyone the model has nothing to suggest to yet
+        if (services.isEmpty()) {
+            services.add(createServiceRecommendation("Home Deep Cleaning",
+                "Perfect for new customers", 4.9, 1299, "cleaning"));
+            services.add(createServiceRecommendation("Basic Electrical Check",
+                "Ensure home safety", 4.7, 599, "safety"));
+        }
+
+        return services;
+    }
+
+    private List<ServiceRecommendation> generateSeasonalServices(LocalDate today) {
+        int month = today.getMonthValue();
+
+        List<ServiceRecommendation> services = new ArrayList<>();
+
+        if (month >= 3 && month <= 6) { // Spring (Mar-Jun)
+            services.add(createServiceRecommendation("Summer AC Preparation",
+                "Get your AC ready for summer", 4.8, 1499, "maintenance"));
+            services.add(createServiceRecommendation("Water Cooler Service",
+                "Beat the summer heat", 4.5, 899, "cleaning"));
+        }
+        else if (month >= 6 && month <= 9) { // Monsoon (Jun-Sep)
+            services.add(createServiceRecommendation("Monsoon Home Protection",
+                "Waterproofing and drainage check", 4.7, 2999, "maintenance"));
+            services.add(createServiceRecommendation("Electrical Safety Audit",
+                "Stay safe during rains", 4.8, 1299, "safety"));
+        }
+        else if (month >= 10 || month <= 2) { // Winter (Oct-Feb)
+            services.add(createServiceRecommendation("Heater Installation & Service",
+                "Stay warm this winter", 4.6, 1999, "installation"));
+            services.add(createServiceRecommendation("Geyser Maintenance",
+                "Ensure hot water supply", 4.7, 899, "maintenance"));
+        }
+
+        // Always available seasonal services
+        services.add(createServiceRecommendation("Festival Deep Cleaning",
+            "Get ready for celebrations", 4.9, 1999, "cleaning"));
+
+        return List.copyOf(services);
+    }
+
+    private List<ServiceRecommendation> generateLocalTrending(List<TrendingServices.Trend> trends, ServiceNeighbors neighbors,
+                                                              Daily shared) {
+        // Nothing booked anywhere within the window yet
+        if (trends.isEmpty()) {
+            return shared.popular();
+        }
+
+        List<ServiceRecommendation> services = new ArrayList<>(trends.size());
+        for (TrendingServices.Trend trend : trends) {
+            double rating = neighbors.rating(trend.category());
+            services.add(createServiceRecommendation(trend.category().getLabel(),
+                "Booked " + trend.bookings() + (trend.bookings() == 1 ? " time" : " times")
+                    + (trend.area() != null ? " in " + trend.area() : "") + " recently",
+                rating > 0 ? Math.round(rating * 10) / 10.0 : UNRATED, Math.round(trend.averagePrice()),
+                imageCategory(trend.category())));
+        }
+        return services;
+    }
+
+    // Shown as trending until anything is booked within the window
+    private List<ServiceRecommendation> generatePopularServices() {
+        return List.of(
+            createServiceRecommendation("Water Purifier Installation",
+                "Popular with our customers", 4.8, 2500, "installation"),
+            createServiceRecommendation("RO Service & Repair",
+                "High demand service", 4.6, 799, "maintenance"),
+            createServiceRecommendation("Modular Kitchen Setup",
+                "Trending home upgrade", 4.9, 25000, "renovation"),
+            createServiceRecommendation("Pest Control Service",
+                "Seasonal requirement", 4.7, 1499, "cleaning"));
+    }
+
+    private List<ServiceRecommendation> generatePredictedNeeds(BookingFeatures features) {
+        List<ServiceRecommendation> services = new ArrayList<>();
+
+        // AI prediction based on booking patterns
+        if (features.getTotalBookings() > 0) {
+            LocalDateTime now = LocalDateTime.now();
+
+            // Calculate days between last service and now
+            long daysSinceLastService = daysSince(features.getLastBookedAt(), now);
+
+            log.debug("Days since last service: {}", daysSinceLastService);
+
+            // Predict needs based on when each kind of service was last booked
+            if (daysSince(features.lastBooked(ServiceCategory.PLUMBING), now) > 90) {
+                services.add(createServiceRecommendation("Plumbing Health Check",
+                    "Time for routine plumbing inspection", 4.7, 699, "maintenance"));
+            }
+
+            if (daysSince(features.lastBooked(ServiceCategory.ELECTRICAL), now) > 180) {
+                services.add(createServiceRecommendation("Electrical Safety Check",
+                    "Regular safety inspection recommended", 4.8, 899, "safety"));
+            }
+
+            if (daysSince(features.lastBooked(ServiceCategory.AC), now) > 60) {
+                services.add(createServiceRecommendation("AC Filter Cleaning",
+                    "Maintain AC efficiency", 4.6, 499, "maintenance"));
+            }
+
+            // General preventive maintenance after 6 months
+            if (daysSinceLastService > 180) {
+                services.add(createServiceRecommendation("Preventive Maintenance Package",
+                    "Time for comprehensive home check-up", 4.7, 1999, "maintenance"));
+            }
+        } else {
+            // For new users with no booking history
+            services.add(createServiceRecommendation("Welcome Home Inspection",
+                "Start with a complete home assessment", 4.8, 999, "safety"));
+        }
+
+        return services;
+    }
+
+    private List<BundleRecommendation> generateSmartBundles(BookingFeatures features, Daily shared) {
+        List<BundleRecommendation> bundles = new ArrayList<>();
+
+        // Analyze user's service patterns to create personalized bundles
+        boolean hasPlumbing = features.has(ServiceCategory.PLUMBING);
+        boolean hasElectrical = features.has(ServiceCategory.ELECTRICAL);
+        boolean hasCleaning = features.has(ServiceCategory.CLEANING);
+
+        // Basic maintenance bundle (always available)
+        bundles.add(shared.essentials());
+
+        // Personalized bundles based on history
+        if (hasPlumbing && hasElectrical) {
+            bundles.add(createBundleRecommendation("Complete Home Maintenance",
+                "Comprehensive plumbing + electrical + deep cleaning", 4.9, 5999, 7899,
+                List.of("Advanced Plumbing Check", "Complete Electrical Audit", "Premium Deep Cleaning")));
+        }
+
+        if (hasCleaning) {
+            bundles.add(createBundleRecommendation("Ultimate Clean & Repair",
+                "Deep cleaning + minor repairs package", 4.7, 4499, 5699,
+                List.of("Premium Deep Cleaning", "Minor Plumbing Fixes", "Electrical Repairs")));
+        }
+
+        // Seasonal bundle
+        bundles.add(shared.seasonalBundle());
+
+        return bundles;
+    }
+
+    private static ServiceRecommendation createServiceRecommendation(String name, String reason,
+                                                                     double rating, double price, String category) {
+        return new ServiceRecommendation(name, reason, rating, price, category,
+            Math.round((spread(name) * 10 + 85) * 10) / 10.0, // AI confidence score 85-95
+            CATEGORY_IMAGES.getOrDefault(category.toLowerCase(), "🔍"));
+    }
+
+    private static BundleRecommendation createBundleRecommendation(String name, String description,
+                                                                   double rating, double price, double originalPrice,
+                                                                   List<String> services) {
+        return new BundleRecommendation(name, description, rating, price, originalPrice, services,
+            originalPrice - price,
+            Math.round((spread(name) * 10 + 80) * 10) / 10.0,
+            Math.round(spread(description) * 50 + 50)); // 50-100%
+    }
+
+    // A fraction in [0, 1) fixed by the text, so a card shows the same score in every stored body and rebuild
+    private static double spread(String text) {
+        return Math.floorMod(text.hashCode(), 1000) / 1000.0;
+    }
+
+    private static String imageCategory(ServiceCategory category) {
+        return switch (category) {
+            case PLUMBING -> "plumbing";
+            case ELECTRICAL -> "electrical";
+            case AC -> "maintenance";
+            case CLEANING -> "cleaning";
+            case PAINTING -> "renovation";
+            case CARPENTRY -> "installation";
+            case OTHER -> "other";
+        };
+    }
+
+    // -1 for never, so it fails every "more than N days ago" check
+    private static long daysSince(LocalDateTime time, LocalDateTime now) {
+        return time != null ? Duration.between(time, now).toDays() : -1;
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        outer:
+        for (int i = 0; i <= bytes.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (bytes[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static String key(String email) {
+        return email.trim().toLowerCase();
+    }
+
+    private static int stripe(String key) {
+        return key.hashCode() & (CHANGE_STRIPES - 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    // A user's body up to and after the trending section, and the area whose trending goes between them
+    private record Stored(LocalDate day, ServiceNeighbors neighbors, String area, byte[] head, byte[] tail) {
+        boolean isCurrent(LocalDate today, ServiceNeighbors current) {
+            return day.equals(today) && neighbors == current;
+        }
+
+        byte[] with(byte[] trending) {
+            byte[] body = Arrays.copyOf(head, head.length + trending.length + tail.length);
+            System.arraycopy(trending, 0, body, head.length, trending.length);
+            System.arraycopy(tail, 0, body, head.length + trending.length, tail.length);
+            return body;
+        }
+    }
+
+    // One area's trending section, current for one minute
+    private record Trending(LocalDate day, long period, ServiceNeighbors neighbors, byte[] json) {
+        boolean isCurrent(LocalDate today, long currentPeriod, ServiceNeighbors current) {
+            return day.equals(today) && period == currentPeriod && neighbors == current;
+        }
+    }
+
+    // The sections every user gets on a given day
+    private record Daily(LocalDate day, List<ServiceRecommendation> seasonal, List<ServiceRecommendation> popular,
+                         BundleRecommendation essentials, BundleRecommendation seasonalBundle) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.servicenest.service;
+
+/**
+ * The kinds of service the AI features tell apart. Booking service types are free text ("AC Repair",
+ * "AC Service", "Carpenter", "Carpentry"), so each is filed under the first category whose keyword it
+ * contains, and anything else under OTHER.
+ */
+public enum ServiceCategory {
+    PLUMBING("Plumbing", "Plumbing"),
+    ELECTRICAL("Electrical", "Electrical"),
+    AC("AC Service", "AC"),
+    CLEANING("Cleaning", "Cleaning"),
+    PAINTING("Painting", "Paint"),
+    CARPENTRY("Carpentry", "Carpent"),
+    OTHER("Other", null);
+
+    private static final ServiceCategory[] ALL = values();
+
+    private final String label;
+    private final String keyword;
+
+    ServiceCategory(String label, String keyword) {
+        this.label = label;
+        this.keyword = keyword;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public static ServiceCategory of(String serviceType) {
+        if (serviceType != null) {
+            for (ServiceCategory category : ALL) {
+                if (category.keyword != null && serviceType.contains(category.keyword)) {
+                    return category;
+                }
+            }
+        }
+        return OTHER;
+    }
+
+    static int count() {
+        return ALL.length;
+    }
+
+    static ServiceCategory ofOrdinal(int ordinal) {
+        return ALL[ordinal];
+    }
+}
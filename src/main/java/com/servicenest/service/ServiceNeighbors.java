@@ -0,0 +1,129 @@
+package com.servicenest.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * "Customers also booked": for each {@link ServiceCategory}, the few categories most often booked by the
+ * same customers, scored by cosine similarity over customers (both / sqrt(either * other)). Neighbors and
+ * scores sit in flat arrays, k slots per category indexed by ordinal, so suggesting services for a
+ * customer reads at most categories x k entries whatever the size of the bookings table.
+ *
+ * Immutable; AlsoBookedModel builds a new one after each run of its batch job.
+ */
+public final class ServiceNeighbors {
+
+    public static final ServiceNeighbors EMPTY = of(new long[ServiceCategory.count()],
+            new long[ServiceCategory.count()][ServiceCategory.count()],
+            new double[ServiceCategory.count()], new double[ServiceCategory.count()], 0);
+
+    private final int k;
+    // neighbors[c * k + i] is the ordinal of c's i-th best neighbor, -1 past the last
+    private final int[] neighbors;
+    private final float[] scores;
+    private final double[] averagePrice;
+    private final double[] rating;
+
+    private ServiceNeighbors(int k, int[] neighbors, float[] scores, double[] averagePrice, double[] rating) {
+        this.k = k;
+        this.neighbors = neighbors;
+        this.scores = scores;
+        this.averagePrice = averagePrice;
+        this.rating = rating;
+    }
+
+    /**
+     * Keeps the top k neighbors of each category.
+     *
+     * @param customers    customers who booked each category, by ordinal
+     * @param together     customers who booked both of two categories, by ordinals (either order)
+     * @param averagePrice average booking price of each category
+     * @param rating       average review rating of each category, 0 for none
+     */
+    public static ServiceNeighbors of(long[] customers, long[][] together, double[] averagePrice, double[] rating, int k) {
+        int n = customers.length;
+        int[] neighbors = new int[n * k];
+        float[] scores = new float[n * k];
+        Arrays.fill(neighbors, -1);
+
+        for (int c = 0; c < n; c++) {
+            for (int other = 0; other < n; other++) {
+                long both = Math.max(together[c][other], together[other][c]);
+                // OTHER is free text, so there is nothing specific to suggest for it
+                if (other == c || both == 0 || other == ServiceCategory.OTHER.ordinal()) {
+                    continue;
+                }
+                float score = (float) (both / Math.sqrt((double) customers[c] * customers[other]));
+                // Insertion into c's sorted slots
+                int slot = c * k + k - 1;
+                if (k == 0 || (neighbors[slot] >= 0 && scores[slot] >= score)) {
+                    continue;
+                }
+                while (slot > c * k && (neighbors[slot - 1] < 0 || scores[slot - 1] < score)) {
+                    neighbors[slot] = neighbors[slot - 1];
+                    scores[slot] = scores[slot - 1];
+                    slot--;
+                }
+                neighbors[slot] = other;
+                scores[slot] = score;
+            }
+        }
+        return new ServiceNeighbors(k, neighbors, scores, averagePrice.clone(), rating.clone());
+    }
+
+    /**
+     * Up to limit categories the customer hasn't booked, best first: each scores the sum of its
+     * similarities to the categories they have, and is credited to the one it is most similar to.
+     */
+    public List<Suggestion> suggest(BookingFeatures features, int limit) {
+        int n = ServiceCategory.count();
+        float[] total = new float[n];
+        float[] strongest = new float[n];
+        int[] because = new int[n];
+
+        for (int c = 0; c < n; c++) {
+            if (!features.has(ServiceCategory.ofOrdinal(c))) {
+                continue;
+            }
+            for (int slot = c * k; slot < c * k + k && neighbors[slot] >= 0; slot++) {
+                int other = neighbors[slot];
+                if (features.has(ServiceCategory.ofOrdinal(other))) {
+                    continue;
+                }
+                total[other] += scores[slot];
+                if (scores[slot] > strongest[other]) {
+                    strongest[other] = scores[slot];
+                    because[other] = c;
+                }
+            }
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>(limit);
+        while (suggestions.size() < limit) {
+            int best = -1;
+            for (int c = 0; c < n; c++) {
+                if (total[c] > 0 && (best < 0 || total[c] > total[best])) {
+                    best = c;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            suggestions.add(new Suggestion(ServiceCategory.ofOrdinal(best), ServiceCategory.ofOrdinal(because[best]), total[best]));
+            total[best] = 0;
+        }
+        return suggestions;
+    }
+
+    public double averagePrice(ServiceCategory category) {
+        return averagePrice[category.ordinal()];
+    }
+
+    public double rating(ServiceCategory category) {
+        return rating[category.ordinal()];
+    }
+
+    public record Suggestion(ServiceCategory category, ServiceCategory because, double score) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.servicenest.service;
+
+import com.servicenest.model.Review;
+import com.servicenest.model.ServiceRatingSummary;
+import com.servicenest.repository.ReviewRepository;
+import com.servicenest.repository.ServiceRatingSummaryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-service review count, rating sum and 1-5 star histogram, kept as {@link RatingSummaries}.
+ */
+@Component
+public class ServiceRatingStats extends RatingSummaries<Review, ServiceRatingSummary, ServiceRatingStats.Snapshot> {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceRatingStats.class);
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ServiceRatingSummaryRepository summaryRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loadSummaries();
+    }
+
+    /**
+     * Saves the review and folds its rating into the service's totals atomically.
+     */
+    public Review submit(Review review) {
+        return submit(review.getServiceType(), review, review.getRating());
+    }
+
+    public Snapshot get(String serviceType) {
+        return totals(serviceType);
+    }
+
+    @Override
+    protected ReviewRepository ratingRepository() {
+        return reviewRepository;
+    }
+
+    @Override
+    protected ServiceRatingSummaryRepository summaryRepository() {
+        return summaryRepository;
+    }
+
+    @Override
+    protected ServiceRatingSummary newSummary(String serviceType) {
+        return new ServiceRatingSummary(serviceType);
+    }
+
+    @Override
+    protected String keyOf(ServiceRatingSummary summary) {
+        return summary.getServiceType();
+    }
+
+    @Override
+    protected Snapshot totalsOf(ServiceRatingSummary summary) {
+        return new Snapshot(summary.getRatingSum(), summary.getHistogram());
+    }
+
+    @Override
+    protected Snapshot empty() {
+        return Snapshot.EMPTY;
+    }
+
+    // One grouped scan over the reviews
+    @Override
+    protected List<ServiceRatingSummary> backfill() {
+        Map<String, ServiceRatingSummary> summaries = new HashMap<>();
+        Map<String, long[]> histograms = new HashMap<>();
+        for (Object[] row : reviewRepository.countByServiceTypeAndRating()) {
+            String serviceType = (String) row[0];
+            int rating = ((Number) row[1]).intValue();
+            long count = ((Number) row[2]).longValue();
+            if (rating < 1 || rating > 5) {
+                continue;
+            }
+            ServiceRatingSummary summary = summaries.computeIfAbsent(serviceType, ServiceRatingSummary::new);
+            summary.setReviewCount(summary.getReviewCount() + count);
+            summary.setRatingSum(summary.getRatingSum() + rating * count);
+            histograms.computeIfAbsent(serviceType, k -> new long[5])[rating - 1] += count;
+        }
+        summaries.forEach((serviceType, summary) -> summary.setHistogram(histograms.get(serviceType)));
+        log.info("Backfilled rating summaries for {} services", summaries.size());
+        return new ArrayList<>(summaries.values());
+    }
+
+    /**
+     * Immutable view of one service's totals.
+     */
+    public static class Snapshot implements RatingSummaries.Totals<Snapshot> {
+        static final Snapshot EMPTY = new Snapshot(0, new long[5]);
+
+        private final long count;
+        private final long sum;
+        private final long[] histogram;
+
+        Snapshot(long sum, long[] histogram) {
+            long total = 0;
+            for (long c : histogram) {
+                total += c;
+            }
+            this.count = total;
+            this.sum = sum;
+            this.histogram = histogram;
+        }
+
+        @Override
+        public Snapshot plus(int rating) {
+            long[] next = histogram.clone();
+            next[rating - 1]++;
+            return new Snapshot(sum + rating, next);
+        }
+
+        public long getCount() { return count; }
+
+        public double getAverage() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        public Map<Integer, Long> getDistribution() {
+            Map<Integer, Long> distribution = new HashMap<>();
+            for (int stars = 1; stars <= 5; stars++) {
+                distribution.put(stars, histogram[stars - 1]);
+            }
+            return distribution;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.servicenest.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Issues and checks stateless session tokens: base64url("role:expiry:email") + "." + base64url(HMAC-SHA256).
+ * Verifying one is a MAC over a few dozen bytes, with no database or server-side session state, so
+ * any node holding the same secret accepts it.
+ *
+ * Without servicenest.session.secret a random key is generated at startup, which is fine for a single
+ * dev instance but signs everyone out on restart.
+ */
+@Component
+public class SessionTokens {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionTokens.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @Value("${servicenest.session.secret:}")
+    private String secret;
+
+    @Value("${servicenest.session.ttl:12h}")
+    private Duration ttl;
+
+    private SecretKeySpec key;
+
+    // Mac instances aren't thread-safe; one per thread avoids a provider lookup per request
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    @PostConstruct
+    public void init() {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("servicenest.session.secret is not set; using a random key, sessions end on restart");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        key = new SecretKeySpec(keyBytes, ALGORITHM);
+    }
+
+    public Session issue(String email, String role) {
+        long expiresAt = Instant.now().plus(ttl).getEpochSecond();
+        String payload = ENCODER.encodeToString(
+                (role + ":" + expiresAt + ":" + email.trim().toLowerCase()).getBytes(StandardCharsets.UTF_8));
+        String token = payload + "." + ENCODER.encodeToString(sign(payload));
+        return new Session(email.trim().toLowerCase(), role, expiresAt, token);
+    }
+
+    /**
+     * The session a token stands for, or null if it is malformed, tampered with or expired.
+     */
+    public Session verify(String token) {
+        int dot = token != null ? token.indexOf('.') : -1;
+        if (dot <= 0) {
+            return null;
+        }
+        try {
+            String payload = token.substring(0, dot);
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return null;
+            }
+            String[] fields = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split(":", 3);
+            if (fields.length < 3) {
+                return null;
+            }
+            long expiresAt = Long.parseLong(fields[1]);
+            if (expiresAt <= Instant.now().getEpochSecond()) {
+                return null;
+            }
+            return new Session(fields[2], fields[0], expiresAt, token);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialise " + ALGORITHM, e);
+        }
+    }
+
+    /**
+     * A verified caller: lower-cased email, role and expiry (epoch seconds).
+     */
+    public static class Session {
+        private final String email;
+        private final String role;
+        private final long expiresAt;
+        private final String token;
+
+        Session(String email, String role, long expiresAt, String token) {
+            this.email = email;
+            this.role = role;
+            this.expiresAt = expiresAt;
+            this.token = token;
+        }
+
+        public String getEmail() { return email; }
+        public String getRole() { return role; }
+        public long getExpiresAt() { return expiresAt; }
+        public String getToken() { return token; }
+    }
+}
@@ -0,0 +1,177 @@
+package com.servicenest.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * What is being booked right now, per service area: bookings of each {@link ServiceCategory} over a
+ * sliding window, counted as they are created. Each area and category has a ring of per-minute buckets
+ * (a LongAdder for the count and a DoubleAdder for the prices), so recording a booking is a map lookup and
+ * two adds with no lock, and reading an area's top services sums a fixed number of buckets per category
+ * however many bookings there were. A bucket is reset when the ring comes round to it again.
+ *
+ * Every booking is also counted under "everywhere", which answers for addresses in no known area and
+ * for areas with nothing booked in the window.
+ */
+@Component
+public class TrendingServices {
+
+    private static final long MINUTE_MILLIS = 60_000;
+
+    private final int minutes;
+    private final Map<String, Area> byArea = new ConcurrentHashMap<>();
+    private final Area everywhere;
+
+    public TrendingServices(@Value("${servicenest.trending.window:60m}") Duration window) {
+        minutes = (int) Math.max(1, window.toMinutes());
+        everywhere = new Area(null, minutes);
+    }
+
+    /**
+     * Counts one new booking; {@code area} is its service area as given by
+     * {@link WorkerSearchIndex#areaOf(String)}, or null if it has none.
+     */
+    public void bookingCreated(String serviceType, String area, Double price) {
+        record(ServiceCategory.of(serviceType), area, price != null ? price : 0.0, System.currentTimeMillis());
+    }
+
+    /**
+     * Up to {@code limit} services with the most bookings in the area within the window, most first. Falls back
+     * to everywhere when area is null or nothing was booked there.
+     */
+    public List<Trend> top(String area, int limit) {
+        return top(area, limit, System.currentTimeMillis());
+    }
+
+    void record(ServiceCategory category, String area, double price, long nowMillis) {
+        long minute = nowMillis / MINUTE_MILLIS;
+        everywhere.add(category, minute, price);
+        String key = WorkerSearchIndex.normalize(area);
+        if (key != null) {
+            Area counters = byArea.get(key);
+            if (counters == null) {
+                counters = byArea.computeIfAbsent(key, k -> new Area(area.trim(), minutes));
+            }
+            counters.add(category, minute, price);
+        }
+    }
+
+    List<Trend> top(String area, int limit, long nowMillis) {
+        long minute = nowMillis / MINUTE_MILLIS;
+        String key = WorkerSearchIndex.normalize(area);
+        Area counters = key != null ? byArea.get(key) : null;
+        List<Trend> trends = counters != null ? counters.top(minute, limit) : List.of();
+        return trends.isEmpty() ? everywhere.top(minute, limit) : trends;
+    }
+
+    /**
+     * One trending service: its bookings and their average price over the window, in an area (null for
+     * everywhere).
+     */
+    public record Trend(ServiceCategory category, String area, long bookings, double averagePrice) {
+    }
+
+    // One area's counters, one per category
+    private static class Area {
+        final String name;
+        final Buckets[] byCategory;
+
+        Area(String name, int minutes) {
+            this.name = name;
+            byCategory = new Buckets[ServiceCategory.count()];
+            for (int c = 0; c < byCategory.length; c++) {
+                byCategory[c] = new Buckets(minutes);
+            }
+        }
+
+        void add(ServiceCategory category, long minute, double price) {
+            byCategory[category.ordinal()].add(minute, price);
+        }
+
+        List<Trend> top(long minute, int limit) {
+            long[] counts = new long[byCategory.length];
+            double[] prices = new double[byCategory.length];
+            for (int c = 0; c < byCategory.length; c++) {
+                // OTHER is free text, so there is no one service to show for it
+                if (c != ServiceCategory.OTHER.ordinal()) {
+                    counts[c] = byCategory[c].sum(minute);
+                    prices[c] = byCategory[c].priceSum(minute);
+                }
+            }
+
+            List<Trend> trends = new ArrayList<>(limit);
+            while (trends.size() < limit) {
+                int best = -1;
+                for (int c = 0; c < counts.length; c++) {
+                    if (counts[c] > 0 && (best < 0 || counts[c] > counts[best])) {
+                        best = c;
+                    }
+                }
+                if (best < 0) {
+                    break;
+                }
+                trends.add(new Trend(ServiceCategory.ofOrdinal(best), name, counts[best], prices[best] / counts[best]));
+                counts[best] = 0;
+            }
+            return trends;
+        }
+    }
+
+    // A ring of per-minute buckets; stamps[i] is the minute bucket i currently holds
+    private static class Buckets {
+        final LongAdder[] counts;
+        final DoubleAdder[] prices;
+        final AtomicLongArray stamps;
+
+        Buckets(int minutes) {
+            counts = new LongAdder[minutes];
+            prices = new DoubleAdder[minutes];
+            stamps = new AtomicLongArray(minutes);
+            for (int i = 0; i < minutes; i++) {
+                counts[i] = new LongAdder();
+                prices[i] = new DoubleAdder();
+            }
+        }
+
+        // A booking that lands while its bucket is being recycled can be lost; trending doesn't need exact counts
+        void add(long minute, double price) {
+            int i = (int) (minute % counts.length);
+            long stamp = stamps.get(i);
+            if (stamp < minute && stamps.compareAndSet(i, stamp, minute)) {
+                counts[i].reset();
+                prices[i].reset();
+            }
+            counts[i].increment();
+            prices[i].add(price);
+        }
+
+        long sum(long minute) {
+            long sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (stamps.get(i) > minute - counts.length) {
+                    sum += counts[i].sum();
+                }
+            }
+            return sum;
+        }
+
+        double priceSum(long minute) {
+            double sum = 0;
+            for (int i = 0; i < prices.length; i++) {
+                if (stamps.get(i) > minute - prices.length) {
+                    sum += prices[i].sum();
+                }
+            }
+            return sum;
+        }
+    }
+}
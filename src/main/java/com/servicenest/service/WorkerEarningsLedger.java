@@ -0,0 +1,188 @@
+package com.servicenest.service;
+
+import com.servicenest.dto.MonthlyEarnings;
+import com.servicenest.model.Booking;
+import com.servicenest.model.WorkerDailyEarnings;
+import com.servicenest.repository.BookingRepository;
+import com.servicenest.repository.WorkerDailyEarningsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-worker daily earnings rollups. A booking's move to completed and the bump of the worker's row for
+ * that day commit together, and the conditional status update makes completing the same booking twice a
+ * no-op, so the rollups never drift from the bookings table.
+ */
+@Component
+public class WorkerEarningsLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkerEarningsLedger.class);
+
+    private static final int CHART_MONTHS = 12;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private WorkerDailyEarningsRepository earningsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // One grouped scan to seed rollups for bookings completed before rollups existed
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (earningsRepository.count() > 0) {
+            return;
+        }
+        // Older bookings may spell the same worker in different cases; they share one rollup
+        Map<String, WorkerDailyEarnings> rollups = new LinkedHashMap<>();
+        for (Object[] row : bookingRepository.sumCompletedByWorkerAndDay()) {
+            String workerEmail = normalize((String) row[0]);
+            LocalDate day = (LocalDate) row[1];
+            WorkerDailyEarnings rollup = rollups.computeIfAbsent(workerEmail + '\n' + day,
+                    k -> new WorkerDailyEarnings(workerEmail, day));
+            rollup.setCompletedJobs(rollup.getCompletedJobs() + ((Number) row[2]).longValue());
+            rollup.setEarnings(rollup.getEarnings().add(BigDecimal.valueOf(((Number) row[3]).doubleValue())));
+        }
+        if (!rollups.isEmpty()) {
+            earningsRepository.saveAll(rollups.values());
+            log.info("Backfilled {} daily earnings rollups", rollups.size());
+        }
+    }
+
+    /**
+     * Marks an accepted or in-progress booking completed and credits its price to the assigned worker's
+     * rollup for today. Returns false, crediting nothing, if it was not one of the worker's open jobs.
+     */
+    public boolean complete(Booking booking) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate day = now.toLocalDate();
+        String assignedWorker = booking.getAssignedWorker();
+        String workerEmail = normalize(assignedWorker);
+        BigDecimal amount = booking.getPrice() != null ? BigDecimal.valueOf(booking.getPrice()) : BigDecimal.ZERO;
+
+        ensureRollupRow(workerEmail, day);
+        Boolean completed = new TransactionTemplate(transactionManager).execute(status -> {
+            if (bookingRepository.markCompleted(booking.getId(), assignedWorker, now) == 0) {
+                return false;
+            }
+            earningsRepository.addCompletion(workerEmail, day, amount);
+            return true;
+        });
+        return Boolean.TRUE.equals(completed);
+    }
+
+    /**
+     * Lifetime, this month, this week and in-flight totals, plus a month-by-month series for the last year.
+     */
+    public Summary summarize(String email) {
+        String workerEmail = normalize(email);
+        LocalDate today = LocalDate.now();
+        LocalDate weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        YearMonth thisMonth = YearMonth.from(today);
+        YearMonth firstChartMonth = thisMonth.minusMonths(CHART_MONTHS - 1);
+
+        Map<YearMonth, double[]> byMonth = new LinkedHashMap<>();
+        for (YearMonth month = firstChartMonth; !month.isAfter(thisMonth); month = month.plusMonths(1)) {
+            byMonth.put(month, new double[2]);
+        }
+
+        // The chart window always covers this week, so one range read serves every period
+        double weeklyEarnings = 0;
+        for (WorkerDailyEarnings rollup : earningsRepository.findByWorkerEmailAndEarningDateGreaterThanEqual(
+                workerEmail, firstChartMonth.atDay(1))) {
+            double[] month = byMonth.get(YearMonth.from(rollup.getEarningDate()));
+            if (month != null) {
+                month[0] += rollup.getEarnings().doubleValue();
+                month[1] += rollup.getCompletedJobs();
+            }
+            if (!rollup.getEarningDate().isBefore(weekStart)) {
+                weeklyEarnings += rollup.getEarnings().doubleValue();
+            }
+        }
+
+        Object[] lifetime = earningsRepository.sumByWorker(workerEmail).get(0);
+        Object[] active = bookingRepository.sumActiveByWorker(workerEmail).get(0);
+
+        List<MonthlyEarnings> monthly = new ArrayList<>();
+        byMonth.forEach((month, totals) -> monthly.add(new MonthlyEarnings(month.toString(), totals[0], (long) totals[1])));
+
+        return new Summary(
+                ((Number) lifetime[0]).longValue(),
+                ((Number) lifetime[1]).doubleValue(),
+                byMonth.get(thisMonth)[0],
+                weeklyEarnings,
+                ((Number) active[0]).longValue(),
+                ((Number) active[1]).doubleValue(),
+                monthly);
+    }
+
+    // Rollups are keyed by the lower-cased email, as sessions and claims spell it
+    private static String normalize(String email) {
+        return email.trim().toLowerCase();
+    }
+
+    // The first completion of a worker's day races to create the row; losing that race is fine
+    private void ensureRollupRow(String workerEmail, LocalDate day) {
+        if (earningsRepository.existsByWorkerEmailAndEarningDate(workerEmail, day)) {
+            return;
+        }
+        try {
+            earningsRepository.saveAndFlush(new WorkerDailyEarnings(workerEmail, day));
+        } catch (DataIntegrityViolationException e) {
+            // Created concurrently by another request
+        }
+    }
+
+    /**
+     * Earnings totals for one worker.
+     */
+    public static class Summary {
+        private final long completedJobs;
+        private final double totalEarnings;
+        private final double monthlyEarnings;
+        private final double weeklyEarnings;
+        private final long pendingJobs;
+        private final double pendingEarnings;
+        private final List<MonthlyEarnings> monthlyBreakdown;
+
+        Summary(long completedJobs, double totalEarnings, double monthlyEarnings, double weeklyEarnings,
+                long pendingJobs, double pendingEarnings, List<MonthlyEarnings> monthlyBreakdown) {
+            this.completedJobs = completedJobs;
+            this.totalEarnings = totalEarnings;
+            this.monthlyEarnings = monthlyEarnings;
+            this.weeklyEarnings = weeklyEarnings;
+            this.pendingJobs = pendingJobs;
+            this.pendingEarnings = pendingEarnings;
+            this.monthlyBreakdown = Collections.unmodifiableList(monthlyBreakdown);
+        }
+
+        public long getCompletedJobs() { return completedJobs; }
+        public double getTotalEarnings() { return totalEarnings; }
+        public double getMonthlyEarnings() { return monthlyEarnings; }
+        public double getWeeklyEarnings() { return weeklyEarnings; }
+        public long getPendingJobs() { return pendingJobs; }
+        public double getPendingEarnings() { return pendingEarnings; }
+        public List<MonthlyEarnings> getMonthlyBreakdown() { return monthlyBreakdown; }
+    }
+}
@@ -0,0 +1,80 @@
+package com.servicenest.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Picks the workers to offer a new booking to. Eligible means the booking's service is one of the
+ * worker's skills, its area one of their service areas, and the slot free in their schedule; eligible
+ * workers are scored on rating, current load and hourly rate.
+ *
+ * Candidates come off the search index's ranked skill / area postings, which are already ordered
+ * best-rated first, so only the top {@code scanLimit} free workers are ever scored however many workers
+ * share the skill.
+ */
+public class WorkerMatcher {
+
+    private static final double RATING_WEIGHT = 0.5;
+    private static final double LOAD_WEIGHT = 0.3;
+    private static final double RATE_WEIGHT = 0.2;
+
+    private final WorkerSearchIndex searchIndex;
+    private final WorkerSchedule schedule;
+    private final int scanLimit;
+
+    public WorkerMatcher(WorkerSearchIndex searchIndex, WorkerSchedule schedule, int scanLimit) {
+        this.searchIndex = searchIndex;
+        this.schedule = schedule;
+        this.scanLimit = scanLimit;
+    }
+
+    /**
+     * The service area an address is in, see {@link WorkerSearchIndex#areaOf(String)}.
+     */
+    public String areaOf(String address) {
+        return searchIndex.areaOf(address);
+    }
+
+    /**
+     * Up to {@code limit} workers for the slot, best first. {@code extraLoad} adds jobs a worker is about
+     * to be offered on top of the ones they hold, so a burst of bookings spreads across workers.
+     */
+    public List<Candidate> match(String service, String area, LocalDateTime start, LocalDateTime end,
+                                 ToIntFunction<String> extraLoad, int limit) {
+        if (service == null || area == null) {
+            return List.of();
+        }
+        List<WorkerSearchIndex.Entry> eligible = searchIndex.top(service, area,
+                entry -> schedule.isFree(entry.getEmail(), start, end), scanLimit);
+        if (eligible.isEmpty()) {
+            return List.of();
+        }
+
+        // Rates are scored relative to the other eligible workers, cheapest scoring highest
+        double minRate = Double.MAX_VALUE;
+        double maxRate = 0;
+        for (WorkerSearchIndex.Entry entry : eligible) {
+            minRate = Math.min(minRate, entry.getHourlyRate());
+            maxRate = Math.max(maxRate, entry.getHourlyRate());
+        }
+        double rateSpread = maxRate - minRate;
+
+        List<Candidate> candidates = new ArrayList<>(eligible.size());
+        for (WorkerSearchIndex.Entry entry : eligible) {
+            int load = schedule.activeJobs(entry.getEmail()) + extraLoad.applyAsInt(entry.getEmail());
+            double rate = rateSpread > 0 ? (maxRate - entry.getHourlyRate()) / rateSpread : 1.0;
+            double score = RATING_WEIGHT * entry.getRating() / 5.0
+                    + LOAD_WEIGHT / (1 + load)
+                    + RATE_WEIGHT * rate;
+            candidates.add(new Candidate(entry.getEmail(), score));
+        }
+        candidates.sort(Comparator.comparingDouble(Candidate::score).reversed());
+        return candidates.size() > limit ? List.copyOf(candidates.subList(0, limit)) : candidates;
+    }
+
+    public record Candidate(String workerEmail, double score) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.servicenest.service;
+
+import com.servicenest.model.WorkerRating;
+import com.servicenest.model.WorkerRatingSummary;
+import com.servicenest.repository.WorkerRatingRepository;
+import com.servicenest.repository.WorkerRatingSummaryRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-worker rating count and sum, kept as {@link RatingSummaries}, with each worker's score pushed to
+ * the search index whenever it changes.
+ *
+ * The ranking score is a Bayesian average against a fixed prior, so a worker with two 5-star ratings
+ * doesn't outrank one with two hundred 4.9s, and one submission only ever moves one worker's score.
+ */
+@Component
+public class WorkerRatingStats extends RatingSummaries<WorkerRating, WorkerRatingSummary, WorkerRatingStats.Snapshot> {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkerRatingStats.class);
+
+    @Autowired
+    private WorkerRatingRepository workerRatingRepository;
+
+    @Autowired
+    private WorkerRatingSummaryRepository summaryRepository;
+
+    @Autowired
+    private WorkerSearchIndex workerSearchIndex;
+
+    // Score of a worker with no ratings, and how many ratings it takes to outweigh it
+    @Value("${servicenest.worker-rating.prior-mean:4.0}")
+    private double priorMean;
+
+    @Value("${servicenest.worker-rating.prior-weight:5}")
+    private double priorWeight;
+
+    // Workers entering the search index start at their current score, the prior until they are rated
+    @PostConstruct
+    public void init() {
+        workerSearchIndex.setInitialRating(workerEmail -> score(get(workerEmail)));
+    }
+
+    // Runs after the search index has loaded so scores land on existing entries
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void load() {
+        loadSummaries();
+    }
+
+    /**
+     * Saves the rating and folds it into the worker's totals atomically.
+     */
+    public WorkerRating submit(WorkerRating rating) {
+        return submit(key(rating.getWorkerEmail()), rating, rating.getRating());
+    }
+
+    public Snapshot get(String workerEmail) {
+        return totals(workerEmail != null ? key(workerEmail) : null);
+    }
+
+    public double score(Snapshot snapshot) {
+        return (priorWeight * priorMean + snapshot.sum) / (priorWeight + snapshot.count);
+    }
+
+    @Override
+    protected void totalsChanged(String workerEmail, Snapshot snapshot) {
+        workerSearchIndex.updateRating(workerEmail, score(snapshot));
+    }
+
+    @Override
+    protected WorkerRatingRepository ratingRepository() {
+        return workerRatingRepository;
+    }
+
+    @Override
+    protected WorkerRatingSummaryRepository summaryRepository() {
+        return summaryRepository;
+    }
+
+    @Override
+    protected WorkerRatingSummary newSummary(String workerEmail) {
+        return new WorkerRatingSummary(workerEmail);
+    }
+
+    @Override
+    protected String keyOf(WorkerRatingSummary summary) {
+        return key(summary.getWorkerEmail());
+    }
+
+    @Override
+    protected Snapshot totalsOf(WorkerRatingSummary summary) {
+        return new Snapshot(summary.getRatingCount(), summary.getRatingSum());
+    }
+
+    @Override
+    protected Snapshot empty() {
+        return Snapshot.EMPTY;
+    }
+
+    private static String key(String workerEmail) {
+        return workerEmail.trim().toLowerCase();
+    }
+
+    // One grouped scan over the ratings
+    @Override
+    protected List<WorkerRatingSummary> backfill() {
+        List<WorkerRatingSummary> summaries = new ArrayList<>();
+        for (Object[] row : workerRatingRepository.sumByWorkerEmail()) {
+            WorkerRatingSummary summary = new WorkerRatingSummary(key((String) row[0]));
+            summary.setRatingCount(((Number) row[1]).longValue());
+            summary.setRatingSum(((Number) row[2]).longValue());
+            summaries.add(summary);
+        }
+        log.info("Backfilled rating summaries for {} workers", summaries.size());
+        return summaries;
+    }
+
+    /**
+     * Immutable view of one worker's totals.
+     */
+    public static class Snapshot implements RatingSummaries.Totals<Snapshot> {
+        static final Snapshot EMPTY = new Snapshot(0, 0);
+
+        private final long count;
+        private final long sum;
+
+        Snapshot(long count, long sum) {
+            this.count = count;
+            this.sum = sum;
+        }
+
+        @Override
+        public Snapshot plus(int rating) {
+            return new Snapshot(count + 1, sum + rating);
+        }
+
+        public long getCount() { return count; }
+
+        public double getAverage() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+    }
+}
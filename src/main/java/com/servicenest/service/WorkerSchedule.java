@@ -0,0 +1,257 @@
+package com.servicenest.service;
+
+import com.servicenest.model.WorkerAvailability;
+import com.servicenest.model.WorkerAvailabilityException;
+import com.servicenest.repository.BookingRepository;
+import com.servicenest.repository.WorkerAvailabilityExceptionRepository;
+import com.servicenest.repository.WorkerAvailabilityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * When each worker can take jobs: persisted weekly hours and date exceptions, plus an in-memory interval
+ * tree per worker of the slots they have already accepted. Accepting a job checks and books the slot in
+ * one O(log n) step, and "who is free for this slot" is a hash lookup and a tree probe per worker, so
+ * neither touches the database.
+ *
+ * Kept current by BookingController reserving slots as jobs are claimed and releasing them as jobs
+ * leave accepted / in-progress.
+ */
+@Component
+public class WorkerSchedule {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkerSchedule.class);
+
+    // Hours for workers who never saved their own (what the availability endpoint used to report)
+    static final Map<DayOfWeek, List<Window>> DEFAULT_HOURS = defaultHours();
+
+    @Autowired
+    private WorkerAvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private WorkerAvailabilityExceptionRepository exceptionRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<String, Map<DayOfWeek, List<Window>>> weeklyHours = new ConcurrentHashMap<>();
+    private final Map<String, NavigableMap<LocalDate, List<Window>>> exceptions = new ConcurrentHashMap<>();
+    private final Map<String, IntervalTree> booked = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<String, Map<DayOfWeek, List<Window>>> weekly = new ConcurrentHashMap<>();
+        for (WorkerAvailability row : availabilityRepository.findAll()) {
+            weekly.computeIfAbsent(normalize(row.getWorkerEmail()), k -> new EnumMap<>(DayOfWeek.class))
+                    .computeIfAbsent(DayOfWeek.of(row.getDayOfWeek()), k -> new ArrayList<>())
+                    .add(new Window(row.getStartTime(), row.getEndTime()));
+        }
+        weekly.forEach((worker, days) -> weeklyHours.put(worker, freeze(days)));
+
+        Map<String, NavigableMap<LocalDate, List<Window>>> dated = new ConcurrentHashMap<>();
+        for (WorkerAvailabilityException row : exceptionRepository.findByExceptionDateGreaterThanEqual(LocalDate.now())) {
+            List<Window> windows = dated.computeIfAbsent(normalize(row.getWorkerEmail()), k -> new TreeMap<>())
+                    .computeIfAbsent(row.getExceptionDate(), k -> new ArrayList<>());
+            if (row.getStartTime() != null && row.getEndTime() != null) {
+                windows.add(new Window(row.getStartTime(), row.getEndTime()));
+            }
+        }
+        exceptions.putAll(dated);
+
+        int slots = 0;
+        for (Object[] row : bookingRepository.findActiveSlots(LocalDateTime.now())) {
+            tree((String) row[1]).add((Long) row[0], minutes((LocalDateTime) row[2]), minutes((LocalDateTime) row[3]));
+            slots++;
+        }
+        log.info("Worker schedules loaded: {} with own hours, {} with exceptions, {} booked slots",
+                weeklyHours.size(), exceptions.size(), slots);
+    }
+
+    /**
+     * Books [start, end) for the worker unless it overlaps another of their jobs. Booking the same job
+     * again is not a conflict. Returns false on overlap.
+     */
+    public boolean reserve(String workerEmail, Long bookingId, LocalDateTime start, LocalDateTime end) {
+        IntervalTree tree = tree(workerEmail);
+        synchronized (tree) {
+            if (tree.overlaps(minutes(start), minutes(end), bookingId)) {
+                return false;
+            }
+            tree.add(bookingId, minutes(start), minutes(end));
+            return true;
+        }
+    }
+
+    /**
+     * Frees a job's slot, e.g. once it is completed or cancelled.
+     */
+    public void release(String workerEmail, Long bookingId) {
+        IntervalTree tree = workerEmail != null ? booked.get(normalize(workerEmail)) : null;
+        if (tree != null) {
+            synchronized (tree) {
+                tree.remove(bookingId);
+            }
+        }
+    }
+
+    /**
+     * Whether [start, end) falls inside one of the worker's working windows that day and clear of their jobs.
+     */
+    public boolean isFree(String workerEmail, LocalDateTime start, LocalDateTime end) {
+        String worker = normalize(workerEmail);
+        if (!covered(windowsOn(worker, start.toLocalDate()), start, end)) {
+            return false;
+        }
+        IntervalTree tree = booked.get(worker);
+        if (tree == null) {
+            return true;
+        }
+        synchronized (tree) {
+            return !tree.overlaps(minutes(start), minutes(end), Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Accepted and in-progress jobs the worker holds that are not over yet.
+     */
+    public int activeJobs(String workerEmail) {
+        IntervalTree tree = booked.get(normalize(workerEmail));
+        if (tree == null) {
+            return 0;
+        }
+        synchronized (tree) {
+            return tree.size();
+        }
+    }
+
+    public Map<DayOfWeek, List<Window>> weeklyHours(String workerEmail) {
+        return weeklyHours.getOrDefault(normalize(workerEmail), DEFAULT_HOURS);
+    }
+
+    /**
+     * Exceptions from today on, by date; an empty list is a day off.
+     */
+    public Map<LocalDate, List<Window>> upcomingExceptions(String workerEmail) {
+        NavigableMap<LocalDate, List<Window>> dated = exceptions.get(normalize(workerEmail));
+        return dated != null ? Collections.unmodifiableMap(dated.tailMap(LocalDate.now(), true)) : Collections.emptyMap();
+    }
+
+    /**
+     * Replaces the worker's weekly hours and, when {@code dated} is not null, their exceptions.
+     */
+    public synchronized void saveAvailability(String workerEmail, Map<DayOfWeek, List<Window>> weekly,
+                                              Map<LocalDate, List<Window>> dated) {
+        String worker = normalize(workerEmail);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            availabilityRepository.deleteByWorker(worker);
+            List<WorkerAvailability> rows = new ArrayList<>();
+            weekly.forEach((day, windows) -> windows.forEach(window ->
+                    rows.add(new WorkerAvailability(worker, day.getValue(), window.start(), window.end()))));
+            availabilityRepository.saveAll(rows);
+
+            if (dated != null) {
+                exceptionRepository.deleteByWorker(worker);
+                List<WorkerAvailabilityException> exceptionRows = new ArrayList<>();
+                dated.forEach((date, windows) -> {
+                    if (windows.isEmpty()) {
+                        exceptionRows.add(new WorkerAvailabilityException(worker, date, null, null));
+                    }
+                    windows.forEach(window -> exceptionRows.add(
+                            new WorkerAvailabilityException(worker, date, window.start(), window.end())));
+                });
+                exceptionRepository.saveAll(exceptionRows);
+            }
+        });
+
+        weeklyHours.put(worker, freeze(weekly));
+        if (dated != null) {
+            if (dated.isEmpty()) {
+                exceptions.remove(worker);
+            } else {
+                exceptions.put(worker, new TreeMap<>(dated));
+            }
+        }
+    }
+
+    private List<Window> windowsOn(String worker, LocalDate date) {
+        NavigableMap<LocalDate, List<Window>> dated = exceptions.get(worker);
+        List<Window> exception = dated != null ? dated.get(date) : null;
+        if (exception != null) {
+            return exception;
+        }
+        return weeklyHours.getOrDefault(worker, DEFAULT_HOURS).getOrDefault(date.getDayOfWeek(), List.of());
+    }
+
+    private static boolean covered(List<Window> windows, LocalDateTime start, LocalDateTime end) {
+        LocalDate day = start.toLocalDate();
+        for (Window window : windows) {
+            if (!start.isBefore(day.atTime(window.start())) && !end.isAfter(day.atTime(window.end()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private IntervalTree tree(String workerEmail) {
+        return booked.computeIfAbsent(normalize(workerEmail), k -> new IntervalTree());
+    }
+
+    private static long minutes(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static Map<DayOfWeek, List<Window>> freeze(Map<DayOfWeek, List<Window>> days) {
+        Map<DayOfWeek, List<Window>> copy = new EnumMap<>(DayOfWeek.class);
+        days.forEach((day, windows) -> {
+            List<Window> sorted = new ArrayList<>(windows);
+            sorted.sort((a, b) -> a.start().compareTo(b.start()));
+            copy.put(day, List.copyOf(sorted));
+        });
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static Map<DayOfWeek, List<Window>> defaultHours() {
+        Map<DayOfWeek, List<Window>> hours = new EnumMap<>(DayOfWeek.class);
+        Window weekday = new Window(LocalTime.of(9, 0), LocalTime.of(18, 0));
+        for (DayOfWeek day : Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)) {
+            hours.put(day, List.of(weekday));
+        }
+        hours.put(DayOfWeek.SATURDAY, List.of(new Window(LocalTime.of(10, 0), LocalTime.of(16, 0))));
+        return Collections.unmodifiableMap(hours);
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase();
+    }
+
+    /**
+     * A working window within one day.
+     */
+    public record Window(LocalTime start, LocalTime end) {
+    }
+}
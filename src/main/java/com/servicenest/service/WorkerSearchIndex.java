@@ -0,0 +1,481 @@
+package com.servicenest.service;
+
+import com.servicenest.model.WorkerProfile;
+import com.servicenest.repository.WorkerProfileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * In-memory search over worker profiles: inverted indexes from skill, service area and each skill-in-area
+ * pair to workers. Every posting list is kept in ranking order, and again split into one ranked bucket per
+ * hourly rate, so a query walks the one list matching its skill and area from the top and stops as soon
+ * as the page is full. A rate-capped query merges only the buckets at or under its cap, so workers
+ * charging more are never visited.
+ *
+ * Kept current by the controllers calling {@link #index(WorkerProfile)} after every profile save,
+ * so a search never touches the database.
+ */
+@Component
+public class WorkerSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkerSearchIndex.class);
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    // Best rating first, then cheapest, then oldest profile for a stable order
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingDouble(Entry::getRating).reversed()
+            .thenComparingDouble(Entry::getHourlyRate)
+            .thenComparingLong(Entry::getId);
+
+    @Autowired
+    private WorkerProfileRepository workerProfileRepository;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Long> idsByEmail = new ConcurrentHashMap<>();
+    private final Map<String, Posting> bySkill = new ConcurrentHashMap<>();
+    private final Map<String, Posting> byArea = new ConcurrentHashMap<>();
+    private final Map<String, Posting> bySkillAndArea = new ConcurrentHashMap<>();
+    private final Posting all = new Posting();
+
+    // Score of a worker entering the index, by email; set by WorkerRatingStats
+    private volatile ToDoubleFunction<String> initialRating = email -> 0.0;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void rebuild() {
+        Page<WorkerProfile> page = workerProfileRepository.findAll(
+                PageRequest.of(0, LOAD_BATCH_SIZE, Sort.by("id")));
+        while (true) {
+            page.forEach(this::index);
+            if (!page.hasNext()) {
+                break;
+            }
+            page = workerProfileRepository.findAll(page.nextPageable());
+        }
+        log.info("Worker search index loaded: {} workers", entries.size());
+    }
+
+    /**
+     * Adds or replaces a worker, keeping any rating already known for them; a new worker starts at their
+     * current score, which is the prior until they are rated.
+     * Writers are serialized; searches never lock.
+     */
+    public synchronized void index(WorkerProfile profile) {
+        if (profile == null || profile.getId() == null) {
+            return;
+        }
+        Entry previous = entries.get(profile.getId());
+        double rating = previous != null ? previous.getRating() : initialRating.applyAsDouble(profile.getEmail());
+        replace(previous, new Entry(profile, rating));
+    }
+
+    /**
+     * Sets how a worker entering the index is scored before any rating update reaches it.
+     */
+    public void setInitialRating(ToDoubleFunction<String> initialRating) {
+        this.initialRating = initialRating;
+    }
+
+    /**
+     * Updates the score used for ranking.
+     */
+    public synchronized void updateRating(String email, double rating) {
+        Long id = idsByEmail.get(normalize(email));
+        Entry previous = id != null ? entries.get(id) : null;
+        if (previous != null) {
+            replace(previous, previous.withRating(rating));
+        }
+    }
+
+    public double getRating(String email) {
+        Long id = idsByEmail.get(normalize(email));
+        Entry entry = id != null ? entries.get(id) : null;
+        return entry != null ? entry.getRating() : 0.0;
+    }
+
+    /**
+     * Finds workers offering {@code service} in {@code location} at or under {@code maxRate}; every filter is optional.
+     */
+    public Result search(String service, String location, Double maxRate, int page, int size) {
+        return search(service, location, maxRate, null, page, size);
+    }
+
+    /**
+     * As above, keeping only workers that also pass {@code filter} (checked last, and only on otherwise
+     * matching workers).
+     */
+    public Result search(String service, String location, Double maxRate, Predicate<Entry> filter, int page, int size) {
+        String skill = normalize(service);
+        String area = normalize(location);
+        double rateCap = maxRate != null ? maxRate : Double.MAX_VALUE;
+
+        Posting driver = driver(skill, area);
+        if (driver == null) {
+            return new Result(Collections.emptyList(), 0);
+        }
+
+        // The driving list decides membership, so its rate counts give the total up front and the scan
+        // can stop early; an extra filter has to scan the list
+        int knownTotal = filter == null ? driver.countAtOrBelow(rateCap) : -1;
+
+        List<Entry> workers = new ArrayList<>(size);
+        int skip = page * size;
+        int total = 0;
+        for (Entry entry : driver.rankedAtOrBelow(rateCap)) {
+            if (!entry.matches(skill, area, rateCap) || (filter != null && !filter.test(entry))) {
+                continue;
+            }
+            total++;
+            if (skip > 0) {
+                skip--;
+            } else if (workers.size() < size) {
+                workers.add(entry);
+            } else if (knownTotal >= 0) {
+                break;
+            }
+        }
+        return new Result(workers, knownTotal >= 0 ? knownTotal : total);
+    }
+
+    /**
+     * The first {@code limit} workers offering {@code service} in {@code location} (either optional) that
+     * pass {@code filter}, in ranking order. Stops scanning as soon as it has them.
+     */
+    public List<Entry> top(String service, String location, Predicate<Entry> filter, int limit) {
+        String skill = normalize(service);
+        String area = normalize(location);
+        Posting driver = driver(skill, area);
+        if (driver == null) {
+            return Collections.emptyList();
+        }
+        List<Entry> workers = new ArrayList<>(Math.min(limit, driver.size()));
+        for (Entry entry : driver.ranked) {
+            if (entry.matches(skill, area, Double.MAX_VALUE) && filter.test(entry)) {
+                workers.add(entry);
+                if (workers.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return workers;
+    }
+
+    /**
+     * Whether any worker lists {@code area} among their service areas.
+     */
+    public boolean isServedArea(String area) {
+        String key = normalize(area);
+        return key != null && byArea.containsKey(key);
+    }
+
+    /**
+     * The service area an address is in: the last of its comma-separated parts that some worker serves
+     * ("12 Main Road, Anna Nagar, Chennai" gives "Chennai"), or null if none is.
+     */
+    public String areaOf(String address) {
+        if (address == null) {
+            return null;
+        }
+        String[] parts = address.split(",");
+        for (int i = parts.length - 1; i >= 0; i--) {
+            if (isServedArea(parts[i])) {
+                return parts[i].trim();
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // The posting list holding exactly the workers with this skill and / or area; only the rate is left
+    // to check per entry
+    private Posting driver(String skill, String area) {
+        if (skill != null && area != null) {
+            return bySkillAndArea.get(pair(skill, area));
+        }
+        if (skill != null) {
+            return bySkill.get(skill);
+        }
+        return area != null ? byArea.get(area) : all;
+    }
+
+    private void replace(Entry previous, Entry entry) {
+        if (previous != null) {
+            all.remove(previous);
+            previous.getSkills().forEach(skill -> removeFrom(bySkill, skill, previous));
+            previous.getAreas().forEach(area -> removeFrom(byArea, area, previous));
+            pairs(previous).forEach(pair -> removeFrom(bySkillAndArea, pair, previous));
+        }
+        entries.put(entry.getId(), entry);
+        idsByEmail.put(entry.getEmail(), entry.getId());
+        all.add(entry);
+        entry.getSkills().forEach(skill -> bySkill.computeIfAbsent(skill, k -> new Posting()).add(entry));
+        entry.getAreas().forEach(area -> byArea.computeIfAbsent(area, k -> new Posting()).add(entry));
+        pairs(entry).forEach(pair -> bySkillAndArea.computeIfAbsent(pair, k -> new Posting()).add(entry));
+    }
+
+    // One key per skill and area the worker combines, so a skill-in-area query reads a single list
+    private static List<String> pairs(Entry entry) {
+        List<String> pairs = new ArrayList<>(entry.getSkills().size() * entry.getAreas().size());
+        for (String skill : entry.getSkills()) {
+            for (String area : entry.getAreas()) {
+                pairs.add(pair(skill, area));
+            }
+        }
+        return pairs;
+    }
+
+    private static String pair(String skill, String area) {
+        return skill + '\n' + area;
+    }
+
+    private static void removeFrom(Map<String, Posting> index, String key, Entry entry) {
+        index.computeIfPresent(key, (k, posting) -> {
+            posting.remove(entry);
+            return posting.size() == 0 ? null : posting;
+        });
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim().toLowerCase();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    static Set<String> tokens(String commaSeparated) {
+        if (commaSeparated == null || commaSeparated.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<String> tokens = new HashSet<>();
+        for (String part : commaSeparated.split(",")) {
+            String token = normalize(part);
+            if (token != null) {
+                tokens.add(token);
+            }
+        }
+        return Collections.unmodifiableSet(tokens);
+    }
+
+    /**
+     * Workers sharing one skill or area, in ranking order, and the same workers bucketed by hourly rate,
+     * each bucket also in ranking order and counted (counting a skip list is linear, summing a few
+     * hundred bucket counts is not).
+     */
+    private static class Posting {
+        private final ConcurrentSkipListSet<Entry> ranked = new ConcurrentSkipListSet<>(RANKING);
+        private final ConcurrentSkipListMap<Double, RateBucket> byRate = new ConcurrentSkipListMap<>();
+        private volatile int size;
+
+        void add(Entry entry) {
+            if (ranked.add(entry)) {
+                byRate.computeIfAbsent(entry.getHourlyRate(), rate -> new RateBucket()).add(entry);
+                size++;
+            }
+        }
+
+        void remove(Entry entry) {
+            if (ranked.remove(entry)) {
+                byRate.computeIfPresent(entry.getHourlyRate(), (rate, bucket) -> bucket.remove(entry) > 0 ? bucket : null);
+                size--;
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        int countAtOrBelow(double rateCap) {
+            if (rateCap == Double.MAX_VALUE) {
+                return size;
+            }
+            int count = 0;
+            for (RateBucket bucket : byRate.headMap(rateCap, true).values()) {
+                count += bucket.count;
+            }
+            return count;
+        }
+
+        // The workers at or under the cap in ranking order: the whole list when nobody is over the cap,
+        // otherwise the eligible rate buckets merged
+        Iterable<Entry> rankedAtOrBelow(double rateCap) {
+            Map.Entry<Double, RateBucket> highest = byRate.lastEntry();
+            if (highest == null || highest.getKey() <= rateCap) {
+                return ranked;
+            }
+            List<RateBucket> eligible = new ArrayList<>(byRate.headMap(rateCap, true).values());
+            if (eligible.size() == 1) {
+                return eligible.get(0).ranked;
+            }
+            return () -> new Merge(eligible);
+        }
+    }
+
+    /**
+     * The workers of one posting charging one hourly rate, in ranking order.
+     */
+    private static class RateBucket {
+        private final ConcurrentSkipListSet<Entry> ranked = new ConcurrentSkipListSet<>(RANKING);
+        private volatile int count;
+
+        void add(Entry entry) {
+            if (ranked.add(entry)) {
+                count++;
+            }
+        }
+
+        // Returns the workers left
+        int remove(Entry entry) {
+            if (ranked.remove(entry)) {
+                count--;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Walks several ranked buckets as one list in ranking order, holding the next worker of each bucket
+     * in a heap.
+     */
+    private static class Merge implements Iterator<Entry> {
+        private final PriorityQueue<Head> heads;
+
+        Merge(List<RateBucket> buckets) {
+            heads = new PriorityQueue<>(Math.max(1, buckets.size()), Comparator.comparing(Head::entry, RANKING));
+            for (RateBucket bucket : buckets) {
+                advance(bucket.ranked.iterator());
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public Entry next() {
+            Head head = heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            advance(head.rest());
+            return head.entry();
+        }
+
+        private void advance(Iterator<Entry> rest) {
+            if (rest.hasNext()) {
+                heads.add(new Head(rest.next(), rest));
+            }
+        }
+
+        private record Head(Entry entry, Iterator<Entry> rest) {
+        }
+    }
+
+    /**
+     * Immutable snapshot of the searchable fields of one worker.
+     */
+    public static class Entry {
+        private final Long id;
+        private final String email;
+        private final String professionalTitle;
+        private final String experience;
+        private final String skillsText;
+        private final String serviceAreasText;
+        private final double hourlyRate;
+        private final Set<String> skills;
+        private final Set<String> areas;
+        private final double rating;
+
+        Entry(WorkerProfile profile, double rating) {
+            this.id = profile.getId();
+            this.email = normalize(profile.getEmail());
+            this.professionalTitle = profile.getProfessionalTitle();
+            this.experience = profile.getExperience();
+            this.skillsText = profile.getSkills();
+            this.serviceAreasText = profile.getServiceAreas();
+            this.hourlyRate = profile.getHourlyRate() != null ? profile.getHourlyRate() : 0.0;
+            this.skills = tokens(profile.getSkills());
+            this.areas = tokens(profile.getServiceAreas());
+            this.rating = rating;
+        }
+
+        private Entry(Entry other, double rating) {
+            this.id = other.id;
+            this.email = other.email;
+            this.professionalTitle = other.professionalTitle;
+            this.experience = other.experience;
+            this.skillsText = other.skillsText;
+            this.serviceAreasText = other.serviceAreasText;
+            this.hourlyRate = other.hourlyRate;
+            this.skills = other.skills;
+            this.areas = other.areas;
+            this.rating = rating;
+        }
+
+        Entry withRating(double rating) {
+            return new Entry(this, rating);
+        }
+
+        boolean matches(String skill, String area, double rateCap) {
+            return hourlyRate <= rateCap
+                    && (skill == null || skills.contains(skill))
+                    && (area == null || areas.contains(area));
+        }
+
+        public Long getId() { return id; }
+        public String getEmail() { return email; }
+        public String getProfessionalTitle() { return professionalTitle; }
+        public String getExperience() { return experience; }
+        public String getSkillsText() { return skillsText; }
+        public String getServiceAreasText() { return serviceAreasText; }
+        public double getHourlyRate() { return hourlyRate; }
+        public Set<String> getSkills() { return skills; }
+        public Set<String> getAreas() { return areas; }
+        public double getRating() { return rating; }
+    }
+
+    /**
+     * One page of ranked matches plus the total match count.
+     */
+    public static class Result {
+        private final List<Entry> workers;
+        private final int totalCount;
+
+        Result(List<Entry> workers, int totalCount) {
+            this.workers = workers;
+            this.totalCount = totalCount;
+        }
+
+        public List<Entry> getWorkers() { return workers; }
+        public int getTotalCount() { return totalCount; }
+    }
+}
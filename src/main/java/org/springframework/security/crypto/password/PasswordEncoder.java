@@ -1,5 +0,0 @@
-package org.springframework.security.crypto.password;
-
-public class PasswordEncoder {
-
-}
@@ -0,0 +1,125 @@
+-- ServiceNest schema. Hibernate only validates against this (ddl-auto=validate);
+-- every later change goes in a new V<n>__description.sql file, never an edit to an applied one.
+
+CREATE TABLE users (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE user_profiles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_email VARCHAR(255) NOT NULL,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    phone VARCHAR(255),
+    gender VARCHAR(255),
+    date_of_birth VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_profiles_user_email UNIQUE (user_email)
+);
+
+CREATE TABLE worker_profiles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email VARCHAR(255) NOT NULL,
+    professional_title VARCHAR(255),
+    experience VARCHAR(255),
+    bio VARCHAR(255),
+    hourly_rate FLOAT(53),
+    service_areas VARCHAR(255),
+    phone_number VARCHAR(255),
+    skills VARCHAR(255),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_worker_profiles_email UNIQUE (email)
+);
+
+-- Bookings and reviews take ids from pooled sequences (blocks of 50) so inserts can be batched
+CREATE SEQUENCE bookings_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE bookings (
+    id BIGINT NOT NULL,
+    service_type VARCHAR(255) NOT NULL,
+    customer_name VARCHAR(255) NOT NULL,
+    customer_email VARCHAR(255) NOT NULL,
+    customer_phone VARCHAR(255) NOT NULL,
+    service_date VARCHAR(255) NOT NULL,
+    service_time VARCHAR(255) NOT NULL,
+    service_address VARCHAR(500) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    assigned_worker VARCHAR(255),
+    price FLOAT(53),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_bookings_customer_created ON bookings (customer_email, created_at);
+CREATE INDEX idx_bookings_worker_created ON bookings (assigned_worker, created_at);
+CREATE INDEX idx_bookings_worker_status ON bookings (assigned_worker, status);
+
+CREATE SEQUENCE reviews_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE reviews (
+    id BIGINT NOT NULL,
+    service_type VARCHAR(255) NOT NULL,
+    customer_email VARCHAR(255) NOT NULL,
+    customer_name VARCHAR(255),
+    rating INTEGER NOT NULL,
+    comment VARCHAR(1000),
+    images VARCHAR(255),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_reviews_service_created ON reviews (service_type, created_at);
+
+CREATE TABLE service_rating_summaries (
+    service_type VARCHAR(255) NOT NULL,
+    review_count BIGINT NOT NULL,
+    rating_sum BIGINT NOT NULL,
+    stars1 BIGINT NOT NULL,
+    stars2 BIGINT NOT NULL,
+    stars3 BIGINT NOT NULL,
+    stars4 BIGINT NOT NULL,
+    stars5 BIGINT NOT NULL,
+    PRIMARY KEY (service_type)
+);
+
+CREATE TABLE worker_ratings (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    worker_email VARCHAR(255) NOT NULL,
+    customer_email VARCHAR(255) NOT NULL,
+    customer_name VARCHAR(255),
+    rating INTEGER NOT NULL,
+    comment VARCHAR(1000),
+    booking_id BIGINT,
+    created_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_worker_ratings_booking UNIQUE (booking_id)
+);
+
+CREATE INDEX idx_worker_ratings_worker_created ON worker_ratings (worker_email, created_at);
+
+CREATE TABLE worker_rating_summaries (
+    worker_email VARCHAR(255) NOT NULL,
+    rating_count BIGINT NOT NULL,
+    rating_sum BIGINT NOT NULL,
+    PRIMARY KEY (worker_email)
+);
+
+CREATE TABLE worker_daily_earnings (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    worker_email VARCHAR(255) NOT NULL,
+    earning_date DATE NOT NULL,
+    completed_jobs BIGINT NOT NULL,
+    earnings NUMERIC(14, 2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_worker_daily_earnings_worker_date UNIQUE (worker_email, earning_date)
+);
@@ -0,0 +1,34 @@
+-- Booking slots move from free-form date/time strings to a typed start and end, so a worker's
+-- calendar can be read as an index range instead of filtering every booking client-side
+
+ALTER TABLE bookings ADD COLUMN service_start TIMESTAMP(6);
+ALTER TABLE bookings ADD COLUMN service_end TIMESTAMP(6);
+
+-- Existing rows hold 'yyyy-MM-dd' and either 'HH:mm-HH:mm' or a bare 'H:mm' start (two-hour slot).
+-- A time that doesn't parse keeps the day and starts at 09:00.
+UPDATE bookings SET service_start = CASE
+        WHEN REGEXP_LIKE(service_time, '^\s*\d{1,2}:\d{2}')
+            THEN DATEADD(MINUTE,
+                    60 * CAST(REGEXP_SUBSTR(service_time, '\d{1,2}') AS INT)
+                       + CAST(SUBSTRING(REGEXP_SUBSTR(service_time, ':\d{2}'), 2) AS INT),
+                    CAST(CAST(service_date AS DATE) AS TIMESTAMP))
+        ELSE DATEADD(HOUR, 9, CAST(CAST(service_date AS DATE) AS TIMESTAMP))
+    END;
+
+UPDATE bookings SET service_end = CASE
+        WHEN REGEXP_LIKE(service_time, '^\s*\d{1,2}:\d{2}\s*-\s*\d{1,2}:\d{2}')
+            THEN DATEADD(MINUTE,
+                    60 * CAST(REGEXP_REPLACE(service_time, '^.*-\s*(\d{1,2}):(\d{2}).*$', '$1') AS INT)
+                       + CAST(REGEXP_REPLACE(service_time, '^.*-\s*(\d{1,2}):(\d{2}).*$', '$2') AS INT),
+                    CAST(CAST(service_date AS DATE) AS TIMESTAMP))
+        ELSE DATEADD(HOUR, 2, service_start)
+    END;
+
+UPDATE bookings SET service_end = DATEADD(HOUR, 2, service_start) WHERE service_end <= service_start;
+
+ALTER TABLE bookings ALTER COLUMN service_start SET NOT NULL;
+ALTER TABLE bookings ALTER COLUMN service_end SET NOT NULL;
+ALTER TABLE bookings DROP COLUMN service_date;
+ALTER TABLE bookings DROP COLUMN service_time;
+
+CREATE INDEX idx_bookings_worker_start ON bookings (assigned_worker, service_start);
@@ -0,0 +1,24 @@
+-- Weekly working hours per worker (one row per window, so a day with a break has two) and
+-- date-specific exceptions that replace a day's hours; an exception with no times is a day off
+
+CREATE TABLE worker_availability (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    worker_email VARCHAR(255) NOT NULL,
+    day_of_week INTEGER NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_worker_availability_worker ON worker_availability (worker_email);
+
+CREATE TABLE worker_availability_exceptions (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    worker_email VARCHAR(255) NOT NULL,
+    exception_date DATE NOT NULL,
+    start_time TIME,
+    end_time TIME,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_worker_availability_exceptions_worker_date ON worker_availability_exceptions (worker_email, exception_date);
@@ -0,0 +1,27 @@
+-- "Customers also booked" counts, kept by AlsoBookedModel: per service category, how many customers have
+-- booked it and its booking count and spend; per pair of categories, how many customers have booked both
+-- (one row per unordered pair); and how far into the bookings table the counts have got
+
+CREATE TABLE service_category_totals (
+    service_category VARCHAR(32) NOT NULL,
+    customers BIGINT NOT NULL,
+    bookings BIGINT NOT NULL,
+    price_total DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (service_category)
+);
+
+CREATE TABLE service_cooccurrence (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    service_category VARCHAR(32) NOT NULL,
+    other_category VARCHAR(32) NOT NULL,
+    customers BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_service_cooccurrence_pair UNIQUE (service_category, other_category)
+);
+
+CREATE TABLE batch_checkpoints (
+    job_name VARCHAR(64) NOT NULL,
+    last_booking_id BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (job_name)
+);
@@ -0,0 +1,15 @@
+-- AlsoBookedModel's checkpoint moves from the highest booking id it has counted to the (created_at, id) of
+-- the last booking it counted. Ids come from pooled sequence blocks and are assigned before commit, so a
+-- booking could commit after the job had already read past its id and never be counted. The job now reads
+-- in created_at order and only bookings older than a settle time, by which they have long committed.
+
+ALTER TABLE batch_checkpoints ADD COLUMN last_created_at TIMESTAMP(6);
+
+-- Carry the old checkpoint over as the newest creation time among the bookings it had counted
+UPDATE batch_checkpoints SET last_created_at =
+    (SELECT MAX(b.created_at) FROM bookings b WHERE b.id <= batch_checkpoints.last_booking_id);
+
+-- Every booking gets a creation time on insert; give any older row without one the earliest possible
+UPDATE bookings SET created_at = TIMESTAMP '1970-01-01 00:00:00' WHERE created_at IS NULL;
+
+CREATE INDEX idx_bookings_created ON bookings (created_at, id);
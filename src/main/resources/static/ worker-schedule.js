@@ -267,5 +267,6 @@ function formatStatus(status) {
 function logout() {
     localStorage.removeItem('userEmail');
     localStorage.removeItem('userRole');
+    localStorage.removeItem('sessionToken');
     window.location.href = 'index.html';
 }
\ No newline at end of file
@@ -328,5 +328,6 @@ function updateAIDashboard() {
 function logout() {
     localStorage.removeItem('userEmail');
     localStorage.removeItem('userRole');
+    localStorage.removeItem('sessionToken');
     window.location.href = 'index.html';
 }
\ No newline at end of file
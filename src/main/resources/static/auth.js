@@ -0,0 +1,29 @@
+// Session token handling shared by every page
+// Login stores a signed token; this sends it with each API call and returns to login when it expires
+(function() {
+    const originalFetch = window.fetch;
+
+    window.fetch = function(input, init) {
+        const url = typeof input === 'string' ? input : input.url;
+        const token = localStorage.getItem('sessionToken');
+
+        if (token && url.includes('/api/')) {
+            init = Object.assign({}, init);
+            const headers = new Headers(init.headers || (typeof input === 'string' ? {} : input.headers));
+            if (!headers.has('Authorization')) {
+                headers.set('Authorization', 'Bearer ' + token);
+            }
+            init.headers = headers;
+        }
+
+        return originalFetch(input, init).then(response => {
+            if (response.status === 401 && url.includes('/api/') && !url.includes('/api/login')) {
+                localStorage.removeItem('userEmail');
+                localStorage.removeItem('userRole');
+                localStorage.removeItem('sessionToken');
+                window.location.href = 'login.html';
+            }
+            return response;
+        });
+    };
+})();
@@ -84,6 +84,7 @@ function loginUser(event) {
             // Store user info in localStorage
             localStorage.setItem('userEmail', email);
             localStorage.setItem('userRole', data.role);
+            localStorage.setItem('sessionToken', data.token);
             
             // Redirect based on role
             setTimeout(() => {
@@ -49,7 +49,6 @@ function displayBookings(bookings) {
                 <div class="booking-details">
                     <p><strong>Date:</strong> ${formatDate(booking.serviceDate)}</p>
                     <p><strong>Time:</strong> ${booking.serviceTime}</p>
-                    <p><strong>Address:</strong> ${booking.serviceAddress}</p>
                     ${booking.assignedWorker ? `<p><strong>Assigned To:</strong> ${booking.assignedWorker}</p>` : ''}
                 </div>
                 <div class="booking-meta">
@@ -224,5 +223,6 @@ function formatDateTime(dateTimeString) {
 function logout() {
     localStorage.removeItem('userEmail');
     localStorage.removeItem('userRole');
+    localStorage.removeItem('sessionToken');
     window.location.href = 'index.html';
 }
\ No newline at end of file
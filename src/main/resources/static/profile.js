@@ -380,5 +380,6 @@ document.addEventListener('DOMContentLoaded', function() {
 function logout() {
     localStorage.removeItem('userEmail');
     localStorage.removeItem('userRole');
+    localStorage.removeItem('sessionToken');
     window.location.href = 'index.html';
 }
\ No newline at end of file
@@ -71,6 +71,7 @@ function quickBook(service) {
 function logout() {
     localStorage.removeItem('userEmail');
     localStorage.removeItem('userRole');
+    localStorage.removeItem('sessionToken');
     window.location.href = 'index.html';
 }
 
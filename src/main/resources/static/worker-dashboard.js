@@ -35,20 +35,59 @@ function loadWorkerDashboard() {
                 console.error('Error loading worker bookings:', error);
             });
         
-        // Load pending job requests
-        fetch('http://localhost:8081/api/bookings/pending')
-            .then(response => response.json())
-            .then(data => {
-                if (data.status === "SUCCESS") {
-                    loadJobRequests(data.bookings || []);
-                }
-            })
-            .catch(error => {
-                console.error('Error loading pending bookings:', error);
-            });
+        // Load pending job requests, then keep them live from the event feed
+        loadPendingRequests();
+        subscribeToPendingRequests();
     }
 }
 
+// Pending requests currently on screen
+let pendingRequests = [];
+
+function loadPendingRequests() {
+    fetch('http://localhost:8081/api/bookings/pending')
+        .then(response => response.json())
+        .then(data => {
+            if (data.status === "SUCCESS") {
+                pendingRequests = data.bookings || [];
+                loadJobRequests(pendingRequests);
+            }
+        })
+        .catch(error => {
+            console.error('Error loading pending bookings:', error);
+        });
+}
+
+function subscribeToPendingRequests() {
+    const feed = new EventSource('http://localhost:8081/api/bookings/pending/stream');
+    
+    feed.addEventListener('booking-created', event => {
+        const job = JSON.parse(event.data);
+        pendingRequests = [job, ...pendingRequests.filter(j => j.id !== job.id)];
+        loadJobRequests(pendingRequests);
+    });
+    
+    const removeRequest = event => {
+        const { id } = JSON.parse(event.data);
+        pendingRequests = pendingRequests.filter(j => j.id !== id);
+        loadJobRequests(pendingRequests);
+    };
+    feed.addEventListener('booking-claimed', removeRequest);
+    feed.addEventListener('booking-closed', removeRequest);
+    
+    // The server dropped events under load; reload the list
+    feed.addEventListener('resync', () => loadPendingRequests());
+    
+    // Re-sync on reconnect in case events were missed
+    let connectedBefore = false;
+    feed.addEventListener('open', () => {
+        if (connectedBefore) {
+            loadPendingRequests();
+        }
+        connectedBefore = true;
+    });
+}
+
 function loadTodaySchedule(bookings) {
     const container = document.getElementById('todaySchedule');
     const today = new Date().toISOString().split('T')[0];
@@ -134,6 +173,7 @@ function updateSkills() {
 function logout() {
     localStorage.removeItem('userEmail');
     localStorage.removeItem('userRole');
+    localStorage.removeItem('sessionToken');
     window.location.href = 'index.html';
 }
 
@@ -10,7 +10,6 @@ document.addEventListener('DOMContentLoaded', function() {
 
     loadEarningsData();
     loadTransactions();
-    initializeChart();
 });
 
 function loadEarningsData() {
@@ -21,12 +20,14 @@ function loadEarningsData() {
         .then(data => {
             if (data.status === 'SUCCESS') {
                 displayEarnings(data.earnings);
+                initializeChart(data.earnings.monthlyBreakdown);
             }
         })
         .catch(error => {
             console.error('Error loading earnings:', error);
             // Display mock data if API fails
             displayMockEarnings();
+            initializeChart();
         });
 }
 
@@ -37,8 +38,8 @@ function displayEarnings(earnings) {
     document.getElementById('pendingEarnings').textContent = `₹${earnings.pendingEarnings}`;
     document.getElementById('completedJobs').textContent = earnings.completedJobs;
     document.getElementById('avgRating').textContent = earnings.avgRating;
-    document.getElementById('repeatCustomers').textContent = earnings.repeatCustomers;
-    document.getElementById('responseTime').textContent = earnings.responseTime;
+    document.getElementById('repeatCustomers').textContent = earnings.repeatCustomers ?? '-';
+    document.getElementById('responseTime').textContent = earnings.responseTime ?? '-';
 }
 
 function displayMockEarnings() {
@@ -95,15 +96,23 @@ function displayTransactions(transactions) {
     `).join('');
 }
 
-function initializeChart() {
+function initializeChart(monthlyBreakdown) {
     const ctx = document.getElementById('earningsChart').getContext('2d');
     
-    // Mock chart data
+    // Last 12 months from the API, or mock data when it is unavailable
+    const monthNames = ['Jan', 'Feb', 'Mar', 'Apr', 'May', 'Jun', 'Jul', 'Aug', 'Sep', 'Oct', 'Nov', 'Dec'];
+    const labels = monthlyBreakdown
+        ? monthlyBreakdown.map(point => monthNames[parseInt(point.month.split('-')[1], 10) - 1])
+        : monthNames;
+    const values = monthlyBreakdown
+        ? monthlyBreakdown.map(point => point.earnings)
+        : [8500, 9200, 7800, 11000, 9500, 12500, 13800, 12000, 14500, 13200, 15800, 14200];
+    
     const chartData = {
-        labels: ['Jan', 'Feb', 'Mar', 'Apr', 'May', 'Jun', 'Jul', 'Aug', 'Sep', 'Oct', 'Nov', 'Dec'],
+        labels: labels,
         datasets: [{
             label: 'Monthly Earnings (₹)',
-            data: [8500, 9200, 7800, 11000, 9500, 12500, 13800, 12000, 14500, 13200, 15800, 14200],
+            data: values,
             backgroundColor: 'rgba(37, 99, 235, 0.2)',
             borderColor: 'rgba(37, 99, 235, 1)',
             borderWidth: 2,
@@ -161,5 +170,6 @@ function formatDate(dateString) {
 function logout() {
     localStorage.removeItem('userEmail');
     localStorage.removeItem('userRole');
+    localStorage.removeItem('sessionToken');
     window.location.href = 'index.html';
 }
\ No newline at end of file
@@ -10,10 +10,18 @@ document.addEventListener('DOMContentLoaded', function() {
 
     setupTabs();
     loadWorkerJobs();
+    loadOffers();
     loadPendingJobs();
+    subscribeToPendingJobs();
     setupModal();
 });
 
+// Pending jobs currently on screen, kept in sync by the server-sent event feed
+let pendingJobsCache = [];
+
+// Ids of pending jobs the dispatcher offered to this worker; shown first and flagged
+let offeredJobIds = new Set();
+
 function setupTabs() {
     const tabBtns = document.querySelectorAll('.tab-btn');
     const tabContents = document.querySelectorAll('.tab-content');
@@ -60,12 +68,29 @@ function loadWorkerJobs() {
         });
 }
 
+function loadOffers() {
+    const workerEmail = localStorage.getItem('userEmail');
+    
+    fetch(`http://localhost:8081/api/bookings/worker/${workerEmail}/offers`)
+        .then(response => response.json())
+        .then(data => {
+            if (data.status === 'SUCCESS') {
+                offeredJobIds = new Set(data.bookings.map(job => job.id));
+                displayPendingJobs(pendingJobsCache);
+            }
+        })
+        .catch(error => {
+            console.error('Error loading offers:', error);
+        });
+}
+
 function loadPendingJobs() {
     fetch('http://localhost:8081/api/bookings/pending')
         .then(response => response.json())
         .then(data => {
             if (data.status === 'SUCCESS') {
-                displayPendingJobs(data.bookings || []);
+                pendingJobsCache = data.bookings || [];
+                displayPendingJobs(pendingJobsCache);
             }
         })
         .catch(error => {
@@ -73,6 +98,49 @@ function loadPendingJobs() {
         });
 }
 
+// Live updates instead of re-fetching the whole pending list
+function subscribeToPendingJobs() {
+    const feed = new EventSource('http://localhost:8081/api/bookings/pending/stream');
+    
+    feed.addEventListener('booking-created', event => {
+        const job = JSON.parse(event.data);
+        pendingJobsCache = [job, ...pendingJobsCache.filter(j => j.id !== job.id)];
+        displayPendingJobs(pendingJobsCache);
+    });
+    
+    const removeJob = event => {
+        const { id } = JSON.parse(event.data);
+        pendingJobsCache = pendingJobsCache.filter(j => j.id !== id);
+        displayPendingJobs(pendingJobsCache);
+    };
+    feed.addEventListener('booking-claimed', removeJob);
+    feed.addEventListener('booking-closed', removeJob);
+    
+    feed.addEventListener('booking-offered', event => {
+        const { id, workers } = JSON.parse(event.data);
+        if (workers.includes(localStorage.getItem('userEmail').toLowerCase())) {
+            offeredJobIds.add(id);
+            displayPendingJobs(pendingJobsCache);
+        }
+    });
+    
+    // The server dropped events under load; reload the lists
+    feed.addEventListener('resync', () => {
+        loadOffers();
+        loadPendingJobs();
+    });
+    
+    // EventSource reconnects by itself; re-sync on reconnect in case events were missed
+    let connectedBefore = false;
+    feed.addEventListener('open', () => {
+        if (connectedBefore) {
+            loadOffers();
+            loadPendingJobs();
+        }
+        connectedBefore = true;
+    });
+}
+
 function loadCompletedJobs() {
     const workerEmail = localStorage.getItem('userEmail');
     
@@ -128,19 +196,23 @@ function displayPendingJobs(jobs) {
         return;
     }
 
-    container.innerHTML = jobs.map(job => `
-        <div class="job-item" data-id="${job.id}">
+    // Jobs offered to this worker first, otherwise newest first as the server sends them
+    const ordered = [...jobs.filter(job => offeredJobIds.has(job.id)),
+                     ...jobs.filter(job => !offeredJobIds.has(job.id))];
+
+    container.innerHTML = ordered.map(job => `
+        <div class="job-item${offeredJobIds.has(job.id) ? ' offered' : ''}" data-id="${job.id}">
             <div class="job-info">
                 <div class="job-header">
                     <h4>${job.serviceType}</h4>
+                    ${offeredJobIds.has(job.id) ? '<span class="job-status status-accepted">Offered to you</span>' : ''}
                     <span class="job-price">₹${calculateJobPrice(job.serviceType)}</span>
                 </div>
                 <div class="job-details">
                     <p><strong>Customer:</strong> ${job.customerName}</p>
-                    <p><strong>Phone:</strong> ${job.customerPhone}</p>
                     <p><strong>Date:</strong> ${formatDate(job.serviceDate)}</p>
                     <p><strong>Time:</strong> ${job.serviceTime}</p>
-                    <p><strong>Address:</strong> ${job.serviceAddress}</p>
+                    <p><em>Address and phone are shown once you accept</em></p>
                 </div>
                 <div class="job-meta">
                     <span>Requested: ${formatDateTime(job.createdAt)}</span>
@@ -205,6 +277,7 @@ function acceptJob(jobId) {
             loadWorkerJobs();
         } else {
             alert('Failed to accept job: ' + data.message);
+            loadPendingJobs();
         }
     })
     .catch(error => {
@@ -414,5 +487,6 @@ function formatDateTime(dateTimeString) {
 function logout() {
     localStorage.removeItem('userEmail');
     localStorage.removeItem('userRole');
+    localStorage.removeItem('sessionToken');
     window.location.href = 'index.html';
 }
\ No newline at end of file
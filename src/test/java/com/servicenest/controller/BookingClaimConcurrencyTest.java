@@ -0,0 +1,201 @@
+package com.servicenest.controller;
+
+import com.servicenest.model.Booking;
+import com.servicenest.repository.BookingRepository;
+import com.servicenest.service.SessionTokens;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Many workers claiming the same pending booking at once over HTTP, and claims racing status changes:
+ * exactly one claim wins, and no status change overwrites a winning claim's worker. Also who may claim,
+ * complete, change or read a booking.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BookingClaimConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final String CUSTOMER = "race@test.com";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private SessionTokens sessionTokens;
+
+    // HttpURLConnection can't read a 401 answering a request with a body
+    @BeforeEach
+    void useJdkHttpClient() {
+        rest.getRestTemplate().setRequestFactory(new JdkClientHttpRequestFactory());
+    }
+
+    @Test
+    void exactlyOneOfManyRacingWorkersClaimsABooking() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            Long id = pendingBooking(round);
+
+            List<Callable<ResponseEntity<String>>> claims = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                String worker = "worker" + round + "-" + t + "@test.com";
+                claims.add(() -> put(worker, "WORKER", "/api/bookings/" + id + "/assign-worker", Map.of()));
+            }
+            List<ResponseEntity<String>> responses = race(claims);
+
+            long won = responses.stream().filter(r -> r.getStatusCode() == HttpStatus.OK).count();
+            long lost = responses.stream().filter(r -> r.getStatusCode() == HttpStatus.CONFLICT).count();
+            assertEquals(1, won, "claims won in round " + round);
+            assertEquals(THREADS - 1, lost, "claims refused in round " + round);
+
+            Booking booking = bookingRepository.findById(id).orElseThrow();
+            assertEquals("accepted", booking.getStatus());
+            assertNotNull(booking.getAssignedWorker());
+        }
+    }
+
+    @Test
+    void statusChangesNeverOverwriteAWinningClaim() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            Long id = pendingBooking(100 + round);
+            String worker = "racer" + round + "@test.com";
+
+            List<ResponseEntity<String>> responses = race(List.of(
+                    () -> put(worker, "WORKER", "/api/bookings/" + id + "/status", Map.of("status", "accepted")),
+                    () -> put(CUSTOMER, "CUSTOMER", "/api/bookings/" + id + "/status", Map.of("status", "cancelled"))));
+
+            Booking booking = bookingRepository.findById(id).orElseThrow();
+            if (responses.get(0).getStatusCode() == HttpStatus.OK) {
+                assertEquals(worker, booking.getAssignedWorker(), "winning claim's worker in round " + round);
+            } else {
+                assertEquals("cancelled", booking.getStatus());
+            }
+            assertTrue(!"accepted".equals(booking.getStatus()) || booking.getAssignedWorker() != null,
+                    "accepted without a worker in round " + round);
+        }
+    }
+
+    @Test
+    void onlyAWorkerSessionCanAcceptAndOnlyForItself() {
+        Long id = pendingBooking(1000);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, put(null, null, "/api/bookings/" + id + "/status",
+                Map.of("status", "accepted", "workerEmail", "someone@test.com")).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, put(CUSTOMER, "CUSTOMER", "/api/bookings/" + id + "/status",
+                Map.of("status", "accepted")).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, put("mallory@test.com", "WORKER", "/api/bookings/" + id + "/assign-worker",
+                Map.of("workerEmail", "someone@test.com")).getStatusCode());
+
+        Booking booking = bookingRepository.findById(id).orElseThrow();
+        assertEquals("pending", booking.getStatus());
+        assertNull(booking.getAssignedWorker());
+    }
+
+    @Test
+    void onlyTheAssignedWorkerCompletesAndOnlyPartiesSeeContactDetails() {
+        Long id = pendingBooking(1001);
+        String path = "/api/bookings/" + id;
+        assertEquals(HttpStatus.OK, put("holder@test.com", "WORKER", path + "/assign-worker", Map.of()).getStatusCode());
+
+        assertEquals(HttpStatus.FORBIDDEN, put("other@test.com", "WORKER", path + "/status",
+                Map.of("status", "completed")).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, put(CUSTOMER, "CUSTOMER", path + "/status",
+                Map.of("status", "completed")).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, put("other@test.com", "WORKER", path + "/status",
+                Map.of("status", "cancelled")).getStatusCode());
+        assertEquals("accepted", bookingRepository.findById(id).orElseThrow().getStatus());
+
+        assertEquals(HttpStatus.FORBIDDEN, get("other@test.com", "WORKER", path).getStatusCode());
+        assertTrue(get(CUSTOMER, "CUSTOMER", path).getBody().contains("5550000000"));
+
+        assertEquals(HttpStatus.OK, put("Holder@Test.com", "WORKER", path + "/status",
+                Map.of("status", "completed")).getStatusCode());
+        assertEquals("completed", bookingRepository.findById(id).orElseThrow().getStatus());
+    }
+
+    @Test
+    void otherWorkersSeeAnOpenJobWithoutContactDetails() {
+        Long id = pendingBooking(1002);
+
+        ResponseEntity<String> response = get("browser@test.com", "WORKER", "/api/bookings/" + id);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(!response.getBody().contains("5550000000") && !response.getBody().contains("1 Test Street"));
+        assertEquals(HttpStatus.UNAUTHORIZED, get(null, null, "/api/bookings/" + id).getStatusCode());
+    }
+
+    // A pending booking in its own hour, so claims in different rounds never overlap in a worker's schedule
+    private Long pendingBooking(int slot) {
+        LocalDateTime start = LocalDateTime.now().plusDays(30).withMinute(0).withSecond(0).withNano(0).plusHours(slot);
+        Booking booking = new Booking("Plumbing", "Race Test", CUSTOMER, "5550000000",
+                start, start.plusHours(1), "1 Test Street");
+        booking.setStatus("pending");
+        booking.setPrice(50.0);
+        return bookingRepository.save(booking).getId();
+    }
+
+    private ResponseEntity<String> put(String email, String role, String path, Map<String, String> body) {
+        return rest.exchange(path, HttpMethod.PUT, new HttpEntity<>(body, session(email, role)), String.class);
+    }
+
+    private ResponseEntity<String> get(String email, String role, String path) {
+        return rest.exchange(path, HttpMethod.GET, new HttpEntity<>(session(email, role)), String.class);
+    }
+
+    // Headers carrying a session for the email, or none when it is null
+    private HttpHeaders session(String email, String role) {
+        HttpHeaders headers = new HttpHeaders();
+        if (email != null) {
+            headers.setBearerAuth(sessionTokens.issue(email, role).getToken());
+        }
+        return headers;
+    }
+
+    // Runs the calls on their own threads, released together
+    private static <T> List<T> race(List<Callable<T>> calls) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(calls.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> call : calls) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
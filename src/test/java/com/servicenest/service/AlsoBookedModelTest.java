@@ -0,0 +1,71 @@
+package com.servicenest.service;
+
+import com.servicenest.model.Booking;
+import com.servicenest.model.ServiceCategoryTotals;
+import com.servicenest.repository.BookingRepository;
+import com.servicenest.repository.ServiceCategoryTotalsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The batch job's checkpoint against bookings whose ids don't follow commit order.
+ */
+@SpringBootTest
+class AlsoBookedModelTest {
+
+    @Autowired
+    private AlsoBookedModel alsoBookedModel;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ServiceCategoryTotalsRepository totalsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void aBookingCommittingAfterAHigherIdIsStillCounted() {
+        alsoBookedModel.update();
+        long before = paintingBookings();
+
+        // The lower id is still committing (created just now); the higher one settled long ago
+        Long late = save("late@test.com");
+        Long early = save("early@test.com");
+        backdate(early, LocalDateTime.now().minusHours(1));
+
+        alsoBookedModel.update();
+        assertEquals(before + 1, paintingBookings(), "only the settled booking is counted");
+
+        backdate(late, LocalDateTime.now().minusMinutes(30));
+        alsoBookedModel.update();
+        assertEquals(before + 2, paintingBookings(), "the lower id is counted once it settles");
+
+        alsoBookedModel.update();
+        assertEquals(before + 2, paintingBookings(), "nothing is counted twice");
+    }
+
+    private Long save(String customerEmail) {
+        LocalDateTime start = LocalDateTime.now().plusDays(60).withNano(0);
+        Booking booking = new Booking("Painting", "Checkpoint Test", customerEmail, "5550000000",
+                start, start.plusHours(1), "1 Test Street");
+        booking.setStatus("pending");
+        booking.setPrice(100.0);
+        return bookingRepository.save(booking).getId();
+    }
+
+    private void backdate(Long id, LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE bookings SET created_at = ? WHERE id = ?", createdAt, id);
+    }
+
+    private long paintingBookings() {
+        return totalsRepository.findById(ServiceCategory.PAINTING.name()).map(ServiceCategoryTotals::getBookings).orElse(0L);
+    }
+}
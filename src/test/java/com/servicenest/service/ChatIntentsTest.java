@@ -0,0 +1,105 @@
+package com.servicenest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The compiled automaton against scanning the message for every keyword separately.
+ */
+class ChatIntentsTest {
+
+    @Test
+    void shippedIntents() throws IOException {
+        ChatIntents intents;
+        try (InputStream in = getClass().getResourceAsStream("/chat-intents.json")) {
+            intents = ChatIntents.load(in);
+        }
+
+        assertEquals("plumbing", intents.intentOf("My kitchen PIPE has a leak"));
+        assertEquals("electrical", intents.intentOf("Power cut, maybe a fuse? Water heater is fine"), "two keywords beat one");
+        assertEquals("plumbing", intents.intentOf("water and power"), "earlier intent wins a tie");
+        assertEquals("pricing", intents.intentOf("How much would it cost?"));
+        assertNull(intents.intentOf("this is unpowered"), "keywords only count at the start of a word");
+        assertEquals("greeting", intents.intentOf("hi"));
+        assertNull(intents.intentOf("ship it"));
+        assertTrue(intents.reply("fix my roof").contains("\"fix my roof\""), "fallback quotes the message");
+    }
+
+    @Test
+    void randomMessagesMatchAKeywordByKeywordScan() {
+        Random random = new Random(3);
+        // A small alphabet so keywords overlap, nest and share suffixes
+        String letters = "abcé";
+        for (int round = 0; round < 200; round++) {
+            List<ChatIntents.Intent> intents = new ArrayList<>();
+            int intentCount = 1 + random.nextInt(6);
+            for (int i = 0; i < intentCount; i++) {
+                Set<String> keywords = new LinkedHashSet<>();
+                for (int k = 1 + random.nextInt(4); k > 0; k--) {
+                    keywords.add(word(random, letters, 1 + random.nextInt(4)));
+                }
+                intents.add(new ChatIntents.Intent("intent" + i, List.copyOf(keywords), "reply" + i));
+            }
+            ChatIntents compiled = ChatIntents.compile(intents, "no match: {message}");
+
+            for (int m = 0; m < 200; m++) {
+                StringBuilder message = new StringBuilder();
+                for (int length = random.nextInt(30); length > 0; length--) {
+                    int kind = random.nextInt(10);
+                    char c = letters.charAt(random.nextInt(letters.length()));
+                    message.append(kind < 6 ? c : kind < 8 ? Character.toUpperCase(c) : kind < 9 ? ' ' : "-1x".charAt(random.nextInt(3)));
+                }
+                String text = message.toString();
+                int expected = expected(intents, text);
+                assertEquals(expected >= 0 ? "intent" + expected : null, compiled.intentOf(text),
+                        "round " + round + ": \"" + text + "\" against " + intents);
+                assertEquals(expected >= 0 ? "reply" + expected : "no match: " + text, compiled.reply(text));
+            }
+        }
+    }
+
+    // Distinct keywords of each intent found at a word start; most wins, the earlier intent on a tie
+    private static int expected(List<ChatIntents.Intent> intents, String message) {
+        StringBuilder lower = new StringBuilder(message.length());
+        for (char c : message.toCharArray()) {
+            lower.append(Character.toLowerCase(c));
+        }
+        int best = -1;
+        int bestScore = 0;
+        for (int i = 0; i < intents.size(); i++) {
+            Set<String> found = new LinkedHashSet<>();
+            for (String keyword : intents.get(i).keywords()) {
+                for (int at = lower.indexOf(keyword); at >= 0; at = lower.indexOf(keyword, at + 1)) {
+                    if (at == 0 || !Character.isLetterOrDigit(message.charAt(at - 1))) {
+                        found.add(keyword);
+                        break;
+                    }
+                }
+            }
+            if (found.size() > bestScore) {
+                best = i;
+                bestScore = found.size();
+            }
+        }
+        return best;
+    }
+
+    private static String word(Random random, String letters, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append(letters.charAt(random.nextInt(letters.length())));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package com.servicenest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The interval tree against a brute-force scan of the same intervals.
+ */
+class IntervalTreeTest {
+
+    @Test
+    void randomAddsRemovesAndProbesMatchABruteForceScan() {
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        Map<Long, long[]> held = new HashMap<>();
+
+        for (int step = 0; step < 50_000; step++) {
+            long id = random.nextInt(300);
+            int op = random.nextInt(10);
+            if (op < 4) {
+                // Short and long intervals, many sharing a start so ties fall back to the id
+                long start = random.nextInt(2000);
+                long end = start + 1 + (random.nextInt(8) == 0 ? random.nextInt(500) : random.nextInt(30));
+                tree.add(id, start, end);
+                held.put(id, new long[]{start, end});
+            } else if (op < 6) {
+                assertEquals(held.remove(id) != null, tree.remove(id), "remove " + id);
+            } else {
+                long start = random.nextInt(2100) - 50;
+                long end = start + 1 + random.nextInt(60);
+                long ignoreId = random.nextBoolean() ? id : Long.MIN_VALUE;
+                assertEquals(overlaps(held, start, end, ignoreId), tree.overlaps(start, end, ignoreId),
+                        "step " + step + ": [" + start + ", " + end + ") ignoring " + ignoreId);
+            }
+            assertEquals(held.size(), tree.size());
+            assertEquals(held.containsKey(id), tree.contains(id));
+        }
+    }
+
+    @Test
+    void sortedInsertsAndDeletesKeepProbesExact() {
+        // Ascending then descending starts force rotations on both sides; deleting every third interval
+        // removes inner nodes with two children
+        IntervalTree tree = new IntervalTree();
+        Map<Long, long[]> held = new HashMap<>();
+        for (long id = 0; id < 1000; id++) {
+            long start = id < 500 ? id * 10 : (1000 - id) * 10 + 5;
+            long end = start + (id % 7 == 0 ? 200 : 3);
+            tree.add(id, start, end);
+            held.put(id, new long[]{start, end});
+        }
+        for (long id = 0; id < 1000; id += 3) {
+            assertTrue(tree.remove(id));
+            held.remove(id);
+        }
+        for (long start = -10; start < 5100; start += 1) {
+            assertEquals(overlaps(held, start, start + 2, Long.MIN_VALUE), tree.overlaps(start, start + 2, Long.MIN_VALUE),
+                    "[" + start + ", " + (start + 2) + ")");
+        }
+    }
+
+    @Test
+    void backToBackIntervalsDoNotOverlap() {
+        IntervalTree tree = new IntervalTree();
+        tree.add(1, 100, 200);
+
+        assertFalse(tree.overlaps(200, 300, Long.MIN_VALUE), "[b, c) after [a, b)");
+        assertFalse(tree.overlaps(0, 100, Long.MIN_VALUE), "[x, a) before [a, b)");
+        assertTrue(tree.overlaps(199, 300, Long.MIN_VALUE));
+        assertTrue(tree.overlaps(0, 101, Long.MIN_VALUE));
+        assertFalse(tree.overlaps(150, 160, 1), "an interval never overlaps itself");
+
+        tree.add(2, 200, 300);
+        assertTrue(tree.overlaps(150, 250, Long.MIN_VALUE));
+        assertFalse(tree.overlaps(300, 400, Long.MIN_VALUE));
+    }
+
+    private static boolean overlaps(Map<Long, long[]> held, long start, long end, long ignoreId) {
+        for (Map.Entry<Long, long[]> interval : held.entrySet()) {
+            if (interval.getKey() != ignoreId && interval.getValue()[0] < end && start < interval.getValue()[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,154 @@
+package com.servicenest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Neighbor slots and suggestions against scoring every pair of categories directly.
+ */
+class ServiceNeighborsTest {
+
+    private static final int N = ServiceCategory.count();
+    private static final int PLUMBING = ServiceCategory.PLUMBING.ordinal();
+    private static final int ELECTRICAL = ServiceCategory.ELECTRICAL.ordinal();
+    private static final int AC = ServiceCategory.AC.ordinal();
+    private static final int CLEANING = ServiceCategory.CLEANING.ordinal();
+    private static final int OTHER = ServiceCategory.OTHER.ordinal();
+
+    @Test
+    void suggestsUnbookedNeighborsByCosineScore() {
+        long[] customers = new long[N];
+        long[][] together = new long[N][N];
+        customers[PLUMBING] = 100;
+        customers[ELECTRICAL] = 25;
+        customers[AC] = 64;
+        customers[CLEANING] = 16;
+        customers[OTHER] = 100;
+        together[PLUMBING][ELECTRICAL] = 10;   // 10 / sqrt(100 * 25) = 0.2
+        together[AC][PLUMBING] = 40;           // 40 / sqrt(100 * 64) = 0.5, stored the other way round
+        together[PLUMBING][OTHER] = 90;        // never suggested
+        together[ELECTRICAL][CLEANING] = 10;   // 10 / sqrt(25 * 16) = 0.5
+        ServiceNeighbors neighbors = ServiceNeighbors.of(customers, together, new double[N], new double[N], 2);
+
+        List<ServiceNeighbors.Suggestion> suggestions = neighbors.suggest(features("Plumbing"), 5);
+        assertEquals(List.of(ServiceCategory.AC, ServiceCategory.ELECTRICAL), categories(suggestions));
+        assertEquals(0.5, suggestions.get(0).score(), 1e-6);
+        assertEquals(0.2, suggestions.get(1).score(), 1e-6);
+
+        // Plumbing scores 0.5 via AC plus 0.2 via electrical, credited to AC; cleaning 0.5 via electrical
+        suggestions = neighbors.suggest(features("Electrical", "AC Repair"), 5);
+        assertEquals(List.of(ServiceCategory.PLUMBING, ServiceCategory.CLEANING), categories(suggestions));
+        assertEquals(0.7, suggestions.get(0).score(), 1e-6);
+        assertEquals(ServiceCategory.AC, suggestions.get(0).because());
+        assertEquals(0.5, suggestions.get(1).score(), 1e-6);
+        assertEquals(ServiceCategory.ELECTRICAL, suggestions.get(1).because());
+
+        assertEquals(List.of(), neighbors.suggest(BookingFeatures.EMPTY, 5));
+    }
+
+    @Test
+    void randomModelsMatchScoringEveryPair() {
+        Random random = new Random(9);
+        for (int round = 0; round < 2000; round++) {
+            long[] customers = new long[N];
+            long[][] together = new long[N][N];
+            for (int c = 0; c < N; c++) {
+                customers[c] = 1 + random.nextInt(50);
+            }
+            for (int c = 0; c < N; c++) {
+                for (int other = 0; other < N; other++) {
+                    if (c != other && random.nextInt(3) > 0) {
+                        // Coarse counts so equal scores, and the tie order, come up
+                        together[c][other] = random.nextInt((int) Math.min(customers[c], customers[other]) + 1);
+                    }
+                }
+            }
+            int k = random.nextInt(N);
+            ServiceNeighbors neighbors = ServiceNeighbors.of(customers, together, new double[N], new double[N], k);
+
+            boolean[] booked = new boolean[N];
+            List<String> serviceTypes = new ArrayList<>();
+            for (int c = 0; c < N; c++) {
+                if (random.nextInt(3) == 0) {
+                    booked[c] = true;
+                    serviceTypes.add(ServiceCategory.ofOrdinal(c).getLabel());
+                }
+            }
+            int limit = 1 + random.nextInt(N);
+
+            List<ServiceNeighbors.Suggestion> expected = expected(customers, together, k, booked, limit);
+            List<ServiceNeighbors.Suggestion> actual = neighbors.suggest(features(serviceTypes.toArray(String[]::new)), limit);
+            assertEquals(categories(expected), categories(actual), "round " + round);
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).because(), actual.get(i).because(), "round " + round);
+                assertEquals(expected.get(i).score(), actual.get(i).score(), 1e-5, "round " + round);
+            }
+        }
+    }
+
+    // Each booked category's k best-scoring unbooked neighbors (lower ordinal first on equal scores) add
+    // their score to that neighbor, which is credited to the booked category it scores highest with
+    private static List<ServiceNeighbors.Suggestion> expected(long[] customers, long[][] together, int k,
+                                                             boolean[] booked, int limit) {
+        // Summed in float in the same order as the model, so equal totals tie exactly
+        float[] total = new float[N];
+        float[] strongest = new float[N];
+        int[] because = new int[N];
+        for (int c = 0; c < N; c++) {
+            if (!booked[c]) {
+                continue;
+            }
+            List<int[]> scored = new ArrayList<>();
+            float[] scores = new float[N];
+            for (int other = 0; other < N; other++) {
+                long both = Math.max(together[c][other], together[other][c]);
+                if (other != c && other != OTHER && both > 0) {
+                    scores[other] = (float) (both / Math.sqrt((double) customers[c] * customers[other]));
+                    scored.add(new int[]{other});
+                }
+            }
+            scored.sort(Comparator.comparingDouble((int[] other) -> -scores[other[0]]).thenComparingInt(other -> other[0]));
+            for (int[] neighbor : scored.subList(0, Math.min(k, scored.size()))) {
+                int other = neighbor[0];
+                if (booked[other]) {
+                    continue;
+                }
+                total[other] += scores[other];
+                if (scores[other] > strongest[other]) {
+                    strongest[other] = scores[other];
+                    because[other] = c;
+                }
+            }
+        }
+
+        List<ServiceNeighbors.Suggestion> suggestions = new ArrayList<>();
+        for (int c = 0; c < N; c++) {
+            if (total[c] > 0) {
+                suggestions.add(new ServiceNeighbors.Suggestion(ServiceCategory.ofOrdinal(c),
+                        ServiceCategory.ofOrdinal(because[c]), total[c]));
+            }
+        }
+        suggestions.sort(Comparator.comparingDouble(ServiceNeighbors.Suggestion::score).reversed()
+                .thenComparing(ServiceNeighbors.Suggestion::category));
+        return suggestions.subList(0, Math.min(limit, suggestions.size()));
+    }
+
+    private static BookingFeatures features(String... serviceTypes) {
+        BookingFeatures.Builder builder = new BookingFeatures.Builder();
+        for (String serviceType : serviceTypes) {
+            builder.add(serviceType, 1, 100.0, LocalDateTime.of(2030, 1, 1, 9, 0));
+        }
+        return builder.build();
+    }
+
+    private static List<ServiceCategory> categories(List<ServiceNeighbors.Suggestion> suggestions) {
+        return suggestions.stream().map(ServiceNeighbors.Suggestion::category).toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.servicenest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The per-minute rings against counting a log of every booking in the window.
+ */
+class TrendingServicesTest {
+
+    private static final long MINUTE = 60_000;
+    private static final String[] AREAS = {"Pune", "Delhi", null};
+
+    @Test
+    void countsPricesAndFallsBackToEverywhere() {
+        TrendingServices trending = new TrendingServices(Duration.ofMinutes(60));
+        trending.record(ServiceCategory.PLUMBING, "Pune", 100, 0);
+        trending.record(ServiceCategory.PLUMBING, " pune ", 300, MINUTE);
+        trending.record(ServiceCategory.CLEANING, "Pune", 50, 2 * MINUTE);
+        trending.record(ServiceCategory.OTHER, "Pune", 10, 2 * MINUTE);
+        trending.record(ServiceCategory.OTHER, "Pune", 10, 2 * MINUTE);
+        trending.record(ServiceCategory.PAINTING, "Delhi", 80, 3 * MINUTE);
+
+        List<TrendingServices.Trend> pune = trending.top("PUNE", 5, 3 * MINUTE);
+        assertEquals(List.of(ServiceCategory.PLUMBING, ServiceCategory.CLEANING), categories(pune), "OTHER is never trending");
+        assertEquals("Pune", pune.get(0).area());
+        assertEquals(2, pune.get(0).bookings());
+        assertEquals(200.0, pune.get(0).averagePrice(), 1e-9);
+
+        List<TrendingServices.Trend> nowhere = trending.top("Chennai", 1, 3 * MINUTE);
+        assertEquals(List.of(ServiceCategory.PLUMBING), categories(nowhere));
+        assertNull(nowhere.get(0).area());
+        assertEquals(categories(nowhere), categories(trending.top(null, 1, 3 * MINUTE)));
+    }
+
+    @Test
+    void bookingsLeaveTheWindowAndBucketsAreReused() {
+        TrendingServices trending = new TrendingServices(Duration.ofMinutes(60));
+        trending.record(ServiceCategory.AC, "Pune", 100, 0);
+
+        assertEquals(1, trending.top("Pune", 1, 60 * MINUTE - 1).get(0).bookings());
+        assertEquals(List.of(), trending.top("Pune", 1, 60 * MINUTE), "a minute past the window");
+
+        // Same bucket of the ring, an hour later
+        trending.record(ServiceCategory.AC, "Pune", 40, 60 * MINUTE);
+        TrendingServices.Trend ac = trending.top("Pune", 1, 60 * MINUTE).get(0);
+        assertEquals(1, ac.bookings());
+        assertEquals(40.0, ac.averagePrice(), 1e-9);
+    }
+
+    @Test
+    void randomBookingsMatchALogOfTheWindow() {
+        Random random = new Random(5);
+        int window = 15;
+        TrendingServices trending = new TrendingServices(Duration.ofMinutes(window));
+        List<Booked> log = new ArrayList<>();
+        long now = 0;
+
+        for (int step = 0; step < 20_000; step++) {
+            // Mostly within the same minute, sometimes skipping whole windows
+            now += random.nextInt(20) == 0 ? random.nextInt(3 * window) * MINUTE : random.nextInt(5_000);
+            if (random.nextInt(4) > 0) {
+                ServiceCategory category = ServiceCategory.ofOrdinal(random.nextInt(ServiceCategory.count()));
+                String area = AREAS[random.nextInt(AREAS.length)];
+                double price = 10 * random.nextInt(50);
+                trending.record(category, area, price, now);
+                log.add(new Booked(category, area, price, now / MINUTE));
+            } else {
+                String area = AREAS[random.nextInt(AREAS.length)];
+                int limit = 1 + random.nextInt(ServiceCategory.count());
+                List<TrendingServices.Trend> expected = expected(log, area, now / MINUTE - window, limit);
+                if (expected.isEmpty()) {
+                    expected = expected(log, null, now / MINUTE - window, limit);
+                }
+                List<TrendingServices.Trend> actual = trending.top(area, limit, now);
+                assertEquals(categories(expected), categories(actual), "step " + step + " in " + area);
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i).bookings(), actual.get(i).bookings());
+                    assertEquals(expected.get(i).averagePrice(), actual.get(i).averagePrice(), 1e-6);
+                }
+            }
+        }
+    }
+
+    // Bookings after the given minute in the area (every area for null), most first, lower ordinal on ties
+    private static List<TrendingServices.Trend> expected(List<Booked> log, String area, long after, int limit) {
+        long[] counts = new long[ServiceCategory.count()];
+        double[] prices = new double[ServiceCategory.count()];
+        for (Booked booked : log) {
+            if (booked.minute() > after && booked.category() != ServiceCategory.OTHER
+                    && (area == null || area.equals(booked.area()))) {
+                counts[booked.category().ordinal()]++;
+                prices[booked.category().ordinal()] += booked.price();
+            }
+        }
+        List<TrendingServices.Trend> trends = new ArrayList<>();
+        for (int c = 0; c < counts.length; c++) {
+            if (counts[c] > 0) {
+                trends.add(new TrendingServices.Trend(ServiceCategory.ofOrdinal(c), area, counts[c], prices[c] / counts[c]));
+            }
+        }
+        trends.sort(Comparator.comparingLong(TrendingServices.Trend::bookings).reversed()
+                .thenComparing(TrendingServices.Trend::category));
+        return trends.subList(0, Math.min(limit, trends.size()));
+    }
+
+    private static List<ServiceCategory> categories(List<TrendingServices.Trend> trends) {
+        return trends.stream().map(TrendingServices.Trend::category).toList();
+    }
+
+    private record Booked(ServiceCategory category, String area, double price, long minute) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.servicenest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reserving and probing slots against a brute-force list of each worker's jobs, with the default
+ * weekday hours (9:00 to 18:00).
+ */
+class WorkerScheduleTest {
+
+    // A Monday
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 7);
+
+    @Test
+    void randomReservationsMatchABruteForceList() {
+        Random random = new Random(7);
+        WorkerSchedule schedule = new WorkerSchedule();
+        String[] workers = {"a@test.com", "b@test.com", "c@test.com"};
+        Map<String, Map<Long, int[]>> jobs = new HashMap<>();
+        for (String worker : workers) {
+            jobs.put(worker, new HashMap<>());
+        }
+
+        for (int step = 0; step < 20_000; step++) {
+            String worker = workers[random.nextInt(workers.length)];
+            // Same worker, different spelling
+            String asGiven = random.nextBoolean() ? worker : " " + worker.toUpperCase();
+            Map<Long, int[]> held = jobs.get(worker);
+            long bookingId = random.nextInt(60);
+            int start = 8 * 60 + 15 * random.nextInt(44);
+            int end = start + 15 * (1 + random.nextInt(8));
+
+            int op = random.nextInt(10);
+            if (op < 4) {
+                boolean free = !overlaps(held, start, end, bookingId);
+                assertEquals(free, schedule.reserve(asGiven, bookingId, at(start), at(end)),
+                        "step " + step + ": reserve " + bookingId + " " + start + "-" + end);
+                if (free) {
+                    // Rebooking a job moves it
+                    held.put(bookingId, new int[]{start, end});
+                }
+            } else if (op < 6) {
+                schedule.release(asGiven, bookingId);
+                held.remove(bookingId);
+            } else {
+                boolean free = start >= 9 * 60 && end <= 18 * 60 && !overlaps(held, start, end, Long.MIN_VALUE);
+                assertEquals(free, schedule.isFree(asGiven, at(start), at(end)),
+                        "step " + step + ": isFree " + start + "-" + end);
+            }
+            assertEquals(held.size(), schedule.activeJobs(asGiven));
+        }
+    }
+
+    @Test
+    void backToBackJobsFit() {
+        WorkerSchedule schedule = new WorkerSchedule();
+        String worker = "pat@test.com";
+
+        assertTrue(schedule.reserve(worker, 1L, at(9 * 60), at(10 * 60)));
+        assertTrue(schedule.reserve(worker, 2L, at(10 * 60), at(11 * 60)), "[10:00, 11:00) right after [9:00, 10:00)");
+        assertTrue(schedule.reserve(worker, 3L, at(8 * 60), at(9 * 60)), "[8:00, 9:00) right before");
+        assertFalse(schedule.reserve(worker, 4L, at(9 * 60 + 30), at(10 * 60 + 30)));
+
+        assertTrue(schedule.isFree(worker, at(11 * 60), at(12 * 60)));
+        assertFalse(schedule.isFree(worker, at(10 * 60 + 59), at(12 * 60)));
+        assertFalse(schedule.isFree(worker, at(17 * 60), at(18 * 60 + 1)), "past working hours");
+
+        schedule.release(worker, 2L);
+        assertTrue(schedule.isFree(worker, at(10 * 60), at(11 * 60)));
+    }
+
+    private static LocalDateTime at(int minuteOfDay) {
+        return DAY.atStartOfDay().plusMinutes(minuteOfDay);
+    }
+
+    private static boolean overlaps(Map<Long, int[]> held, int start, int end, long ignoreId) {
+        for (Map.Entry<Long, int[]> job : held.entrySet()) {
+            if (job.getKey() != ignoreId && job.getValue()[0] < end && start < job.getValue()[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,135 @@
+package com.servicenest.service;
+
+import com.servicenest.model.WorkerProfile;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Searches, rate-capped or not, against a brute-force filter and sort of every profile indexed.
+ */
+class WorkerSearchIndexTest {
+
+    private static final String[] SKILLS = {"Plumbing", "Electrical", "Cleaning", "Painting"};
+    private static final String[] AREAS = {"Pune", "Delhi", "Mumbai"};
+
+    private final Random random = new Random(11);
+    private final WorkerSearchIndex index = new WorkerSearchIndex();
+    private final Map<Long, WorkerProfile> profiles = new HashMap<>();
+    private final Map<Long, Double> ratings = new HashMap<>();
+
+    @Test
+    void rateCappedSearchesMatchABruteForceScan() {
+        for (long id = 1; id <= 3000; id++) {
+            WorkerProfile profile = new WorkerProfile();
+            profile.setId(id);
+            profile.setEmail("w" + id + "@test.com");
+            index(profile);
+        }
+        // Rating churn and profile edits move workers between rank positions and rate buckets
+        for (int i = 0; i < 10_000; i++) {
+            long id = 1 + random.nextInt(3000);
+            if (random.nextBoolean()) {
+                double rating = random.nextInt(50) / 10.0;
+                index.updateRating("W" + id + "@test.com", rating);
+                ratings.put(id, rating);
+            } else {
+                index(profiles.get(id));
+            }
+        }
+
+        for (int query = 0; query < 1000; query++) {
+            String skill = random.nextBoolean() ? pick(SKILLS) : null;
+            String area = random.nextBoolean() ? pick(AREAS) : null;
+            Double cap = random.nextInt(5) == 0 ? null : (double) (90 + random.nextInt(420));
+            int page = random.nextInt(4);
+            int size = 1 + random.nextInt(30);
+            String label = "query " + query + ": " + skill + " in " + area + " under " + cap;
+
+            List<Long> expected = expected(skill, area, cap, false);
+            WorkerSearchIndex.Result result = index.search(
+                    skill != null ? " " + skill.toUpperCase() : null, area, cap, page, size);
+            assertEquals(expected.size(), result.getTotalCount(), label);
+            assertEquals(page(expected, page, size), ids(result.getWorkers()), label);
+
+            Predicate<WorkerSearchIndex.Entry> filter = entry -> entry.getId() % 3 == 0;
+            List<Long> filtered = expected(skill, area, cap, true);
+            WorkerSearchIndex.Result filteredResult = index.search(skill, area, cap, filter, page, size);
+            assertEquals(filtered.size(), filteredResult.getTotalCount(), label + " (filtered)");
+            assertEquals(page(filtered, page, size), ids(filteredResult.getWorkers()), label + " (filtered)");
+
+            assertEquals(page(expected(skill, area, null, true), 0, size), ids(index.top(skill, area, filter, size)),
+                    label + " (top)");
+        }
+    }
+
+    @Test
+    void aCapBelowEveryRateFindsNobody() {
+        WorkerProfile profile = new WorkerProfile();
+        profile.setId(1L);
+        profile.setEmail("solo@test.com");
+        profile.setSkills("Plumbing");
+        profile.setServiceAreas("Pune");
+        profile.setHourlyRate(200.0);
+        index.index(profile);
+
+        assertEquals(0, index.search("Plumbing", "Pune", 199.99, 0, 10).getTotalCount());
+        assertEquals(List.of(1L), ids(index.search("Plumbing", "Pune", 200.0, 0, 10).getWorkers()));
+    }
+
+    private void index(WorkerProfile profile) {
+        profile.setSkills(subset(SKILLS));
+        profile.setServiceAreas(subset(AREAS));
+        profile.setHourlyRate((double) (100 + 10 * random.nextInt(40)));
+        index.index(profile);
+        profiles.put(profile.getId(), profile);
+    }
+
+    // Best rating first, then cheapest, then lowest id; everyThird mirrors the filter the searches pass
+    private List<Long> expected(String skill, String area, Double cap, boolean everyThird) {
+        List<WorkerProfile> matches = new ArrayList<>();
+        for (WorkerProfile profile : profiles.values()) {
+            if ((skill == null || WorkerSearchIndex.tokens(profile.getSkills()).contains(skill.toLowerCase()))
+                    && (area == null || WorkerSearchIndex.tokens(profile.getServiceAreas()).contains(area.toLowerCase()))
+                    && (cap == null || profile.getHourlyRate() <= cap)
+                    && (!everyThird || profile.getId() % 3 == 0)) {
+                matches.add(profile);
+            }
+        }
+        matches.sort(Comparator.comparingDouble((WorkerProfile profile) -> -ratings.getOrDefault(profile.getId(), 0.0))
+                .thenComparingDouble(WorkerProfile::getHourlyRate)
+                .thenComparingLong(WorkerProfile::getId));
+        return matches.stream().map(WorkerProfile::getId).toList();
+    }
+
+    private static List<Long> page(List<Long> ids, int page, int size) {
+        int from = Math.min(page * size, ids.size());
+        return ids.subList(from, Math.min(from + size, ids.size()));
+    }
+
+    private static List<Long> ids(List<WorkerSearchIndex.Entry> entries) {
+        return entries.stream().map(WorkerSearchIndex.Entry::getId).toList();
+    }
+
+    private String subset(String[] values) {
+        List<String> chosen = new ArrayList<>();
+        for (String value : values) {
+            if (random.nextInt(3) == 0) {
+                chosen.add(value);
+            }
+        }
+        return chosen.isEmpty() ? pick(values) : String.join(", ", chosen);
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}